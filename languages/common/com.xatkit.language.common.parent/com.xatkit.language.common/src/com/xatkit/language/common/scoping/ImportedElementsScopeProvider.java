@@ -0,0 +1,146 @@
+package com.xatkit.language.common.scoping;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.IResourceDescriptions;
+import org.eclipse.xtext.resource.IResourceServiceProvider;
+import org.eclipse.xtext.resource.impl.ResourceDescriptionsProvider;
+import org.eclipse.xtext.scoping.IScope;
+import org.eclipse.xtext.scoping.impl.SimpleScope;
+
+import com.google.common.collect.Iterables;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.xatkit.common.ImportDeclaration;
+import com.xatkit.utils.XatkitImportHelper;
+import com.xatkit.utils.XatkitMetrics;
+
+/**
+ * Computes the {@link IScope}s containing the elements imported by a Xatkit model.
+ * <p>
+ * The returned {@link IScope}s are built from the {@link IResourceDescription}s of the imported {@link Resource}s, as
+ * exported by the {@link XatkitResourceDescriptionStrategy}. The imports are resolved with
+ * {@link XatkitImportHelper#getImportURIs(ImportDeclaration)}, and their descriptions are retrieved from the
+ * {@link ResourceSet} if the imported {@link Resource} is already loaded, or from Xtext's index otherwise. This
+ * provider never loads the imported {@link Resource}s: imports that are neither loaded nor indexed are not part of the
+ * returned {@link IScope}s.
+ *
+ * @see XatkitResourceDescriptionStrategy
+ * @see XatkitQualifiedNameProvider
+ */
+@Singleton
+public class ImportedElementsScopeProvider {
+
+	/**
+	 * The name of the counter tracking the imports resolved from Xtext's index.
+	 *
+	 * @see XatkitMetrics
+	 */
+	public static final String INDEX_HIT_METRIC = "scoping.index.hit";
+
+	/**
+	 * The name of the counter tracking the imports that are neither loaded nor indexed.
+	 *
+	 * @see XatkitMetrics
+	 */
+	public static final String INDEX_MISS_METRIC = "scoping.index.miss";
+
+	@Inject
+	private ResourceDescriptionsProvider resourceDescriptionsProvider;
+
+	@Inject
+	private IResourceServiceProvider.Registry resourceServiceProviderRegistry;
+
+	/**
+	 * Returns the {@link IScope} containing the elements of the provided {@code type} imported by the given
+	 * {@code imports}.
+	 *
+	 * @param context the model element to compute the scope for
+	 * @param imports the {@link ImportDeclaration}s of the model
+	 * @param type    the {@link EClass} of the elements to include in the scope
+	 * @return the created {@link IScope}
+	 */
+	public IScope getScope(EObject context, Collection<? extends ImportDeclaration> imports, EClass type) {
+		return getScope(IScope.NULLSCOPE, context, imports, type);
+	}
+
+	/**
+	 * Returns the {@link IScope} containing the elements of the provided {@code type} imported by the given
+	 * {@code imports}, with the provided {@code parent} scope.
+	 *
+	 * @param parent  the parent {@link IScope} of the created scope
+	 * @param context the model element to compute the scope for
+	 * @param imports the {@link ImportDeclaration}s of the model
+	 * @param type    the {@link EClass} of the elements to include in the scope
+	 * @return the created {@link IScope}
+	 */
+	public IScope getScope(IScope parent, EObject context, Collection<? extends ImportDeclaration> imports,
+			EClass type) {
+		Resource resource = context.eResource();
+		if (isNull(resource) || isNull(resource.getResourceSet())) {
+			return parent;
+		}
+		IResourceDescriptions index = resourceDescriptionsProvider.getResourceDescriptions(resource);
+		List<IEObjectDescription> descriptions = new ArrayList<>();
+		for (ImportDeclaration importDeclaration : imports) {
+			IResourceDescription importDescription = getResourceDescription(importDeclaration,
+					resource.getResourceSet(), index);
+			if (nonNull(importDescription)) {
+				Iterables.addAll(descriptions, importDescription.getExportedObjectsByType(type));
+			}
+		}
+		return new SimpleScope(parent, descriptions);
+	}
+
+	/**
+	 * Returns the {@link IResourceDescription} of the {@link Resource} imported by the provided
+	 * {@code importDeclaration}.
+	 *
+	 * @param importDeclaration the {@link ImportDeclaration} to retrieve the description of
+	 * @param rSet              the {@link ResourceSet} containing the importing model
+	 * @param index             the {@link IResourceDescriptions} visible from the importing model
+	 * @return the {@link IResourceDescription}, or {@code null} if the imported {@link Resource} is neither loaded
+	 *         nor indexed
+	 */
+	private IResourceDescription getResourceDescription(ImportDeclaration importDeclaration, ResourceSet rSet,
+			IResourceDescriptions index) {
+		if (isNull(importDeclaration.getPath())) {
+			return null;
+		}
+		List<URI> importURIs = XatkitImportHelper.getInstance().getImportURIs(importDeclaration);
+		for (URI importURI : importURIs) {
+			Resource loadedResource = rSet.getResource(importURI, false);
+			if (nonNull(loadedResource) && loadedResource.isLoaded() && !loadedResource.getContents().isEmpty()) {
+				IResourceServiceProvider serviceProvider = resourceServiceProviderRegistry
+						.getResourceServiceProvider(loadedResource.getURI());
+				if (nonNull(serviceProvider)) {
+					return serviceProvider.getResourceDescriptionManager().getResourceDescription(loadedResource);
+				}
+			}
+		}
+		for (URI importURI : importURIs) {
+			IResourceDescription description = index.getResourceDescription(importURI);
+			if (isNull(description)) {
+				description = index.getResourceDescription(rSet.getURIConverter().normalize(importURI));
+			}
+			if (nonNull(description)) {
+				XatkitMetrics.getInstance().increment(INDEX_HIT_METRIC);
+				return description;
+			}
+		}
+		XatkitMetrics.getInstance().increment(INDEX_MISS_METRIC);
+		return null;
+	}
+}
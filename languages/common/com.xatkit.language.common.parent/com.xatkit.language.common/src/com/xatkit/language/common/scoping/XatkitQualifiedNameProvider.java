@@ -0,0 +1,74 @@
+package com.xatkit.language.common.scoping;
+
+import static java.util.Objects.isNull;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.naming.IQualifiedNameProvider;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.xbase.scoping.XbaseQualifiedNameProvider;
+
+import com.xatkit.intent.CustomEntityDefinition;
+import com.xatkit.intent.EventDefinition;
+import com.xatkit.intent.Library;
+import com.xatkit.platform.ActionDefinition;
+import com.xatkit.platform.EventProviderDefinition;
+import com.xatkit.platform.PlatformDefinition;
+
+/**
+ * The {@link IQualifiedNameProvider} of the Xatkit languages.
+ * <p>
+ * This provider computes the names used to export the platform and library elements in Xtext's index (see
+ * {@link XatkitResourceDescriptionStrategy}):
+ * <ul>
+ * <li>{@link PlatformDefinition}s and {@link Library} instances are named after their {@code name}</li>
+ * <li>{@link EventProviderDefinition}s and {@link ActionDefinition}s are qualified by the name of their
+ * {@link PlatformDefinition} (e.g. {@code Slack.SlackIntentProvider})</li>
+ * <li>{@link EventDefinition}s and {@link CustomEntityDefinition}s are qualified by the name of their container
+ * (e.g. {@code CoreLibrary.Greetings}, or {@code Slack.SlackIntentProvider.New_Message} for events defined in a
+ * provider)</li>
+ * </ul>
+ * Unlike the default provider, element names are never split: names containing dots are used as a single segment.
+ * Other elements are named by the {@link XbaseQualifiedNameProvider}.
+ */
+public class XatkitQualifiedNameProvider extends XbaseQualifiedNameProvider {
+
+	@Override
+	public QualifiedName getFullyQualifiedName(EObject obj) {
+		if (obj instanceof PlatformDefinition) {
+			return create(null, ((PlatformDefinition) obj).getName());
+		} else if (obj instanceof Library) {
+			return create(null, ((Library) obj).getName());
+		} else if (obj instanceof EventProviderDefinition) {
+			return create(obj.eContainer(), ((EventProviderDefinition) obj).getName());
+		} else if (obj instanceof ActionDefinition) {
+			return create(obj.eContainer(), ((ActionDefinition) obj).getName());
+		} else if (obj instanceof EventDefinition) {
+			return create(obj.eContainer(), ((EventDefinition) obj).getName());
+		} else if (obj instanceof CustomEntityDefinition) {
+			return create(obj.eContainer(), ((CustomEntityDefinition) obj).getName());
+		}
+		return super.getFullyQualifiedName(obj);
+	}
+
+	/**
+	 * Creates a {@link QualifiedName} appending the provided {@code name} to the qualified name of the given
+	 * {@code container}.
+	 *
+	 * @param container the container of the element to name (may be {@code null})
+	 * @param name      the name of the element
+	 * @return the created {@link QualifiedName}, or {@code null} if the element or its container cannot be named
+	 */
+	private QualifiedName create(EObject container, String name) {
+		if (isNull(name) || name.isEmpty()) {
+			return null;
+		}
+		if (isNull(container)) {
+			return QualifiedName.create(name);
+		}
+		QualifiedName containerName = getFullyQualifiedName(container);
+		if (isNull(containerName)) {
+			return null;
+		}
+		return containerName.append(name);
+	}
+}
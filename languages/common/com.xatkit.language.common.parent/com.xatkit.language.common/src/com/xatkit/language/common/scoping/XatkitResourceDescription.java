@@ -0,0 +1,132 @@
+package com.xatkit.language.common.scoping;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IReferenceDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+
+import com.google.common.collect.Iterables;
+import com.xatkit.common.ImportDeclaration;
+
+/**
+ * The {@link IResourceDescription} of the Xatkit files.
+ * <p>
+ * This description decorates the description computed by Xtext with the {@link URI}s of the files imported by the
+ * described file (see {@link ImportDeclaration}). Each import {@link URI} is stored as a synthetic imported name
+ * (see {@link #getImportName(URI)}), meaning that the imports are persisted with the builder state along with the
+ * other imported names of the file, and are available to the {@link XatkitResourceDescriptionManager} without
+ * loading the described file.
+ * <p>
+ * The synthetic names start with the {@link #IMPORT_SEGMENT} segment, and do not match any exported name.
+ *
+ * @see XatkitResourceDescriptionManager
+ */
+public class XatkitResourceDescription implements IResourceDescription {
+
+	/**
+	 * The first segment of the synthetic imported names storing the imports of a file.
+	 */
+	public static final String IMPORT_SEGMENT = "xatkit.import";
+
+	/**
+	 * Returns the synthetic imported name storing the provided {@code importURI}.
+	 *
+	 * @param importURI the {@link URI} of the imported file
+	 * @return the synthetic {@link QualifiedName}
+	 */
+	public static QualifiedName getImportName(URI importURI) {
+		return QualifiedName.create(IMPORT_SEGMENT, importURI.toString());
+	}
+
+	/**
+	 * Returns the {@link URI}s of the files imported by the described file.
+	 * <p>
+	 * The imports are retrieved from the synthetic imported names of the provided {@code description}, and are
+	 * available for the descriptions computed by this class as well as for their persisted copies.
+	 *
+	 * @param description the {@link IResourceDescription} to retrieve the imports of
+	 * @return the {@link URI}s of the imported files
+	 */
+	public static List<URI> getImportURIs(IResourceDescription description) {
+		List<URI> result = new ArrayList<>();
+		for (QualifiedName importedName : description.getImportedNames()) {
+			if (importedName.getSegmentCount() == 2 && IMPORT_SEGMENT.equals(importedName.getFirstSegment())) {
+				result.add(URI.createURI(importedName.getLastSegment()));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * The description computed by Xtext.
+	 */
+	private final IResourceDescription delegate;
+
+	/**
+	 * The synthetic imported names storing the imports of the described file.
+	 */
+	private final Set<QualifiedName> importNames = new LinkedHashSet<>();
+
+	/**
+	 * Constructs a {@link XatkitResourceDescription} decorating the provided {@code delegate} with the given
+	 * {@code importURIs}.
+	 *
+	 * @param delegate   the description computed by Xtext
+	 * @param importURIs the {@link URI}s of the files imported by the described file
+	 */
+	public XatkitResourceDescription(IResourceDescription delegate, Collection<URI> importURIs) {
+		this.delegate = delegate;
+		for (URI importURI : importURIs) {
+			this.importNames.add(getImportName(importURI));
+		}
+	}
+
+	@Override
+	public Iterable<QualifiedName> getImportedNames() {
+		return Iterables.concat(delegate.getImportedNames(), importNames);
+	}
+
+	@Override
+	public Iterable<IEObjectDescription> getExportedObjects() {
+		return delegate.getExportedObjects();
+	}
+
+	@Override
+	public Iterable<IEObjectDescription> getExportedObjects(EClass type, QualifiedName name, boolean ignoreCase) {
+		return delegate.getExportedObjects(type, name, ignoreCase);
+	}
+
+	@Override
+	public Iterable<IEObjectDescription> getExportedObjectsByType(EClass type) {
+		return delegate.getExportedObjectsByType(type);
+	}
+
+	@Override
+	public Iterable<IEObjectDescription> getExportedObjectsByObject(EObject object) {
+		return delegate.getExportedObjectsByObject(object);
+	}
+
+	@Override
+	public Iterable<IReferenceDescription> getReferenceDescriptions() {
+		return delegate.getReferenceDescriptions();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return delegate.isEmpty();
+	}
+
+	@Override
+	public URI getURI() {
+		return delegate.getURI();
+	}
+}
@@ -0,0 +1,184 @@
+package com.xatkit.language.common.scoping;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.CommonPlugin;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.xtext.resource.DerivedStateAwareResourceDescriptionManager;
+import org.eclipse.xtext.resource.IDefaultResourceDescriptionStrategy;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.IResourceDescriptions;
+
+import com.xatkit.common.ImportDeclaration;
+import com.xatkit.utils.XatkitImportHelper;
+import com.xatkit.utils.XatkitMetrics;
+
+/**
+ * The {@link IResourceDescription.Manager} of the Xatkit languages.
+ * <p>
+ * This manager records the imports of each described {@link Resource} in its {@link XatkitResourceDescription}, and
+ * uses them to compute the {@link Resource}s affected by a modification. Xatkit imports are resolved by the
+ * {@link XatkitImportHelper} instead of Xtext's global scope, meaning that the default implementation does not
+ * consider the importing files as affected when an imported file is modified. With this manager the Xtext builder
+ * re-links and re-validates the transitive dependents of the modified files (e.g. the execution models importing a
+ * modified platform, or importing a platform extending it), and only them.
+ * <p>
+ * The imports are persisted with the builder state, meaning that the dependencies of a file are known as soon as it
+ * has been built once, including in previous sessions.
+ * <p>
+ * Note that this manager only computes the affected {@link Resource}s: it does not order them. The Xtext builder
+ * re-validates the affected {@link Resource}s in its own order, which may validate an importing file before the
+ * files it imports. This does not change the reported markers, since imported files are loaded from their current
+ * content by {@link XatkitImportHelper} and not from their validation results.
+ */
+public class XatkitResourceDescriptionManager extends DerivedStateAwareResourceDescriptionManager {
+
+	/**
+	 * The name of the counter tracking the resources found affected through their import dependencies.
+	 *
+	 * @see XatkitMetrics
+	 */
+	public static final String AFFECTED_BY_IMPORT_METRIC = "builder.affected.import";
+
+	/**
+	 * The {@link IResourceDescriptions} indexed in {@link #indexURIs}.
+	 */
+	private WeakReference<IResourceDescriptions> indexedContext = new WeakReference<>(null);
+
+	/**
+	 * The {@link URI}s of the descriptions of {@link #indexedContext}, indexed by their local {@link URI}.
+	 * <p>
+	 * The descriptions of the Xtext index are registered with {@code platform:/resource} {@link URI}s, while the
+	 * imports are recorded with {@code file} {@link URI}s: this map allows to retrieve the description of an import
+	 * from its local {@link URI}.
+	 */
+	private Map<URI, URI> indexURIs = new HashMap<>();
+
+	@Override
+	protected IResourceDescription createResourceDescription(Resource resource,
+			IDefaultResourceDescriptionStrategy strategy) {
+		return new XatkitResourceDescription(super.createResourceDescription(resource, strategy),
+				getImportURIs(resource));
+	}
+
+	@Override
+	public boolean isAffected(Collection<IResourceDescription.Delta> deltas, IResourceDescription candidate,
+			IResourceDescriptions context) {
+		if (super.isAffected(deltas, candidate, context)) {
+			return true;
+		}
+		Set<URI> modified = new HashSet<>();
+		for (IResourceDescription.Delta delta : deltas) {
+			modified.add(CommonPlugin.asLocalURI(delta.getUri()));
+		}
+		if (dependsOn(candidate, modified, context)) {
+			XatkitMetrics.getInstance().increment(AFFECTED_BY_IMPORT_METRIC);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns whether the provided {@code candidate} depends (directly or transitively) on one of the given
+	 * {@code modified} files.
+	 * <p>
+	 * This method traverses the imports recorded in the descriptions of the {@code candidate} and of the imported
+	 * files found in the provided {@code context}, and handles import cycles. {@link URI}s are compared in their local
+	 * form (see {@link CommonPlugin#asLocalURI(URI)}), allowing to match the {@code platform:/resource} {@link URI}s
+	 * used by the Eclipse builder with the file {@link URI}s of the imports. The descriptions of the imported files are
+	 * retrieved from their local {@link URI} (see {@link #getIndexURIs(IResourceDescriptions)}).
+	 *
+	 * @param candidate the {@link IResourceDescription} of the file to check
+	 * @param modified  the local {@link URI}s of the modified files
+	 * @param context   the {@link IResourceDescriptions} containing the descriptions of the imported files
+	 * @return {@code true} if the file depends on one of the {@code modified} files, {@code false} otherwise
+	 */
+	private boolean dependsOn(IResourceDescription candidate, Set<URI> modified, IResourceDescriptions context) {
+		if (modified.isEmpty()) {
+			return false;
+		}
+		Map<URI, URI> contextURIs = getIndexURIs(context);
+		Set<URI> visited = new HashSet<>();
+		Deque<IResourceDescription> toVisit = new ArrayDeque<>();
+		toVisit.add(candidate);
+		visited.add(CommonPlugin.asLocalURI(candidate.getURI()));
+		while (!toVisit.isEmpty()) {
+			for (URI importURI : XatkitResourceDescription.getImportURIs(toVisit.poll())) {
+				URI localImportURI = CommonPlugin.asLocalURI(importURI);
+				if (modified.contains(localImportURI)) {
+					return true;
+				}
+				URI indexURI = contextURIs.get(localImportURI);
+				if (visited.add(localImportURI) && nonNull(indexURI)) {
+					IResourceDescription importDescription = context.getResourceDescription(indexURI);
+					if (nonNull(importDescription)) {
+						toVisit.add(importDescription);
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the {@link URI}s of the descriptions of the provided {@code context}, indexed by their local {@link URI}.
+	 * <p>
+	 * The returned {@link Map} is computed once per {@code context}, and reused by the successive
+	 * {@link #isAffected(Collection, IResourceDescription, IResourceDescriptions)} calls of a build. The descriptions
+	 * are retrieved from the {@code context} with the returned {@link URI}s, meaning that descriptions updated during
+	 * the build are correctly retrieved. Files added during the build are not indexed, but they are part of the
+	 * build's deltas, and are matched by their local {@link URI} before any lookup.
+	 *
+	 * @param context the {@link IResourceDescriptions} to index
+	 * @return the {@link URI}s of the descriptions of the {@code context}, indexed by their local {@link URI}
+	 */
+	private synchronized Map<URI, URI> getIndexURIs(IResourceDescriptions context) {
+		if (indexedContext.get() != context) {
+			Map<URI, URI> uris = new HashMap<>();
+			for (IResourceDescription description : context.getAllResourceDescriptions()) {
+				uris.put(CommonPlugin.asLocalURI(description.getURI()), description.getURI());
+			}
+			indexURIs = uris;
+			indexedContext = new WeakReference<>(context);
+		}
+		return indexURIs;
+	}
+
+	/**
+	 * Returns the {@link URI}s of the files imported by the provided {@code resource}.
+	 * <p>
+	 * The imports are resolved with {@link XatkitImportHelper#getImportURIs(ImportDeclaration)}, and are not loaded.
+	 *
+	 * @param resource the {@link Resource} to retrieve the imports of
+	 * @return the {@link URI}s of the imported files
+	 */
+	private Collection<URI> getImportURIs(Resource resource) {
+		Set<URI> result = new LinkedHashSet<>();
+		if (resource.getContents().isEmpty()) {
+			return result;
+		}
+		ResourceSet rSet = resource.getResourceSet();
+		for (EObject element : resource.getContents().get(0).eContents()) {
+			if (element instanceof ImportDeclaration && nonNull(((ImportDeclaration) element).getPath())) {
+				for (URI importURI : XatkitImportHelper.getInstance().getImportURIs((ImportDeclaration) element)) {
+					result.add(isNull(rSet) ? importURI : rSet.getURIConverter().normalize(importURI));
+				}
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,146 @@
+package com.xatkit.language.common.scoping;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
+import org.eclipse.xtext.resource.EObjectDescription;
+import org.eclipse.xtext.resource.IDefaultResourceDescriptionStrategy;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.util.IAcceptor;
+import org.eclipse.xtext.xbase.resource.XbaseResourceDescriptionStrategy;
+
+import com.xatkit.common.CommonPackage;
+import com.xatkit.execution.ExecutionPackage;
+import com.xatkit.intent.CustomEntityDefinition;
+import com.xatkit.intent.EventDefinition;
+import com.xatkit.intent.IntentPackage;
+import com.xatkit.intent.Library;
+import com.xatkit.platform.ActionDefinition;
+import com.xatkit.platform.EventProviderDefinition;
+import com.xatkit.platform.PlatformDefinition;
+import com.xatkit.platform.PlatformPackage;
+
+/**
+ * The {@link IDefaultResourceDescriptionStrategy} of the Xatkit languages.
+ * <p>
+ * This strategy exports the elements that can be referenced from other Xatkit files in Xtext's index:
+ * {@link PlatformDefinition}s, {@link EventProviderDefinition}s, {@link ActionDefinition}s, {@link Library}
+ * instances, {@link EventDefinition}s (including intents), and {@link CustomEntityDefinition}s. The exported elements
+ * are named by the {@link XatkitQualifiedNameProvider}, and {@link PlatformDefinition} descriptions contain the
+ * {@link #ABSTRACT_PLATFORM_KEY} and {@link #EXTENDED_PLATFORM_KEY} user data.
+ * <p>
+ * The other elements of the Xatkit metamodels (e.g. training sentences, context parameters, execution states and
+ * their expressions) are not traversed, keeping the resource descriptions small and cheap to compute. The elements
+ * that do not belong to the Xatkit metamodels (e.g. the inferred JVM types) are exported by the
+ * {@link XbaseResourceDescriptionStrategy}.
+ *
+ * @see ImportedElementsScopeProvider
+ */
+public class XatkitResourceDescriptionStrategy extends XbaseResourceDescriptionStrategy {
+
+	/**
+	 * The user data key storing whether an exported {@link PlatformDefinition} is abstract.
+	 */
+	public static final String ABSTRACT_PLATFORM_KEY = "abstract";
+
+	/**
+	 * The user data key storing the name of the {@link PlatformDefinition} extended by an exported
+	 * {@link PlatformDefinition}.
+	 * <p>
+	 * This key is not set if the exported {@link PlatformDefinition} does not extend another platform.
+	 */
+	public static final String EXTENDED_PLATFORM_KEY = "extends";
+
+	@Override
+	public boolean createEObjectDescriptions(EObject eObject, IAcceptor<IEObjectDescription> acceptor) {
+		if (isExported(eObject)) {
+			QualifiedName qualifiedName = getQualifiedNameProvider().getFullyQualifiedName(eObject);
+			if (nonNull(qualifiedName)) {
+				acceptor.accept(EObjectDescription.create(qualifiedName, eObject, getUserData(eObject)));
+			}
+			/*
+			 * Only platforms, providers, and libraries contain elements to export.
+			 */
+			return eObject instanceof PlatformDefinition || eObject instanceof EventProviderDefinition
+					|| eObject instanceof Library;
+		} else if (isXatkitElement(eObject)) {
+			return false;
+		}
+		return super.createEObjectDescriptions(eObject, acceptor);
+	}
+
+	/**
+	 * Returns whether the provided {@code eObject} is exported in the index.
+	 *
+	 * @param eObject the {@link EObject} to check
+	 * @return {@code true} if the provided {@code eObject} is exported, {@code false} otherwise
+	 */
+	private boolean isExported(EObject eObject) {
+		return eObject instanceof PlatformDefinition || eObject instanceof EventProviderDefinition
+				|| eObject instanceof ActionDefinition || eObject instanceof Library
+				|| eObject instanceof EventDefinition || eObject instanceof CustomEntityDefinition;
+	}
+
+	/**
+	 * Returns whether the provided {@code eObject} is an instance of one of the Xatkit metamodels.
+	 *
+	 * @param eObject the {@link EObject} to check
+	 * @return {@code true} if the provided {@code eObject} is a Xatkit element, {@code false} otherwise
+	 */
+	private boolean isXatkitElement(EObject eObject) {
+		EPackage ePackage = eObject.eClass().getEPackage();
+		return ePackage == CommonPackage.eINSTANCE || ePackage == IntentPackage.eINSTANCE
+				|| ePackage == PlatformPackage.eINSTANCE || ePackage == ExecutionPackage.eINSTANCE;
+	}
+
+	/**
+	 * Returns the user data to store in the description of the provided {@code eObject}.
+	 *
+	 * @param eObject the exported {@link EObject}
+	 * @return the user data of the description
+	 */
+	private Map<String, String> getUserData(EObject eObject) {
+		if (eObject instanceof PlatformDefinition) {
+			PlatformDefinition platformDefinition = (PlatformDefinition) eObject;
+			Map<String, String> userData = new HashMap<>();
+			userData.put(ABSTRACT_PLATFORM_KEY, Boolean.toString(platformDefinition.isAbstract()));
+			/*
+			 * Use the text of the reference to avoid resolving the extended platform when indexing the resource.
+			 */
+			String extendedPlatformName = getExtendedPlatformName(platformDefinition);
+			if (nonNull(extendedPlatformName)) {
+				userData.put(EXTENDED_PLATFORM_KEY, extendedPlatformName);
+			}
+			return userData;
+		}
+		return Collections.emptyMap();
+	}
+
+	/**
+	 * Returns the name of the {@link PlatformDefinition} extended by the provided {@code platformDefinition}.
+	 * <p>
+	 * This method reads the name from the node model, and does not resolve the {@code extends} reference.
+	 *
+	 * @param platformDefinition the {@link PlatformDefinition} to retrieve the extended platform name of
+	 * @return the name of the extended {@link PlatformDefinition}, or {@code null} if the provided
+	 *         {@code platformDefinition} does not extend another platform
+	 */
+	private String getExtendedPlatformName(PlatformDefinition platformDefinition) {
+		List<INode> nodes = NodeModelUtils.findNodesForFeature(platformDefinition,
+				PlatformPackage.Literals.PLATFORM_DEFINITION__EXTENDS);
+		if (isNull(nodes) || nodes.isEmpty()) {
+			return null;
+		}
+		return NodeModelUtils.getTokenText(nodes.get(0));
+	}
+}
@@ -3,6 +3,8 @@
  */
 package com.xatkit.language.common.validation
 
+import java.lang.reflect.Method
+import org.eclipse.xtext.validation.AbstractDeclarativeValidator
 
 /**
  * This class contains custom validation rules. 
@@ -10,6 +12,17 @@ package com.xatkit.language.common.validation
  * See https://www.eclipse.org/Xtext/documentation/303_runtime_concepts.html#validation
  */
 class CommonValidator extends AbstractCommonValidator {
+
+	/**
+	 * Wraps the checks of the Xatkit validators to record their execution time.
+	 * <p>
+	 * This method is inherited by the validators of the languages extending the <i>common</i> language.
+	 * 
+	 * @see TimedCheckMethodWrapper
+	 */
+	override protected createMethodWrapper(AbstractDeclarativeValidator instanceToUse, Method method) {
+		new TimedCheckMethodWrapper(instanceToUse, method)
+	}
 	
 //	public static val INVALID_NAME = 'invalidName'
 //
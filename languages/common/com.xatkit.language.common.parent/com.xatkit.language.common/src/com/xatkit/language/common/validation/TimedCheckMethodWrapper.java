@@ -0,0 +1,176 @@
+package com.xatkit.language.common.validation;
+
+import static java.text.MessageFormat.format;
+import static java.util.Objects.isNull;
+
+import java.lang.reflect.Method;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.log4j.Logger;
+import org.eclipse.xtext.validation.AbstractDeclarativeValidator;
+import org.eclipse.xtext.validation.AbstractDeclarativeValidator.MethodWrapper;
+import org.eclipse.xtext.validation.AbstractDeclarativeValidator.State;
+import org.eclipse.xtext.validation.Check;
+import org.eclipse.xtext.validation.CheckType;
+
+import com.xatkit.utils.XatkitMetrics;
+
+/**
+ * A {@link MethodWrapper} profiling the execution of a validator check.
+ * <p>
+ * Each check is associated to a {@link XatkitMetrics} timer named
+ * {@code validation.<ValidatorClass>.<checkMethod>}, recording its invocation count and execution time. This wrapper
+ * is used by the Xatkit language validators to identify the checks that slow down the editors and the builds.
+ * <p>
+ * Checks are expected to fit in the time budget of their {@link CheckType}: {@link CheckType#FAST} checks are executed
+ * as-you-type, {@link CheckType#NORMAL} checks when saving or building, and {@link CheckType#EXPENSIVE} checks on
+ * explicit validation. Invocations exceeding the budget of their {@link CheckType} increment the
+ * {@code validation.over-budget.<ValidatorClass>.<checkMethod>} counter, and the check is reported in the log the
+ * first time it exceeds its budget. The budgets (in milliseconds) can be set with the
+ * {@code xatkit.validation.budget.fast}, {@code xatkit.validation.budget.normal}, and
+ * {@code xatkit.validation.budget.expensive} system properties, or with {@link #setBudget(CheckType, long)}. A budget
+ * lower or equal to {@code 0} disables the budget check for its {@link CheckType}.
+ *
+ * @see CommonValidator
+ */
+public class TimedCheckMethodWrapper extends MethodWrapper {
+
+	/**
+	 * The prefix of the timers tracking the validation checks.
+	 *
+	 * @see XatkitMetrics
+	 */
+	public static final String VALIDATION_METRIC_PREFIX = "validation.";
+
+	/**
+	 * The prefix of the counters tracking the invocations exceeding their budget.
+	 *
+	 * @see XatkitMetrics
+	 */
+	public static final String OVER_BUDGET_METRIC_PREFIX = "validation.over-budget.";
+
+	/**
+	 * The prefix of the system properties defining the budgets of the {@link CheckType}s.
+	 * <p>
+	 * This prefix is suffixed by the lower-case name of the {@link CheckType} (e.g.
+	 * {@code xatkit.validation.budget.fast}).
+	 */
+	public static final String BUDGET_PROPERTY_PREFIX = "xatkit.validation.budget.";
+
+	private static final Logger log = Logger.getLogger(TimedCheckMethodWrapper.class);
+
+	/**
+	 * The default budgets (in milliseconds) of the {@link CheckType}s.
+	 */
+	private static final Map<CheckType, Long> DEFAULT_BUDGETS = new EnumMap<>(CheckType.class);
+
+	static {
+		DEFAULT_BUDGETS.put(CheckType.FAST, 10L);
+		DEFAULT_BUDGETS.put(CheckType.NORMAL, 100L);
+		DEFAULT_BUDGETS.put(CheckType.EXPENSIVE, 1000L);
+	}
+
+	/**
+	 * The budgets (in nanoseconds) of the {@link CheckType}s.
+	 */
+	private static final Map<CheckType, Long> budgets = new ConcurrentHashMap<>();
+
+	static {
+		for (CheckType checkType : CheckType.values()) {
+			long defaultBudget = DEFAULT_BUDGETS.getOrDefault(checkType, 0L);
+			long budget = Long.getLong(BUDGET_PROPERTY_PREFIX + checkType.name().toLowerCase(), defaultBudget);
+			budgets.put(checkType, TimeUnit.MILLISECONDS.toNanos(budget));
+		}
+	}
+
+	/**
+	 * The checks that have exceeded their budget at least once.
+	 * <p>
+	 * This {@link Set} is used to report each check only once in the log.
+	 */
+	private static final Set<String> overBudgetChecks = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Sets the budget of the provided {@code checkType}.
+	 *
+	 * @param checkType    the {@link CheckType} to set the budget of
+	 * @param budgetMillis the budget in milliseconds, or a value lower or equal to {@code 0} to disable the budget
+	 *                     check
+	 */
+	public static void setBudget(CheckType checkType, long budgetMillis) {
+		budgets.put(checkType, TimeUnit.MILLISECONDS.toNanos(budgetMillis));
+	}
+
+	/**
+	 * Returns the budget of the provided {@code checkType}.
+	 *
+	 * @param checkType the {@link CheckType} to retrieve the budget of
+	 * @return the budget in milliseconds
+	 */
+	public static long getBudget(CheckType checkType) {
+		return TimeUnit.NANOSECONDS.toMillis(budgets.get(checkType));
+	}
+
+	/**
+	 * The name of the check, used as a suffix of its metrics.
+	 */
+	private final String checkName;
+
+	/**
+	 * The name of the timer tracking the wrapped check.
+	 */
+	private final String metricName;
+
+	/**
+	 * The {@link CheckType} of the wrapped check.
+	 */
+	private final CheckType checkType;
+
+	/**
+	 * Constructs a {@link TimedCheckMethodWrapper} wrapping the provided {@code method}.
+	 *
+	 * @param instance the validator instance to invoke the {@code method} on
+	 * @param method   the check method to wrap
+	 */
+	public TimedCheckMethodWrapper(AbstractDeclarativeValidator instance, Method method) {
+		super(instance, method);
+		this.checkName = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+		this.metricName = VALIDATION_METRIC_PREFIX + checkName;
+		Check check = method.getAnnotation(Check.class);
+		this.checkType = isNull(check) ? CheckType.FAST : check.value();
+	}
+
+	@Override
+	public void invoke(State state) {
+		if (isNull(state.checkMode) || !state.checkMode.shouldCheck(checkType)) {
+			/*
+			 * The check is not executed in the current mode, there is nothing to profile.
+			 */
+			super.invoke(state);
+			return;
+		}
+		long start = System.nanoTime();
+		try {
+			super.invoke(state);
+		} finally {
+			XatkitMetrics metrics = XatkitMetrics.getInstance();
+			metrics.record(metricName, start);
+			long budget = budgets.get(checkType);
+			if (budget > 0) {
+				long duration = System.nanoTime() - start;
+				if (duration > budget) {
+					metrics.increment(OVER_BUDGET_METRIC_PREFIX + checkName);
+					if (overBudgetChecks.add(checkName)) {
+						log.warn(format("The {0} check {1} took {2}ms, exceeding its budget of {3}ms", checkType,
+								checkName, TimeUnit.NANOSECONDS.toMillis(duration),
+								TimeUnit.NANOSECONDS.toMillis(budget)));
+					}
+				}
+			}
+		}
+	}
+}
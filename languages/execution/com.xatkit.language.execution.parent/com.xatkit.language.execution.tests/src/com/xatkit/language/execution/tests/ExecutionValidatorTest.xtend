@@ -0,0 +1,286 @@
+package com.xatkit.language.execution.tests
+
+import com.google.inject.Inject
+import com.google.inject.Provider
+import com.xatkit.common.CommonPackage
+import com.xatkit.execution.ExecutionModel
+import com.xatkit.execution.ExecutionPackage
+import com.xatkit.intent.IntentFactory
+import com.xatkit.language.execution.validation.ExecutionValidator
+import com.xatkit.platform.PlatformFactory
+import java.io.File
+import org.eclipse.emf.common.util.URI
+import org.eclipse.emf.ecore.resource.ResourceSet
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl
+import org.eclipse.xtext.diagnostics.Diagnostic
+import org.eclipse.xtext.testing.InjectWith
+import org.eclipse.xtext.testing.XtextRunner
+import org.eclipse.xtext.testing.util.ParseHelper
+import org.eclipse.xtext.testing.validation.ValidationTestHelper
+import org.eclipse.xtext.resource.XtextResourceSet
+import org.eclipse.xtext.xbase.XbasePackage
+import org.junit.Assert
+import org.junit.Rule
+import org.junit.Test
+import org.junit.rules.TemporaryFolder
+import org.junit.runner.RunWith
+
+@RunWith(XtextRunner)
+@InjectWith(ExecutionInjectorProvider)
+class ExecutionValidatorTest {
+
+	@Inject
+	ParseHelper<ExecutionModel> parseHelper
+
+	@Inject
+	extension ValidationTestHelper
+
+	@Inject
+	Provider<XtextResourceSet> resourceSetProvider
+
+	@Rule
+	public val folder = new TemporaryFolder
+
+	@Test
+	def void sessionKeyIsNeverRead() {
+		val model = parseHelper.parse('''
+			Init {
+				Body {
+					session.put("unread", "value")
+					session.put("read", "value")
+					println(session.get("read"))
+				}
+				Next {
+					_ --> End
+				}
+			}
+			
+			End {
+				Next {
+					_ --> Init
+				}
+			}
+		''')
+		model.assertWarning(XbasePackage.Literals.XMEMBER_FEATURE_CALL, ExecutionValidator.SESSION_KEY_IS_NEVER_READ,
+			"The session key unread is set but never read")
+		Assert.assertEquals("Invalid number of unread session keys", 1,
+			model.validate.filter[code == ExecutionValidator.SESSION_KEY_IS_NEVER_READ].size)
+	}
+
+	@Test
+	def void sessionKeyReadWithDynamicKey() {
+		val model = parseHelper.parse('''
+			Init {
+				Body {
+					val key = "unread"
+					session.put("unread", "value")
+					println(session.get(key))
+				}
+				Next {
+					_ --> End
+				}
+			}
+			
+			End {
+				Next {
+					_ --> Init
+				}
+			}
+		''')
+		model.assertNoWarnings(XbasePackage.Literals.XMEMBER_FEATURE_CALL, ExecutionValidator.SESSION_KEY_IS_NEVER_READ)
+	}
+
+	@Test
+	def void sessionKeyReadWithOtherAccesses() {
+		val model = parseHelper.parse('''
+			Init {
+				Body {
+					session.put("checked", "value")
+					session.put("defaulted", "value")
+					session.put("removed", "value")
+					if (session.containsKey("checked")) {
+						println(session.getOrDefault("defaulted", "default"))
+						session.remove("removed")
+					}
+				}
+				Next {
+					_ --> End
+				}
+			}
+			
+			End {
+				Next {
+					_ --> Init
+				}
+			}
+		''')
+		model.assertNoWarnings(XbasePackage.Literals.XMEMBER_FEATURE_CALL, ExecutionValidator.SESSION_KEY_IS_NEVER_READ)
+	}
+
+	@Test
+	def void stateIsUnreachable() {
+		val model = parseHelper.parse('''
+			Init {
+				Next {
+					_ --> Reachable
+				}
+			}
+			
+			Reachable {
+				Next {
+					_ --> Init
+				}
+			}
+			
+			Unreachable {
+				Next {
+					_ --> Reachable
+				}
+			}
+		''')
+		model.assertWarning(ExecutionPackage.Literals.STATE, ExecutionValidator.STATE_IS_UNREACHABLE,
+			"State Unreachable is unreachable")
+		Assert.assertEquals("Invalid number of unreachable states", 1,
+			model.validate.filter[code == ExecutionValidator.STATE_IS_UNREACHABLE].size)
+	}
+
+	@Test
+	def void stateIsUnreachableWithoutInitState() {
+		val model = parseHelper.parse('''
+			Start {
+				Next {
+					_ --> Unreachable
+				}
+			}
+			
+			Unreachable {
+				Next {
+					_ --> Start
+				}
+			}
+		''')
+		model.assertNoWarnings(ExecutionPackage.Literals.STATE, ExecutionValidator.STATE_IS_UNREACHABLE)
+	}
+
+	@Test
+	def void eventTypeClash() {
+		val rSet = resourceSetProvider.get
+		/*
+		 * The libraries are serialized in XMI, the Intent language is not required to load them.
+		 */
+		rSet.resourceFactoryRegistry.extensionToFactoryMap.put("intent", new XMIResourceFactoryImpl)
+		val first = rSet.createLibrary("First", "Greetings", "Help")
+		val second = rSet.createLibrary("Second", "Greetings")
+		val model = parseHelper.parse('''
+			import library "«first»"
+			import library "«second»"
+			
+			Init {
+				Next {
+					_ --> End
+				}
+			}
+			
+			End {
+				Next {
+					_ --> Init
+				}
+			}
+		''', rSet)
+		model.assertWarning(CommonPackage.Literals.LIBRARY_IMPORT_DECLARATION, ExecutionValidator.EVENT_TYPE_CLASH,
+			"The event Greetings of Second clashes with the event Greetings of First")
+		Assert.assertEquals("Invalid number of event clashes", 1,
+			model.validate.filter[code == ExecutionValidator.EVENT_TYPE_CLASH].size)
+	}
+
+	@Test
+	def void inheritedProviderIsLinked() {
+		val rSet = resourceSetProvider.get
+		/*
+		 * The platforms are serialized in XMI, the Platform language is not required to load them.
+		 */
+		rSet.resourceFactoryRegistry.extensionToFactoryMap.put("platform", new XMIResourceFactoryImpl)
+		val child = rSet.createPlatforms("Parent", "Child", "InheritedProvider")
+		val model = parseHelper.parse('''
+			import platform "«child»"
+			
+			use provider Child.InheritedProvider
+			
+			Init {
+				Next {
+					_ --> Init
+				}
+			}
+		''', rSet)
+		val provider = model.eventProviderDefinitions.head
+		Assert.assertFalse("The inherited provider is not linked", provider.eIsProxy)
+		Assert.assertEquals("Invalid linked provider", "InheritedProvider", provider.name)
+		model.assertNoErrors(ExecutionPackage.Literals.EXECUTION_MODEL, Diagnostic.LINKING_DIAGNOSTIC)
+	}
+
+	/**
+	 * Saves a library containing the provided {@code intentNames} in the temporary folder.
+	 * 
+	 * @param rSet        the {@link ResourceSet} used to save the library
+	 * @param name        the name of the library
+	 * @param intentNames the names of the intents of the library
+	 * @return the path of the saved library
+	 */
+	private def String createLibrary(ResourceSet rSet, String name, String... intentNames) {
+		val library = IntentFactory.eINSTANCE.createLibrary => [
+			it.name = name
+			intentNames.forEach [ intentName |
+				eventDefinitions += IntentFactory.eINSTANCE.createIntentDefinition => [
+					it.name = intentName
+					trainingSentences += "Training sentence of " + intentName
+				]
+			]
+		]
+		val file = new File(folder.root, name + ".intent")
+		val resource = rSet.createResource(URI.createFileURI(file.absolutePath))
+		resource.contents += library
+		resource.save(emptyMap)
+		/*
+		 * Remove the saved library, it is loaded by the import helper when resolving the imports.
+		 */
+		rSet.resources -= resource
+		file.absolutePath.replace('\\', '/')
+	}
+
+	/**
+	 * Saves a platform defining the provided {@code providerName}, and a platform extending it, in the temporary
+	 * folder.
+	 * 
+	 * @param rSet         the {@link ResourceSet} used to save the platforms
+	 * @param parentName   the name of the extended platform
+	 * @param childName    the name of the extending platform
+	 * @param providerName the name of the provider defined by the extended platform
+	 * @return the path of the saved extending platform
+	 */
+	private def String createPlatforms(ResourceSet rSet, String parentName, String childName, String providerName) {
+		val parent = PlatformFactory.eINSTANCE.createPlatformDefinition => [
+			it.name = parentName
+			eventProviderDefinitions += PlatformFactory.eINSTANCE.createEventProviderDefinition => [
+				it.name = providerName
+			]
+		]
+		val child = PlatformFactory.eINSTANCE.createPlatformDefinition => [
+			it.name = childName
+			it.extends = parent
+		]
+		val parentFile = new File(folder.root, parentName + ".platform")
+		val parentResource = rSet.createResource(URI.createFileURI(parentFile.absolutePath))
+		val childFile = new File(folder.root, childName + ".platform")
+		val childResource = rSet.createResource(URI.createFileURI(childFile.absolutePath))
+		parentResource.contents += parent
+		childResource.contents += child
+		parentResource.save(emptyMap)
+		childResource.save(emptyMap)
+		/*
+		 * Remove the saved platforms, they are loaded by the import helper when resolving the imports.
+		 */
+		rSet.resources -= childResource
+		rSet.resources -= parentResource
+		childFile.absolutePath.replace('\\', '/')
+	}
+}
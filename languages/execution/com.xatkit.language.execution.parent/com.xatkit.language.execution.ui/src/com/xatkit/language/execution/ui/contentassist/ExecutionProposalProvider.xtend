@@ -5,8 +5,7 @@
 package com.xatkit.language.execution.ui.contentassist
 
 import com.xatkit.execution.ExecutionModel
-import com.xatkit.platform.PlatformDefinition
-import com.xatkit.utils.XatkitImportHelper
+import com.xatkit.language.execution.ExecutionSymbolTable
 import org.eclipse.emf.ecore.EObject
 import org.eclipse.xtext.Assignment
 import org.eclipse.xtext.ui.editor.contentassist.ContentAssistContext
@@ -20,12 +19,12 @@ class ExecutionProposalProvider extends AbstractExecutionProposalProvider {
 
 	override completeExecutionModel_EventProviderDefinitions(EObject model, Assignment assignment,
 		ContentAssistContext context, ICompletionProposalAcceptor acceptor) {
-		var platforms = XatkitImportHelper.getInstance.getImportedPlatforms(model as ExecutionModel)
-		for (PlatformDefinition platform : platforms) {
-			platform.eventProviderDefinitions.map[i|i.name].forEach [ iName |
-				acceptor.accept(createCompletionProposal(platform.name + '.' + iName, context))
-			]
-		}
+		/*
+		 * The symbol table contains the providers inherited by the imported platforms (e.g. Child.InheritedProvider).
+		 */
+		ExecutionSymbolTable.get(model as ExecutionModel).eventProviderDefinitionNames.forEach [ name |
+			acceptor.accept(createCompletionProposal(name, context))
+		]
 	}
 	
 }
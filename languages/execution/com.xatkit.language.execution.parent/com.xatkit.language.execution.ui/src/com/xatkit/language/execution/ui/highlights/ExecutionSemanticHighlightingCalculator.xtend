@@ -3,6 +3,7 @@ package com.xatkit.language.execution.ui.highlights
 import com.xatkit.execution.ExecutionPackage
 import com.xatkit.execution.State
 import com.xatkit.execution.Transition
+import com.xatkit.language.execution.ExecutionSymbolTable
 import com.xatkit.language.execution.ExecutionUtils
 import org.eclipse.emf.ecore.EObject
 import org.eclipse.xtext.ide.editor.syntaxcoloring.IHighlightedPositionAcceptor
@@ -43,17 +44,14 @@ class ExecutionSemanticHighlightingCalculator extends XbaseHighlightingCalculato
 	def protected void highlightXatkitFeatureCall(XFeatureCall featureCall, IHighlightedPositionAcceptor acceptor,
 		CancelIndicator cancelIndicator) {
 		val feature = featureCall.feature
-		val importedIntents = ExecutionUtils.getEventDefinitionsFromImportedLibraries(
-			ExecutionUtils.getContainingExecutionModel(featureCall)).map[name].toList
+		val symbolTable = ExecutionSymbolTable.get(ExecutionUtils.getContainingExecutionModel(featureCall))
 		/*
 		 * We differenciate intents from events even if for now they use the same style, this may not be the case later.
 		 */
-		if (importedIntents.contains(feature.identifier)) {
+		if (symbolTable.getLibraryEventDefinition(feature.identifier) !== null) {
 			this.highlightFeatureCall(featureCall, acceptor, ExecutionHighlightingConfiguration.INTENT_ID)
 		} else {
-			val importedEvents = ExecutionUtils.getEventDefinitionsFromImportedPlatforms(
-				ExecutionUtils.getContainingExecutionModel(featureCall)).map[name].toList
-			if (importedEvents.contains(feature.identifier)) {
+			if (symbolTable.getPlatformEventDefinition(feature.identifier) !== null) {
 				this.highlightFeatureCall(featureCall, acceptor, ExecutionHighlightingConfiguration.EVENT_ID)
 			} else {
 				super.highlightElement(featureCall, acceptor, cancelIndicator)
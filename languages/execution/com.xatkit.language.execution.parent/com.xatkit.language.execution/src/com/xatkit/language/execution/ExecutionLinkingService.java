@@ -1,30 +1,52 @@
 package com.xatkit.language.execution;
 
 import static java.text.MessageFormat.format;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.apache.log4j.Logger;
-import org.eclipse.core.runtime.QualifiedName;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.xtext.linking.impl.DefaultLinkingService;
 import org.eclipse.xtext.linking.impl.IllegalNodeException;
+import org.eclipse.xtext.naming.QualifiedName;
 import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.util.IResourceScopeCache;
 
+import com.google.inject.Inject;
 import com.xatkit.execution.ExecutionModel;
 import com.xatkit.execution.ExecutionPackage;
+import com.xatkit.language.common.scoping.ImportedElementsScopeProvider;
 import com.xatkit.platform.EventProviderDefinition;
 import com.xatkit.platform.PlatformDefinition;
 import com.xatkit.utils.XatkitImportHelper;
+import com.xatkit.utils.XatkitMetrics;
 
 public class ExecutionLinkingService extends DefaultLinkingService {
 
 	private static final Logger log = Logger.getLogger(ExecutionLinkingService.class);
-	
+
+	/**
+	 * The prefix of the timers tracking the linking calls, suffixed by the name of the linked reference.
+	 * 
+	 * @see XatkitMetrics
+	 */
+	public static final String LINKING_METRIC_PREFIX = "linking.execution.";
+
+	/**
+	 * The key used to store the {@link ExecutionSymbolTable} of the linked model in the {@link IResourceScopeCache}.
+	 */
+	private static final String SYMBOL_TABLE_CACHE_KEY = ExecutionLinkingService.class.getName() + ".symbolTable";
+
+	@Inject
+	private IResourceScopeCache cache;
+
 	public ExecutionLinkingService() {
 		super();
 		log.debug(format("{0} started", this.getClass().getSimpleName()));
@@ -32,30 +54,40 @@ public class ExecutionLinkingService extends DefaultLinkingService {
 
 	@Override
 	public List<EObject> getLinkedObjects(EObject context, EReference ref, INode node) throws IllegalNodeException {
-		log.debug(format("{0} linking context: {1}", this.getClass().getSimpleName(), context));
-		log.debug(format("{0} linking reference: {1}", this.getClass().getSimpleName(), ref));
-		if (context instanceof ExecutionModel) {
-			return getLinkedObjectsForExecutionModel((ExecutionModel) context, ref, node);
-		} else {
-			return super.getLinkedObjects(context, ref, node);
+		long start = System.nanoTime();
+		try {
+			if (context instanceof ExecutionModel) {
+				return getLinkedObjectsForExecutionModel((ExecutionModel) context, ref, node);
+			} else {
+				return super.getLinkedObjects(context, ref, node);
+			}
+		} finally {
+			XatkitMetrics.getInstance().record(LINKING_METRIC_PREFIX + ref.getName(), start);
 		}
 	}
 
 	private List<EObject> getLinkedObjectsForExecutionModel(ExecutionModel context, EReference ref, INode node) {
 		if (ref.equals(ExecutionPackage.eINSTANCE.getExecutionModel_EventProviderDefinitions())) {
-			QualifiedName qualifiedName = getQualifiedName(node.getText());
-			if (nonNull(qualifiedName)) {
-				String platformName = qualifiedName.getQualifier();
-				String eventProviderName = qualifiedName.getLocalName();
-				PlatformDefinition platformDefinition = XatkitImportHelper.getInstance()
-						.getImportedPlatform((ExecutionModel) context, platformName);
-				if (nonNull(platformDefinition)) {
-					EventProviderDefinition eventProviderDefinition = platformDefinition
-							.getEventProviderDefinition(eventProviderName);
-					if (nonNull(eventProviderDefinition)) {
-						return Arrays.asList(eventProviderDefinition);
-					}
-				}
+			String text = node.getText().trim();
+			int separatorIndex = text.indexOf('.');
+			if (separatorIndex <= 0 || separatorIndex == text.length() - 1
+					|| separatorIndex != text.lastIndexOf('.')) {
+				/*
+				 * We don't handle qualified name that contain multiple or no qualifier.
+				 */
+				log.warn(format("Cannot compute a qualified name from the provided String {0}", text));
+				return Collections.emptyList();
+			}
+			String platformName = text.substring(0, separatorIndex);
+			String eventProviderName = text.substring(separatorIndex + 1);
+			EventProviderDefinition eventProviderDefinition = getIndexedEventProviderDefinition(context, ref,
+					platformName, eventProviderName);
+			if (isNull(eventProviderDefinition)) {
+				eventProviderDefinition = getSymbolTable(context).getEventProviderDefinition(platformName,
+						eventProviderName);
+			}
+			if (nonNull(eventProviderDefinition)) {
+				return Collections.singletonList(eventProviderDefinition);
 			}
 			return Collections.emptyList();
 		} else {
@@ -63,17 +95,48 @@ public class ExecutionLinkingService extends DefaultLinkingService {
 		}
 	}
 
-	private QualifiedName getQualifiedName(String from) {
-		String trimmed = from.trim();
-		String[] splitted = trimmed.split("\\.");
-		if (splitted.length != 2) {
-			/*
-			 * We don't handle qualified name that contain multiple or no qualifier.
-			 */
-			log.warn(format("Cannot compute a qualified name from the provided String {0}", from));
-			return null;
-		} else {
-			return new QualifiedName(splitted[0], splitted[1]);
+	/**
+	 * Returns the {@link EventProviderDefinition} matching the provided names from the scope of the given
+	 * {@code ref}.
+	 * <p>
+	 * The scope of the {@code ExecutionModel.eventProviderDefinitions} reference contains the providers exported in
+	 * Xtext's index by the imported platforms (see {@link ImportedElementsScopeProvider}). This method only returns
+	 * providers that are already loaded in the {@link ResourceSet}: indexed providers that are not loaded are
+	 * retrieved with the {@link ExecutionSymbolTable}, ensuring that the linked providers are the ones loaded by the
+	 * {@link XatkitImportHelper} and used by the validator and the generator.
+	 * 
+	 * @param context           the {@link ExecutionModel} to link
+	 * @param ref               the linked {@link EReference}
+	 * @param platformName      the name of the {@link PlatformDefinition} containing the provider
+	 * @param eventProviderName the name of the provider
+	 * @return the {@link EventProviderDefinition}, or {@code null} if the scope does not contain a loaded provider
+	 *         matching the provided names
+	 */
+	private EventProviderDefinition getIndexedEventProviderDefinition(ExecutionModel context, EReference ref,
+			String platformName, String eventProviderName) {
+		IEObjectDescription description = getScope(context, ref)
+				.getSingleElement(QualifiedName.create(platformName, eventProviderName));
+		if (nonNull(description)) {
+			EObject eObject = description.getEObjectOrProxy();
+			if (!eObject.eIsProxy() && eObject instanceof EventProviderDefinition) {
+				return (EventProviderDefinition) eObject;
+			}
 		}
+		return null;
+	}
+
+	/**
+	 * Returns the {@link ExecutionSymbolTable} of the provided {@code executionModel}.
+	 * <p>
+	 * The table is cached in the {@link IResourceScopeCache} of the {@link Resource} containing the
+	 * {@code executionModel}: it is retrieved once per linking pass, and the cached value is evicted when the
+	 * {@link Resource} is modified or relinked (e.g. when one of its imported files has changed).
+	 * 
+	 * @param executionModel the {@link ExecutionModel} to retrieve the symbol table of
+	 * @return the {@link ExecutionSymbolTable} of the provided {@code executionModel}
+	 */
+	private ExecutionSymbolTable getSymbolTable(ExecutionModel executionModel) {
+		return cache.get(SYMBOL_TABLE_CACHE_KEY, executionModel.eResource(),
+				() -> ExecutionSymbolTable.get(executionModel));
 	}
 }
@@ -3,11 +3,17 @@
  */
 package com.xatkit.language.execution
 
+import com.xatkit.language.common.scoping.XatkitQualifiedNameProvider
+import com.xatkit.language.common.scoping.XatkitResourceDescriptionManager
+import com.xatkit.language.common.scoping.XatkitResourceDescriptionStrategy
 import com.xatkit.language.execution.generator.ExecutionGenerator
 import com.xatkit.language.execution.scoping.ExecutionIdentifiableSimpleNameProvider
 import org.eclipse.xtext.generator.IGenerator
 import org.eclipse.xtext.xbase.featurecalls.IdentifiableSimpleNameProvider
 import org.eclipse.xtext.linking.impl.LinkingDiagnosticMessageProvider
+import org.eclipse.xtext.naming.IQualifiedNameProvider
+import org.eclipse.xtext.resource.IDefaultResourceDescriptionStrategy
+import org.eclipse.xtext.resource.IResourceDescription
 
 /**
  * Use this class to register components to be used at runtime / without the Equinox extension registry.
@@ -30,5 +36,17 @@ class ExecutionRuntimeModule extends AbstractExecutionRuntimeModule {
 		return ExecutionLinkingDiagnosticMessageProvider
 	}
 	
+	override Class<? extends IQualifiedNameProvider> bindIQualifiedNameProvider() {
+		return XatkitQualifiedNameProvider
+	}
+	
+	override Class<? extends IDefaultResourceDescriptionStrategy> bindIDefaultResourceDescriptionStrategy() {
+		return XatkitResourceDescriptionStrategy
+	}
+	
+	override Class<? extends IResourceDescription.Manager> bindIResourceDescription$Manager() {
+		return XatkitResourceDescriptionManager
+	}
+	
 	
 }
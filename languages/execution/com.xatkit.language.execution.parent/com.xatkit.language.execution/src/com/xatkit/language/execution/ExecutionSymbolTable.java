@@ -0,0 +1,617 @@
+package com.xatkit.language.execution;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+import com.xatkit.common.ImportDeclaration;
+import com.xatkit.execution.ExecutionModel;
+import com.xatkit.execution.ExecutionPackage;
+import com.xatkit.intent.Context;
+import com.xatkit.intent.ContextParameter;
+import com.xatkit.intent.EventDefinition;
+import com.xatkit.intent.Library;
+import com.xatkit.language.platform.EffectivePlatformTable;
+import com.xatkit.platform.EventProviderDefinition;
+import com.xatkit.platform.PlatformDefinition;
+import com.xatkit.utils.XatkitImportHelper;
+
+/**
+ * A symbol table indexing the elements imported by an {@link ExecutionModel}.
+ * <p>
+ * This table maps names to the imported {@link PlatformDefinition}s, {@link EventProviderDefinition}s,
+ * {@link EventDefinition}s (including {@code IntentDefinition}s), and out {@link Context}s, and provides constant-time
+ * lookups for the validators, linking services, and highlighting calculators of the language. The table also indexes
+ * the names of the parameters of each out {@link Context} (including the contexts defined at the provider level),
+ * allowing to check {@code context.get("...").get("...")} accesses without iterating the imported contexts.
+ * <p>
+ * The table is attached to its {@link ExecutionModel} as an {@link Adapter}, and is built from the top-level elements
+ * returned by {@link XatkitImportHelper#getImportedElements(ExecutionModel)}. The imports are not resolved again
+ * until the table is invalidated: the adapter listens to the imports of the model (adding, removing, or updating an
+ * import invalidates the table) and to the {@link Resource}s added to its {@link ResourceSet} (which may resolve an
+ * import that could not be loaded). Reloading an imported file (e.g. when {@link XatkitImportHelper} resolves an
+ * outdated import) unloads or replaces its {@link Resource}, and is detected by {@link #get(ExecutionModel)} with an
+ * identity check on the {@link Resource}s of the indexed elements, without accessing the file system.
+ * <p>
+ * Names are resolved in the declaration order of the imports: if several imported elements have the same name the
+ * lookup methods return the first one.
+ *
+ * @see ExecutionUtils
+ */
+public class ExecutionSymbolTable {
+
+	/**
+	 * Returns the {@link ExecutionSymbolTable} of the provided {@code executionModel}.
+	 * <p>
+	 * This method builds a new table if the provided {@code executionModel} does not have one, or if its current table
+	 * has been invalidated. Retrieving a valid table does not resolve the imports of the model.
+	 * <p>
+	 * The table is built without holding a lock: the notifications received while the imports are resolved (including
+	 * the ones sent by {@link XatkitImportHelper} when it reloads an import) invalidate the built table, which is
+	 * rebuilt by the next call.
+	 *
+	 * @param executionModel the {@link ExecutionModel} to retrieve the symbol table of
+	 * @return the up-to-date {@link ExecutionSymbolTable} of the provided {@code executionModel}
+	 */
+	public static ExecutionSymbolTable get(ExecutionModel executionModel) {
+		SymbolTableAdapter adapter = getOrCreateAdapter(executionModel);
+		ExecutionSymbolTable table = adapter.symbolTable;
+		if (nonNull(table) && table.isValid(executionModel, adapter)) {
+			return table;
+		}
+		adapter.observeImports();
+		long modificationCount = adapter.modificationCount.get();
+		List<EObject> importedElements = new ArrayList<>(
+				XatkitImportHelper.getInstance().getImportedElements(executionModel));
+		table = new ExecutionSymbolTable(importedElements, modificationCount);
+		adapter.symbolTable = table;
+		return table;
+	}
+
+	/**
+	 * Returns the {@link SymbolTableAdapter} attached to the provided {@code executionModel}.
+	 * <p>
+	 * This method creates and attaches a new {@link SymbolTableAdapter} if the provided {@code executionModel} does
+	 * not contain one, and attaches a {@link ResourceSetObserver} forwarding the notifications of the
+	 * {@link ResourceSet} containing the {@code executionModel} to the created adapter.
+	 *
+	 * @param executionModel the {@link ExecutionModel} to retrieve the adapter of
+	 * @return the {@link SymbolTableAdapter} attached to the provided {@code executionModel}
+	 */
+	private static SymbolTableAdapter getOrCreateAdapter(ExecutionModel executionModel) {
+		synchronized (executionModel) {
+			SymbolTableAdapter adapter = (SymbolTableAdapter) EcoreUtil.getExistingAdapter(executionModel,
+					SymbolTableAdapter.class);
+			if (isNull(adapter)) {
+				adapter = new SymbolTableAdapter(executionModel);
+				executionModel.eAdapters().add(adapter);
+				ResourceSet rSet = getResourceSet(executionModel);
+				if (nonNull(rSet)) {
+					synchronized (rSet) {
+						rSet.eAdapters().add(new ResourceSetObserver(adapter));
+					}
+				}
+			}
+			return adapter;
+		}
+	}
+
+	/**
+	 * Returns the {@link ResourceSet} containing the provided {@code eObject}.
+	 *
+	 * @param eObject the {@link EObject} to retrieve the {@link ResourceSet} of
+	 * @return the {@link ResourceSet} containing the provided {@code eObject} if it exists, {@code null} otherwise
+	 */
+	private static ResourceSet getResourceSet(EObject eObject) {
+		Resource resource = eObject.eResource();
+		return isNull(resource) ? null : resource.getResourceSet();
+	}
+
+	/**
+	 * The top-level elements of the imported resources used to build this table.
+	 */
+	private List<EObject> importedElements;
+
+	/**
+	 * The modification count of the {@link SymbolTableAdapter} when the imports of this table have been resolved.
+	 * <p>
+	 * The table is invalid once the adapter has received a notification, i.e. when its modification count differs
+	 * from this one.
+	 */
+	private long modificationCount;
+
+	/**
+	 * The imported {@link PlatformDefinition}s, indexed by name.
+	 */
+	private Map<String, PlatformDefinition> platforms = new HashMap<>();
+
+	/**
+	 * The {@link EventProviderDefinition}s of the imported platforms, indexed by qualified name
+	 * ({@code <platform>.<provider>}).
+	 * <p>
+	 * This map contains the providers defined by the imported platforms, and the ones they inherit from the platforms
+	 * they (transitively) extend (see {@link EffectivePlatformTable}).
+	 */
+	private Map<String, EventProviderDefinition> eventProviderDefinitions = new LinkedHashMap<>();
+
+	/**
+	 * The {@link EventDefinition}s of the imported libraries, indexed by name.
+	 */
+	private Map<String, EventDefinition> libraryEventDefinitions = new HashMap<>();
+
+	/**
+	 * The {@link EventDefinition}s of the imported platforms, indexed by name.
+	 */
+	private Map<String, EventDefinition> platformEventDefinitions = new HashMap<>();
+
+	/**
+	 * The out {@link Context}s of the imported {@link EventDefinition}s, indexed by name.
+	 */
+	private Map<String, List<Context>> eventDefinitionOutContexts = new HashMap<>();
+
+	/**
+	 * The names of the parameters of the out {@link Context}s of the imported {@link EventDefinition}s and
+	 * {@link EventProviderDefinition}s, indexed by context name.
+	 * <p>
+	 * Parameters of {@link Context}s with the same name are merged in the same {@link Set}.
+	 */
+	private Map<String, Set<String>> contextParameterNames = new HashMap<>();
+
+	/**
+	 * The {@link EventDefinition}s of the imported libraries.
+	 */
+	private List<EventDefinition> libraryEventDefinitionList = new ArrayList<>();
+
+	/**
+	 * The {@link EventDefinition}s of the imported platforms.
+	 */
+	private List<EventDefinition> platformEventDefinitionList = new ArrayList<>();
+
+	/**
+	 * The {@link EventProviderDefinition}s of the imported platforms, including the inherited ones.
+	 */
+	private List<EventProviderDefinition> eventProviderDefinitionList = new ArrayList<>();
+
+	/**
+	 * The out {@link Context}s of the imported {@link EventDefinition}s and {@link EventProviderDefinition}s.
+	 */
+	private List<Context> outContextList = new ArrayList<>();
+
+	/**
+	 * Constructs a new {@link ExecutionSymbolTable} indexing the provided {@code importedElements}.
+	 * <p>
+	 * This method is private, use {@link #get(ExecutionModel)} to retrieve the table of a given
+	 * {@link ExecutionModel}.
+	 *
+	 * @param importedElements  the top-level elements of the imported resources to index
+	 * @param modificationCount the modification count of the {@link SymbolTableAdapter} when the imports have been
+	 *                          resolved
+	 */
+	private ExecutionSymbolTable(List<EObject> importedElements, long modificationCount) {
+		this.importedElements = importedElements;
+		this.modificationCount = modificationCount;
+		Set<EventProviderDefinition> indexedEventProviderDefinitions = Collections
+				.newSetFromMap(new IdentityHashMap<>());
+		for (EObject importedElement : importedElements) {
+			if (importedElement instanceof Library) {
+				for (EventDefinition eventDefinition : ((Library) importedElement).getEventDefinitions()) {
+					libraryEventDefinitionList.add(eventDefinition);
+					libraryEventDefinitions.putIfAbsent(eventDefinition.getName(), eventDefinition);
+				}
+			}
+		}
+		for (EObject importedElement : importedElements) {
+			if (importedElement instanceof PlatformDefinition) {
+				PlatformDefinition platformDefinition = (PlatformDefinition) importedElement;
+				platforms.putIfAbsent(platformDefinition.getName(), platformDefinition);
+				/*
+				 * Index the providers inherited from the extended platforms with the name of the imported platform
+				 * (e.g. Child.InheritedProvider).
+				 */
+				for (EventProviderDefinition eventProviderDefinition : EffectivePlatformTable.get(platformDefinition)
+						.getEventProviderDefinitions()) {
+					eventProviderDefinitions.putIfAbsent(
+							getQualifiedName(platformDefinition.getName(), eventProviderDefinition.getName()),
+							eventProviderDefinition);
+					if (!indexedEventProviderDefinitions.add(eventProviderDefinition)) {
+						/*
+						 * The provider is inherited by several imported platforms, or its platform is also imported.
+						 */
+						continue;
+					}
+					eventProviderDefinitionList.add(eventProviderDefinition);
+					for (EventDefinition eventDefinition : eventProviderDefinition.getEventDefinitions()) {
+						platformEventDefinitionList.add(eventDefinition);
+						platformEventDefinitions.putIfAbsent(eventDefinition.getName(), eventDefinition);
+					}
+				}
+			}
+		}
+		for (EventDefinition eventDefinition : getEventDefinitions()) {
+			for (Context context : eventDefinition.getOutContexts()) {
+				outContextList.add(context);
+				eventDefinitionOutContexts.computeIfAbsent(context.getName(), name -> new ArrayList<>()).add(context);
+			}
+		}
+		/*
+		 * Add the out contexts created by the EventProviderDefinitions (defined at the provider level)
+		 */
+		for (EventProviderDefinition eventProviderDefinition : eventProviderDefinitionList) {
+			outContextList.addAll(eventProviderDefinition.getOutContexts());
+		}
+		for (Context context : outContextList) {
+			Set<String> parameterNames = contextParameterNames.computeIfAbsent(context.getName(),
+					name -> new HashSet<>());
+			for (ContextParameter parameter : context.getParameters()) {
+				parameterNames.add(parameter.getName());
+			}
+		}
+	}
+
+	/**
+	 * Returns whether this table is still valid for the provided {@code executionModel}.
+	 * <p>
+	 * A table is invalid if its {@code adapter} has received a notification since it has been built, or if one of its
+	 * indexed elements has been unloaded or removed from the {@link ResourceSet} of the {@code executionModel}.
+	 * Shared core {@link Resource}s (see {@link XatkitImportHelper#isSharedCoreResource(Resource)}) are not contained
+	 * in the {@link ResourceSet}: they are valid as long as they are the ones registered for their URI.
+	 * <p>
+	 * This method does not resolve the imports of the {@code executionModel}, and does not access the file system.
+	 *
+	 * @param executionModel the {@link ExecutionModel} to check the table of
+	 * @param adapter        the {@link SymbolTableAdapter} storing the table
+	 * @return {@code true} if the table is valid, {@code false} otherwise
+	 */
+	private boolean isValid(ExecutionModel executionModel, SymbolTableAdapter adapter) {
+		if (modificationCount != adapter.modificationCount.get()) {
+			return false;
+		}
+		ResourceSet rSet = getResourceSet(executionModel);
+		for (EObject importedElement : importedElements) {
+			Resource resource = importedElement.eResource();
+			if (isNull(resource)) {
+				return false;
+			}
+			if (resource.getResourceSet() != rSet && (isNull(rSet)
+					|| !XatkitImportHelper.getInstance().isSharedCoreResource(resource)
+					|| rSet.getResource(resource.getURI(), false) != resource)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the imported {@link PlatformDefinition} with the provided {@code platformName}.
+	 *
+	 * @param platformName the name of the {@link PlatformDefinition} to retrieve
+	 * @return the imported {@link PlatformDefinition} if it exists, {@code null} otherwise
+	 */
+	public PlatformDefinition getPlatform(String platformName) {
+		return platforms.get(platformName);
+	}
+
+	/**
+	 * Returns the {@link EventProviderDefinition} with the provided {@code eventProviderName} defined in the imported
+	 * platform {@code platformName}.
+	 *
+	 * @param platformName      the name of the platform containing the {@link EventProviderDefinition} to retrieve
+	 * @param eventProviderName the name of the {@link EventProviderDefinition} to retrieve
+	 * @return the {@link EventProviderDefinition} if it exists, {@code null} otherwise
+	 */
+	public EventProviderDefinition getEventProviderDefinition(String platformName, String eventProviderName) {
+		return eventProviderDefinitions.get(getQualifiedName(platformName, eventProviderName));
+	}
+
+	/**
+	 * Returns the qualified names ({@code <platform>.<provider>}) of the {@link EventProviderDefinition}s of the
+	 * imported platforms.
+	 * <p>
+	 * The returned names include the providers inherited by the imported platforms, qualified with the name of the
+	 * imported platform (e.g. {@code Child.InheritedProvider}).
+	 *
+	 * @return an unmodifiable {@link Set} containing the qualified names of the providers, in import order
+	 */
+	public Set<String> getEventProviderDefinitionNames() {
+		return Collections.unmodifiableSet(eventProviderDefinitions.keySet());
+	}
+
+	/**
+	 * Returns the {@link EventProviderDefinition}s of the imported platforms.
+	 *
+	 * @return an unmodifiable {@link List} containing the {@link EventProviderDefinition}s of the imported platforms
+	 */
+	public List<EventProviderDefinition> getEventProviderDefinitions() {
+		return Collections.unmodifiableList(eventProviderDefinitionList);
+	}
+
+	/**
+	 * Returns the {@link EventDefinition} with the provided {@code eventDefinitionName} defined in the imported
+	 * libraries.
+	 *
+	 * @param eventDefinitionName the name of the {@link EventDefinition} to retrieve
+	 * @return the {@link EventDefinition} if it exists, {@code null} otherwise
+	 */
+	public EventDefinition getLibraryEventDefinition(String eventDefinitionName) {
+		return libraryEventDefinitions.get(eventDefinitionName);
+	}
+
+	/**
+	 * Returns the {@link EventDefinition} with the provided {@code eventDefinitionName} defined in the imported
+	 * platforms.
+	 *
+	 * @param eventDefinitionName the name of the {@link EventDefinition} to retrieve
+	 * @return the {@link EventDefinition} if it exists, {@code null} otherwise
+	 */
+	public EventDefinition getPlatformEventDefinition(String eventDefinitionName) {
+		return platformEventDefinitions.get(eventDefinitionName);
+	}
+
+	/**
+	 * Returns the {@link EventDefinition}s of the imported libraries.
+	 *
+	 * @return an unmodifiable {@link List} containing the {@link EventDefinition}s of the imported libraries
+	 */
+	public List<EventDefinition> getLibraryEventDefinitions() {
+		return Collections.unmodifiableList(libraryEventDefinitionList);
+	}
+
+	/**
+	 * Returns the {@link EventDefinition}s of the imported platforms.
+	 *
+	 * @return an unmodifiable {@link List} containing the {@link EventDefinition}s of the imported platforms
+	 */
+	public List<EventDefinition> getPlatformEventDefinitions() {
+		return Collections.unmodifiableList(platformEventDefinitionList);
+	}
+
+	/**
+	 * Returns the {@link EventDefinition}s of the imported libraries and platforms.
+	 *
+	 * @return a {@link Collection} containing the {@link EventDefinition}s of the imported libraries and platforms
+	 */
+	public Collection<EventDefinition> getEventDefinitions() {
+		List<EventDefinition> result = new ArrayList<>(libraryEventDefinitionList);
+		result.addAll(platformEventDefinitionList);
+		return result;
+	}
+
+	/**
+	 * Returns the out {@link Context}s with the provided {@code contextName} defined by the imported
+	 * {@link EventDefinition}s.
+	 *
+	 * @param contextName the name of the {@link Context}s to retrieve
+	 * @return an unmodifiable {@link List} containing the retrieved {@link Context}s
+	 */
+	public List<Context> getEventDefinitionOutContexts(String contextName) {
+		List<Context> result = eventDefinitionOutContexts.get(contextName);
+		return isNull(result) ? Collections.emptyList() : Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Returns the out {@link Context}s of the imported {@link EventDefinition}s and {@link EventProviderDefinition}s.
+	 *
+	 * @return an unmodifiable {@link List} containing the out {@link Context}s of the imported elements
+	 */
+	public List<Context> getOutContexts() {
+		return Collections.unmodifiableList(outContextList);
+	}
+
+	/**
+	 * Returns whether an imported {@link EventDefinition} or {@link EventProviderDefinition} defines an out
+	 * {@link Context} with the provided {@code contextName}.
+	 *
+	 * @param contextName the name of the {@link Context} to check
+	 * @return {@code true} if the {@link Context} exists, {@code false} otherwise
+	 */
+	public boolean containsContext(String contextName) {
+		return contextParameterNames.containsKey(contextName);
+	}
+
+	/**
+	 * Returns whether an out {@link Context} named {@code contextName} defines a parameter named
+	 * {@code parameterName}.
+	 * <p>
+	 * This method considers all the out {@link Context}s of the imported {@link EventDefinition}s and
+	 * {@link EventProviderDefinition}s: the parameter may be defined in any of the {@link Context}s named
+	 * {@code contextName}.
+	 *
+	 * @param contextName   the name of the {@link Context} containing the parameter
+	 * @param parameterName the name of the parameter to check
+	 * @return {@code true} if the parameter exists, {@code false} otherwise
+	 */
+	public boolean containsContextParameter(String contextName, String parameterName) {
+		Set<String> parameterNames = contextParameterNames.get(contextName);
+		return !isNull(parameterNames) && parameterNames.contains(parameterName);
+	}
+
+	/**
+	 * Returns the qualified name of the provided {@code eventProviderName} in the platform {@code platformName}.
+	 *
+	 * @param platformName      the name of the platform containing the provider
+	 * @param eventProviderName the name of the provider
+	 * @return the qualified name of the provider
+	 */
+	private static String getQualifiedName(String platformName, String eventProviderName) {
+		return platformName + "." + eventProviderName;
+	}
+
+	/**
+	 * The {@link Adapter} storing the {@link ExecutionSymbolTable} of an {@link ExecutionModel}.
+	 * <p>
+	 * This adapter is attached to the {@link ExecutionModel} and its {@link ImportDeclaration}s, receives the
+	 * notifications of its {@link ResourceSet} through a {@link ResourceSetObserver}, and increments its modification
+	 * count when it receives a notification that may change the imported elements. Notifications may be sent by any
+	 * thread resolving imports in the {@link ResourceSet}: they do not lock the adapter.
+	 */
+	private static class SymbolTableAdapter extends AdapterImpl {
+
+		/**
+		 * The adapted {@link ExecutionModel}.
+		 */
+		private final ExecutionModel executionModel;
+
+		/**
+		 * The current {@link ExecutionSymbolTable} of the adapted {@link ExecutionModel}.
+		 */
+		private volatile ExecutionSymbolTable symbolTable;
+
+		/**
+		 * The number of notifications invalidating the table received by this adapter.
+		 */
+		private final AtomicLong modificationCount = new AtomicLong();
+
+		/**
+		 * Constructs a new {@link SymbolTableAdapter} for the provided {@code executionModel}.
+		 *
+		 * @param executionModel the {@link ExecutionModel} to adapt
+		 */
+		private SymbolTableAdapter(ExecutionModel executionModel) {
+			this.executionModel = executionModel;
+		}
+
+		/**
+		 * Attaches this adapter to the {@link ImportDeclaration}s of the adapted {@link ExecutionModel}.
+		 * <p>
+		 * This allows to invalidate the table when the path or the alias of an import is updated.
+		 */
+		private void observeImports() {
+			synchronized (executionModel) {
+				for (ImportDeclaration importDeclaration : executionModel.getImports()) {
+					if (!importDeclaration.eAdapters().contains(this)) {
+						importDeclaration.eAdapters().add(this);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Invalidates the table if the provided {@code notification} updates the imports of the model.
+		 * <p>
+		 * The table is invalidated when an import is added, removed, or updated. Unloaded and removed imported
+		 * {@link Resource}s are detected by {@link ExecutionSymbolTable#isValid(ExecutionModel, SymbolTableAdapter)}.
+		 */
+		@Override
+		public void notifyChanged(Notification notification) {
+			if (notification.isTouch()) {
+				return;
+			}
+			if (notification.getNotifier() instanceof ImportDeclaration
+					|| notification.getFeature() == ExecutionPackage.Literals.EXECUTION_MODEL__IMPORTS) {
+				modificationCount.incrementAndGet();
+			}
+		}
+
+		/**
+		 * Invalidates the table if a {@link Resource} added to the {@link ResourceSet} may resolve an import of the
+		 * model.
+		 * <p>
+		 * This method is called by the {@link ResourceSetObserver} of the adapter.
+		 */
+		private void resourceAdded() {
+			if (hasUnresolvedImports()) {
+				modificationCount.incrementAndGet();
+			}
+		}
+
+		/**
+		 * Returns whether the current table of the adapted {@link ExecutionModel} misses some of its imports.
+		 *
+		 * @return {@code true} if the table does not exist or does not index an element for each import of the model,
+		 *         {@code false} otherwise
+		 */
+		private boolean hasUnresolvedImports() {
+			ExecutionSymbolTable table = symbolTable;
+			return isNull(table) || table.importedElements.size() < executionModel.getImports().size();
+		}
+
+		@Override
+		public void setTarget(Notifier newTarget) {
+			/*
+			 * This adapter is attached to several notifiers, and only uses the adapted ExecutionModel.
+			 */
+		}
+
+		@Override
+		public void unsetTarget(Notifier oldTarget) {
+			/*
+			 * This adapter is attached to several notifiers, and only uses the adapted ExecutionModel.
+			 */
+		}
+
+		@Override
+		public boolean isAdapterForType(Object type) {
+			return type == SymbolTableAdapter.class;
+		}
+	}
+
+	/**
+	 * The {@link Adapter} forwarding the {@link Resource}s added to a {@link ResourceSet} to a
+	 * {@link SymbolTableAdapter}.
+	 * <p>
+	 * The observer weakly references its {@link SymbolTableAdapter}, and removes itself from the {@link ResourceSet}
+	 * once the adapted {@link ExecutionModel} has been collected or is not contained in the {@link ResourceSet}
+	 * anymore (e.g. when its resource has been reparsed). This ensures that the {@link ResourceSet} does not retain
+	 * outdated models.
+	 */
+	private static class ResourceSetObserver extends AdapterImpl {
+
+		/**
+		 * The {@link SymbolTableAdapter} to notify.
+		 */
+		private final WeakReference<SymbolTableAdapter> adapter;
+
+		/**
+		 * Constructs a new {@link ResourceSetObserver} notifying the provided {@code adapter}.
+		 *
+		 * @param adapter the {@link SymbolTableAdapter} to notify
+		 */
+		private ResourceSetObserver(SymbolTableAdapter adapter) {
+			this.adapter = new WeakReference<>(adapter);
+		}
+
+		@Override
+		public void notifyChanged(Notification notification) {
+			if (notification.isTouch()
+					|| notification.getFeatureID(ResourceSet.class) != ResourceSet.RESOURCE_SET__RESOURCES) {
+				return;
+			}
+			ResourceSet rSet = (ResourceSet) notification.getNotifier();
+			SymbolTableAdapter symbolTableAdapter = adapter.get();
+			if (isNull(symbolTableAdapter) || getResourceSet(symbolTableAdapter.executionModel) != rSet) {
+				/*
+				 * The adapter list of the ResourceSet supports the removal of an adapter while it is notified.
+				 */
+				synchronized (rSet) {
+					rSet.eAdapters().remove(this);
+				}
+				return;
+			}
+			if (notification.getEventType() == Notification.ADD
+					|| notification.getEventType() == Notification.ADD_MANY) {
+				symbolTableAdapter.resourceAdded();
+			}
+		}
+	}
+}
@@ -2,10 +2,7 @@ package com.xatkit.language.execution;
 
 import static java.util.Objects.nonNull;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
-import java.util.Optional;
 
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.emf.ecore.EObject;
@@ -16,7 +13,6 @@ import com.xatkit.intent.EventDefinition;
 import com.xatkit.intent.Library;
 import com.xatkit.platform.EventProviderDefinition;
 import com.xatkit.platform.PlatformDefinition;
-import com.xatkit.utils.XatkitImportHelper;
 
 /**
  * A set of utility methods to manipulate Execution models.
@@ -100,11 +96,10 @@ public class ExecutionUtils {
 	 * 
 	 * @see #getEventDefinitionsFromImportedLibraries(ExecutionModel)
 	 * @see #getEventDefinitionsFromImportedPlatforms(ExecutionModel)
+	 * @see ExecutionSymbolTable
 	 */
 	public static Collection<EventDefinition> getEventDefinitionsFromImports(ExecutionModel executionModel) {
-		Collection<EventDefinition> result = getEventDefinitionsFromImportedLibraries(executionModel);
-		result.addAll(getEventDefinitionsFromImportedPlatforms(executionModel));
-		return result;
+		return ExecutionSymbolTable.get(executionModel).getEventDefinitions();
 	}
 
 	/**
@@ -113,14 +108,10 @@ public class ExecutionUtils {
 	 * @param executionModel the {@link ExecutionModel} containing the imports to look at
 	 * @return the retrieved {@link EventDefinition}s
 	 * @see #getEventDefinitionsFromImportedPlatforms(ExecutionModel)
+	 * @see ExecutionSymbolTable
 	 */
 	public static Collection<EventDefinition> getEventDefinitionsFromImportedLibraries(ExecutionModel executionModel) {
-		List<EventDefinition> eventDefinitions = new ArrayList<>();
-		Collection<Library> libraries = XatkitImportHelper.getInstance().getImportedLibraries(executionModel);
-		for (Library library : libraries) {
-			eventDefinitions.addAll(library.getEventDefinitions());
-		}
-		return eventDefinitions;
+		return ExecutionSymbolTable.get(executionModel).getLibraryEventDefinitions();
 	}
 
 	/**
@@ -130,17 +121,10 @@ public class ExecutionUtils {
 	 * 
 	 * @return the retrieved {@link EventDefinition}s
 	 * @see #getEventDefinitionsFromImportedLibraries(ExecutionModel)
+	 * @see ExecutionSymbolTable
 	 */
 	public static Collection<EventDefinition> getEventDefinitionsFromImportedPlatforms(ExecutionModel executionModel) {
-		List<EventDefinition> eventDefinitions = new ArrayList<>();
-		Collection<PlatformDefinition> platformDefinitions = XatkitImportHelper.getInstance()
-				.getImportedPlatforms(executionModel);
-		for (PlatformDefinition platformDefinition : platformDefinitions) {
-			for (EventProviderDefinition eventProviderDefinition : platformDefinition.getEventProviderDefinitions()) {
-				eventDefinitions.addAll(eventProviderDefinition.getEventDefinitions());
-			}
-		}
-		return eventDefinitions;
+		return ExecutionSymbolTable.get(executionModel).getPlatformEventDefinitions();
 	}
 
 	/**
@@ -153,9 +137,7 @@ public class ExecutionUtils {
 	 */
 	public static EventDefinition getEventDefinitionFromImportedLibraries(ExecutionModel executionModel,
 			String eventDefinitionName) {
-		Optional<EventDefinition> result = getEventDefinitionsFromImportedLibraries(executionModel).stream()
-				.filter(e -> e.getName().equals(eventDefinitionName)).findAny();
-		return result.orElseGet(() -> null);
+		return ExecutionSymbolTable.get(executionModel).getLibraryEventDefinition(eventDefinitionName);
 	}
 
 	/**
@@ -168,9 +150,7 @@ public class ExecutionUtils {
 	 */
 	public static EventDefinition getEventDefinitionFromImportedPlatforms(ExecutionModel executionModel,
 			String eventDefinitionName) {
-		Optional<EventDefinition> result = getEventDefinitionsFromImportedPlatforms(executionModel).stream()
-				.filter(e -> e.getName().equals(eventDefinitionName)).findAny();
-		return result.orElseGet(() -> null);
+		return ExecutionSymbolTable.get(executionModel).getPlatformEventDefinition(eventDefinitionName);
 	}
 
 	/**
@@ -181,13 +161,7 @@ public class ExecutionUtils {
 	 */
 	public static Collection<EventProviderDefinition> getEventProviderDefinitionsFromImportedPlatforms(
 			ExecutionModel executionModel) {
-		List<EventProviderDefinition> eventProviderDefinitions = new ArrayList<>();
-		Collection<PlatformDefinition> platformDefinitions = XatkitImportHelper.getInstance()
-				.getImportedPlatforms(executionModel);
-		for (PlatformDefinition platformDefinition : platformDefinitions) {
-			eventProviderDefinitions.addAll(platformDefinition.getEventProviderDefinitions());
-		}
-		return eventProviderDefinitions;
+		return ExecutionSymbolTable.get(executionModel).getEventProviderDefinitions();
 	}
 
 	/**
@@ -200,16 +174,6 @@ public class ExecutionUtils {
 	 * @return the retrieved {@link Context} instances
 	 */
 	public static Collection<Context> getOutContextsFromImports(ExecutionModel executionModel) {
-		List<Context> results = new ArrayList<Context>();
-		for (EventDefinition eventDefinition : getEventDefinitionsFromImports(executionModel)) {
-			results.addAll(eventDefinition.getOutContexts());
-		}
-		/*
-		 * Add the out contexts created by the EventProviderDefinitions (defined at the provider level)
-		 */
-		for (EventProviderDefinition eventProvider : getEventProviderDefinitionsFromImportedPlatforms(executionModel)) {
-			results.addAll(eventProvider.getOutContexts());
-		}
-		return results;
+		return ExecutionSymbolTable.get(executionModel).getOutContexts();
 	}
 }
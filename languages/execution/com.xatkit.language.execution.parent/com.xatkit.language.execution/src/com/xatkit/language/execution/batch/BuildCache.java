@@ -0,0 +1,245 @@
+package com.xatkit.language.execution.batch;
+
+import static java.text.MessageFormat.format;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.log4j.Logger;
+
+/**
+ * A persistent cache storing the files successfully processed by the {@link XatkitBatchCompiler}.
+ * <p>
+ * Each entry of the cache stores the content hash of a processed file, as well as the content hashes of the files it
+ * depends on (i.e. the files loaded in its {@code ResourceSet} when it was processed, including its imports). A file
+ * is up-to-date if its content and the content of all its dependencies are unchanged, in which case it doesn't need to
+ * be validated and generated again.
+ * <p>
+ * Files processed with errors are not stored in the cache, and are processed again by the next builds. The cache
+ * also stores the configuration of the build that produced it (e.g. the output directory and the generation options):
+ * a cache produced with a different configuration is discarded. Use {@link #read(File, String)} to load a cache from
+ * the file system.
+ */
+class BuildCache implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final Logger log = Logger.getLogger(BuildCache.class);
+
+	/**
+	 * The version of the cache format.
+	 * <p>
+	 * Persisted caches with a different version are ignored.
+	 */
+	private static final int CACHE_VERSION = 2;
+
+	/**
+	 * Reads the {@link BuildCache} stored in the provided {@code cacheFile}.
+	 *
+	 * @param cacheFile     the {@link File} to read the cache from
+	 * @param configuration the configuration of the current build
+	 * @return the read {@link BuildCache}, or an empty {@link BuildCache} if the file doesn't exist, cannot be read,
+	 *         or has been produced with a different {@code configuration}
+	 */
+	static BuildCache read(File cacheFile, String configuration) {
+		if (cacheFile.exists()) {
+			try (ObjectInputStream ois = new ObjectInputStream(Files.newInputStream(cacheFile.toPath()))) {
+				Object read = ois.readObject();
+				if (read instanceof BuildCache && ((BuildCache) read).version == CACHE_VERSION
+						&& configuration.equals(((BuildCache) read).configuration)) {
+					return (BuildCache) read;
+				}
+			} catch (IOException | ClassNotFoundException e) {
+				log.warn(format("Cannot read the build cache {0}, all the files will be processed", cacheFile));
+			}
+		}
+		return new BuildCache(configuration);
+	}
+
+	/**
+	 * The version of the cache format.
+	 */
+	private int version = CACHE_VERSION;
+
+	/**
+	 * The configuration of the build that produced the cache.
+	 */
+	private String configuration;
+
+	/**
+	 * The entries of the cache, indexed by the absolute path of their file.
+	 */
+	private Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * The content hashes computed during the current build, indexed by absolute file path.
+	 * <p>
+	 * This {@link Map} avoids to hash the same dependency multiple times during a build.
+	 */
+	private transient Map<String, String> currentHashes;
+
+	/**
+	 * Constructs an empty {@link BuildCache}.
+	 * <p>
+	 * This method is private, use {@link #read(File, String)} to load a cache from the file system.
+	 *
+	 * @param configuration the configuration of the current build
+	 */
+	private BuildCache(String configuration) {
+		this.configuration = configuration;
+	}
+
+	/**
+	 * Writes this cache to the provided {@code cacheFile}.
+	 *
+	 * @param cacheFile the {@link File} to write the cache to
+	 */
+	void write(File cacheFile) {
+		try {
+			File parent = cacheFile.getAbsoluteFile().getParentFile();
+			if (nonNull(parent)) {
+				Files.createDirectories(parent.toPath());
+			}
+			try (ObjectOutputStream oos = new ObjectOutputStream(Files.newOutputStream(cacheFile.toPath()))) {
+				oos.writeObject(this);
+			}
+		} catch (IOException e) {
+			log.warn(format("Cannot write the build cache {0}", cacheFile), e);
+		}
+	}
+
+	/**
+	 * Returns whether the provided {@code file} and its dependencies are unchanged since it has been processed.
+	 *
+	 * @param file the file to check
+	 * @return {@code true} if the file is up-to-date, {@code false} otherwise
+	 */
+	boolean isUpToDate(Path file) {
+		Entry entry = entries.get(file.toString());
+		if (isNull(entry) || !entry.hash.equals(getHash(file))) {
+			return false;
+		}
+		for (Map.Entry<String, String> dependency : entry.dependencies.entrySet()) {
+			if (!dependency.getValue().equals(getHash(Paths.get(dependency.getKey())))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Records that the provided {@code file} has been successfully processed.
+	 *
+	 * @param file         the processed file
+	 * @param dependencies the files loaded to process the provided {@code file}
+	 */
+	void update(Path file, Iterable<Path> dependencies) {
+		String hash = getHash(file);
+		if (isNull(hash)) {
+			entries.remove(file.toString());
+			return;
+		}
+		Entry entry = new Entry(hash);
+		for (Path dependency : dependencies) {
+			String dependencyHash = getHash(dependency);
+			if (isNull(dependencyHash)) {
+				/*
+				 * The dependency cannot be read, the file will be processed again in the next build.
+				 */
+				entries.remove(file.toString());
+				return;
+			}
+			entry.dependencies.put(dependency.toString(), dependencyHash);
+		}
+		entries.put(file.toString(), entry);
+	}
+
+	/**
+	 * Removes the provided {@code file} from the cache.
+	 *
+	 * @param file the file to remove
+	 */
+	void remove(Path file) {
+		entries.remove(file.toString());
+	}
+
+	/**
+	 * Returns the content hash of the provided {@code file}.
+	 * <p>
+	 * Hashes are computed once per build, files are expected to not be modified while the build is running.
+	 *
+	 * @param file the file to compute the hash of
+	 * @return the hexadecimal SHA-256 hash of the file content, or {@code null} if the file cannot be read
+	 */
+	private String getHash(Path file) {
+		synchronized (this) {
+			if (isNull(currentHashes)) {
+				currentHashes = new ConcurrentHashMap<>();
+			}
+		}
+		String key = file.toString();
+		String hash = currentHashes.get(key);
+		if (isNull(hash)) {
+			hash = computeHash(file);
+			if (isNull(hash)) {
+				return null;
+			}
+			currentHashes.put(key, hash);
+		}
+		return hash;
+	}
+
+	/**
+	 * Computes the content hash of the provided {@code file}.
+	 *
+	 * @param file the file to compute the hash of
+	 * @return the hexadecimal SHA-256 hash of the file content, or {@code null} if the file cannot be read
+	 */
+	private static String computeHash(Path file) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(file));
+			StringBuilder sb = new StringBuilder();
+			for (byte b : digest) {
+				sb.append(String.format("%02x", b));
+			}
+			return sb.toString();
+		} catch (IOException | NoSuchAlgorithmException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * A cache entry storing the content hashes of a processed file and its dependencies.
+	 */
+	private static final class Entry implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The content hash of the file.
+		 */
+		private final String hash;
+
+		/**
+		 * The content hashes of the dependencies of the file, indexed by absolute file path.
+		 */
+		private final Map<String, String> dependencies = new HashMap<>();
+
+		private Entry(String hash) {
+			this.hash = hash;
+		}
+	}
+}
@@ -0,0 +1,501 @@
+package com.xatkit.language.execution.batch;
+
+import static java.text.MessageFormat.format;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.xtext.diagnostics.Severity;
+import org.eclipse.xtext.generator.GeneratorContext;
+import org.eclipse.xtext.generator.GeneratorDelegate;
+import org.eclipse.xtext.generator.IFileSystemAccess;
+import org.eclipse.xtext.generator.JavaIoFileSystemAccess;
+import org.eclipse.xtext.resource.IResourceServiceProvider;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.validation.CheckMode;
+import org.eclipse.xtext.validation.Issue;
+
+import com.xatkit.common.ImportDeclaration;
+import com.xatkit.execution.ExecutionModel;
+import com.xatkit.language.execution.ExecutionStandaloneSetup;
+import com.xatkit.language.intent.IntentStandaloneSetup;
+import com.xatkit.language.platform.PlatformStandaloneSetup;
+import com.xatkit.platform.PlatformDefinition;
+import com.xatkit.utils.XatkitImportHelper;
+
+/**
+ * A headless compiler validating and generating the Xatkit files of a bot workspace.
+ * <p>
+ * This compiler looks for the {@code .intent}, {@code .platform}, and {@code .execution} files contained in the
+ * provided directories, and processes them without an Eclipse workspace: each file is loaded in its own
+ * {@link XtextResourceSet}, its imports are resolved with the {@link XatkitImportHelper}, and it is validated (with
+ * {@link CheckMode#ALL}) and generated in the output directory if it does not contain errors. Files are processed in
+ * parallel, and the files that are unchanged since the last build (as well as the files they depend on) are skipped
+ * (see {@link BuildCache}). The cache is ignored if the output directory or the classpath are different from the
+ * ones of the last build.
+ * <p>
+ * This class can be executed from the command line:
+ *
+ * <pre>
+ * XatkitBatchCompiler [-o &lt;output directory&gt;] [-j &lt;threads&gt;] [-cp &lt;classpath&gt;] [--cache &lt;file&gt; | --no-cache] &lt;file or directory&gt;...
+ * </pre>
+ *
+ * The {@code --classpath} option sets the classpath used to resolve the Java types referenced by the processed files
+ * (e.g. the parameter and return types of platform actions), using the platform-specific path separator.
+ * <p>
+ * The command returns {@code 0} if all the files are valid, {@code 1} if at least one of the files contains an
+ * error, and {@code 2} if the provided arguments are invalid.
+ */
+public class XatkitBatchCompiler {
+
+	/**
+	 * The exit status returned when all the processed files are valid.
+	 */
+	public static final int EXIT_SUCCESS = 0;
+
+	/**
+	 * The exit status returned when at least one of the processed files contains an error.
+	 */
+	public static final int EXIT_ERRORS = 1;
+
+	/**
+	 * The exit status returned when the command line arguments are invalid.
+	 */
+	public static final int EXIT_USAGE = 2;
+
+	/**
+	 * The default output directory of the generators.
+	 */
+	public static final String DEFAULT_OUTPUT_DIRECTORY = "xatkit-gen";
+
+	/**
+	 * The name of the build cache file, stored in the output directory by default.
+	 */
+	public static final String DEFAULT_CACHE_FILE_NAME = ".xatkit-build.cache";
+
+	/**
+	 * The extensions of the files processed by the compiler.
+	 */
+	private static final List<String> FILE_EXTENSIONS = Arrays.asList("intent", "platform", "execution");
+
+	private static final String USAGE = "Usage: XatkitBatchCompiler [-o <output directory>] [-j <threads>] "
+			+ "[-cp <classpath>] [--cache <file> | --no-cache] <file or directory>...";
+
+	private static final Logger log = Logger.getLogger(XatkitBatchCompiler.class);
+
+	/**
+	 * Runs the compiler with the provided {@code args} and exits with the returned status.
+	 *
+	 * @param args the command line arguments
+	 * @see #run(String[])
+	 */
+	public static void main(String[] args) {
+		System.exit(run(args));
+	}
+
+	/**
+	 * Runs the compiler with the provided {@code args}.
+	 *
+	 * @param args the command line arguments
+	 * @return the exit status of the compilation
+	 */
+	public static int run(String[] args) {
+		Path outputDirectory = Paths.get(DEFAULT_OUTPUT_DIRECTORY);
+		Path cacheFile = null;
+		boolean useCache = true;
+		int threads = Runtime.getRuntime().availableProcessors();
+		List<Path> classpath = new ArrayList<>();
+		List<Path> inputs = new ArrayList<>();
+		try {
+			for (int i = 0; i < args.length; i++) {
+				String arg = args[i];
+				switch (arg) {
+				case "-o":
+				case "--output":
+					outputDirectory = Paths.get(args[++i]);
+					break;
+				case "-j":
+				case "--threads":
+					threads = Integer.parseInt(args[++i]);
+					break;
+				case "-cp":
+				case "--classpath":
+					for (String entry : args[++i].split(File.pathSeparator)) {
+						if (!entry.isEmpty()) {
+							classpath.add(Paths.get(entry));
+						}
+					}
+					break;
+				case "--cache":
+					cacheFile = Paths.get(args[++i]);
+					break;
+				case "--no-cache":
+					useCache = false;
+					break;
+				default:
+					if (arg.startsWith("-")) {
+						throw new IllegalArgumentException(format("Unknown option {0}", arg));
+					}
+					inputs.add(Paths.get(arg));
+				}
+			}
+		} catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+			System.err.println(isNull(e.getMessage()) ? USAGE : e.getMessage() + "\n" + USAGE);
+			return EXIT_USAGE;
+		}
+		if (inputs.isEmpty() || threads < 1) {
+			System.err.println(USAGE);
+			return EXIT_USAGE;
+		}
+		if (useCache && isNull(cacheFile)) {
+			cacheFile = outputDirectory.resolve(DEFAULT_CACHE_FILE_NAME);
+		}
+		return new XatkitBatchCompiler(outputDirectory, useCache ? cacheFile : null, threads, classpath)
+				.compile(inputs);
+	}
+
+	/**
+	 * The output directory of the generators.
+	 */
+	private Path outputDirectory;
+
+	/**
+	 * The file storing the {@link BuildCache}, or {@code null} if the cache is disabled.
+	 */
+	private Path cacheFile;
+
+	/**
+	 * The number of files processed in parallel.
+	 */
+	private int threads;
+
+	/**
+	 * The classpath used to resolve the Java types referenced by the processed files.
+	 */
+	private List<Path> classpath;
+
+	/**
+	 * The {@link ClassLoader} used to resolve the Java types referenced by the processed files.
+	 */
+	private ClassLoader classLoader;
+
+	/**
+	 * Constructs a {@link XatkitBatchCompiler} with the provided parameters.
+	 * <p>
+	 * This constructor registers the <i>Intent</i>, <i>Platform</i>, and <i>Execution</i> languages in the EMF and
+	 * Xtext registries.
+	 *
+	 * @param outputDirectory the output directory of the generators
+	 * @param cacheFile       the file storing the {@link BuildCache}, or {@code null} to disable the cache
+	 * @param threads         the number of files processed in parallel
+	 * @param classpath       the classpath used to resolve the Java types referenced by the processed files, in
+	 *                        addition to the classpath of the compiler
+	 * @throws IllegalArgumentException if an entry of the provided {@code classpath} is not a valid path
+	 */
+	public XatkitBatchCompiler(Path outputDirectory, Path cacheFile, int threads, List<Path> classpath) {
+		this.outputDirectory = outputDirectory.toAbsolutePath();
+		this.cacheFile = cacheFile;
+		this.threads = threads;
+		this.classpath = new ArrayList<>();
+		List<URL> urls = new ArrayList<>();
+		for (Path entry : classpath) {
+			Path absoluteEntry = entry.toAbsolutePath().normalize();
+			this.classpath.add(absoluteEntry);
+			try {
+				urls.add(absoluteEntry.toUri().toURL());
+			} catch (MalformedURLException e) {
+				throw new IllegalArgumentException(format("Invalid classpath entry {0}", entry), e);
+			}
+		}
+		this.classLoader = urls.isEmpty() ? XatkitBatchCompiler.class.getClassLoader()
+				: new URLClassLoader(urls.toArray(new URL[urls.size()]), XatkitBatchCompiler.class.getClassLoader());
+		IntentStandaloneSetup.doSetup();
+		PlatformStandaloneSetup.doSetup();
+		ExecutionStandaloneSetup.doSetup();
+	}
+
+	/**
+	 * Validates and generates the Xatkit files contained in the provided {@code inputs}.
+	 * <p>
+	 * The issues found in the processed files are printed in the standard error stream.
+	 *
+	 * @param inputs the files and directories to process
+	 * @return {@link #EXIT_SUCCESS} if the processed files do not contain errors, {@link #EXIT_ERRORS} otherwise
+	 */
+	public int compile(List<Path> inputs) {
+		List<Path> files;
+		try {
+			files = collectFiles(inputs);
+		} catch (IOException e) {
+			System.err.println(format("Cannot list the input files: {0}", e.getMessage()));
+			return EXIT_ERRORS;
+		}
+		BuildCache cache = nonNull(cacheFile) ? BuildCache.read(cacheFile.toFile(), getConfiguration()) : null;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		List<Future<FileResult>> futures = new ArrayList<>();
+		try {
+			for (Path file : files) {
+				futures.add(executor.submit(() -> process(file, cache)));
+			}
+			int errorCount = 0;
+			int skippedCount = 0;
+			for (Future<FileResult> future : futures) {
+				FileResult result;
+				try {
+					result = future.get();
+				} catch (ExecutionException e) {
+					log.error("An unexpected error occurred while compiling the bot", e.getCause());
+					errorCount++;
+					continue;
+				}
+				result.issues.forEach(System.err::println);
+				errorCount += result.errorCount;
+				if (result.skipped) {
+					skippedCount++;
+				}
+			}
+			if (nonNull(cache)) {
+				cache.write(cacheFile.toFile());
+			}
+			System.out.println(format("Processed {0} file(s) ({1} up-to-date), {2} error(s)", files.size(),
+					skippedCount, errorCount));
+			return errorCount == 0 ? EXIT_SUCCESS : EXIT_ERRORS;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return EXIT_ERRORS;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Returns the configuration of the build.
+	 * <p>
+	 * The configuration contains the options changing the generated files: the output directory and the classpath.
+	 * Files processed with a different configuration are not up-to-date (see {@link BuildCache#read(File, String)}).
+	 *
+	 * @return the configuration of the build
+	 */
+	private String getConfiguration() {
+		return format("output={0};classpath={1}", outputDirectory, classpath);
+	}
+
+	/**
+	 * Returns the Xatkit files contained in the provided {@code inputs}.
+	 *
+	 * @param inputs the files and directories to look for Xatkit files
+	 * @return the absolute paths of the Xatkit files, sorted and without duplicates
+	 * @throws IOException if an error occurred when listing the content of a directory
+	 */
+	private List<Path> collectFiles(List<Path> inputs) throws IOException {
+		Set<Path> result = new LinkedHashSet<>();
+		for (Path input : inputs) {
+			if (Files.isDirectory(input)) {
+				try (Stream<Path> paths = Files.walk(input)) {
+					result.addAll(paths.filter(Files::isRegularFile).filter(this::isXatkitFile)
+							.map(p -> p.toAbsolutePath().normalize()).sorted().collect(Collectors.toList()));
+				}
+			} else if (isXatkitFile(input)) {
+				result.add(input.toAbsolutePath().normalize());
+			} else {
+				throw new IOException(format("{0} is not a directory or a Xatkit file", input));
+			}
+		}
+		return new ArrayList<>(result);
+	}
+
+	/**
+	 * Returns whether the provided {@code file} has a Xatkit file extension.
+	 *
+	 * @param file the file to check
+	 * @return {@code true} if the provided {@code file} is a Xatkit file, {@code false} otherwise
+	 */
+	private boolean isXatkitFile(Path file) {
+		String fileName = file.getFileName().toString();
+		int extensionIndex = fileName.lastIndexOf('.');
+		return extensionIndex > 0 && FILE_EXTENSIONS.contains(fileName.substring(extensionIndex + 1));
+	}
+
+	/**
+	 * Validates and generates the provided {@code file}.
+	 * <p>
+	 * The file is loaded in a dedicated {@link XtextResourceSet}, that is disposed once the file has been processed.
+	 *
+	 * @param file  the file to process
+	 * @param cache the {@link BuildCache} to check and update, or {@code null} if the cache is disabled
+	 * @return the {@link FileResult} of the processing
+	 */
+	private FileResult process(Path file, BuildCache cache) {
+		FileResult result = new FileResult();
+		if (nonNull(cache) && cache.isUpToDate(file)) {
+			result.skipped = true;
+			return result;
+		}
+		URI uri = URI.createFileURI(file.toString());
+		IResourceServiceProvider resourceServiceProvider = IResourceServiceProvider.Registry.INSTANCE
+				.getResourceServiceProvider(uri);
+		XtextResourceSet rSet = resourceServiceProvider.get(XtextResourceSet.class);
+		rSet.setClasspathURIContext(classLoader);
+		try {
+			Resource resource = rSet.getResource(uri, true);
+			resolveImports(resource);
+			List<Issue> issues = resourceServiceProvider.getResourceValidator().validate(resource, CheckMode.ALL,
+					CancelIndicator.NullImpl);
+			for (Issue issue : issues) {
+				result.issues.add(format("{0}:{1}: {2}: {3}", file, String.valueOf(issue.getLineNumber()),
+						issue.getSeverity(), issue.getMessage()));
+				if (issue.isSyntaxError() || issue.getSeverity() == Severity.ERROR) {
+					result.errorCount++;
+				}
+			}
+			if (result.errorCount == 0) {
+				generate(resource, resourceServiceProvider);
+				if (nonNull(cache)) {
+					cache.update(file, getDependencies(resource));
+				}
+			} else if (nonNull(cache)) {
+				cache.remove(file);
+			}
+		} catch (RuntimeException e) {
+			result.issues.add(format("{0}: ERROR: {1}", file, e.getMessage()));
+			result.errorCount++;
+			if (nonNull(cache)) {
+				cache.remove(file);
+			}
+		} finally {
+			XatkitImportHelper.getInstance().dispose(rSet);
+		}
+		return result;
+	}
+
+	/**
+	 * Loads the resources imported by the provided {@code resource}.
+	 * <p>
+	 * Imports are loaded before validation to ensure that all the dependencies of the {@code resource} are available
+	 * in its {@link XtextResourceSet} (see {@link #getDependencies(Resource)}).
+	 *
+	 * @param resource the {@link Resource} to load the imports of
+	 */
+	private void resolveImports(Resource resource) {
+		if (resource.getContents().isEmpty()) {
+			return;
+		}
+		EObject root = resource.getContents().get(0);
+		if (root instanceof ExecutionModel) {
+			XatkitImportHelper.getInstance().getImportedElements((ExecutionModel) root);
+		} else if (root instanceof PlatformDefinition) {
+			XatkitImportHelper.getInstance().getImportedPlatforms((PlatformDefinition) root);
+		}
+	}
+
+	/**
+	 * Generates the provided {@code resource} in the output directory.
+	 *
+	 * @param resource                the {@link Resource} to generate
+	 * @param resourceServiceProvider the {@link IResourceServiceProvider} of the language of the {@code resource}
+	 */
+	private void generate(Resource resource, IResourceServiceProvider resourceServiceProvider) {
+		GeneratorDelegate generator = resourceServiceProvider.get(GeneratorDelegate.class);
+		JavaIoFileSystemAccess fsa = resourceServiceProvider.get(JavaIoFileSystemAccess.class);
+		fsa.setOutputPath(IFileSystemAccess.DEFAULT_OUTPUT, outputDirectory.toString());
+		GeneratorContext context = new GeneratorContext();
+		context.setCancelIndicator(CancelIndicator.NullImpl);
+		generator.generate(resource, fsa, context);
+	}
+
+	/**
+	 * Returns the files the provided {@code resource} depends on.
+	 * <p>
+	 * The returned files are the local files backing the other {@link Resource}s of the {@link XtextResourceSet}
+	 * of the {@code resource}, as well as the files (transitively) imported by these {@link Resource}s and the
+	 * platforms they extend. This includes the core platforms and libraries stored in the {@code SharedCoreResources}
+	 * (see {@link XatkitImportHelper#SHARED_CORE_RESOURCES_PROPERTY}), and the aliased imports if they are stored on
+	 * the local file system.
+	 *
+	 * @param resource the processed {@link Resource}
+	 * @return the files the provided {@code resource} depends on
+	 */
+	private List<Path> getDependencies(Resource resource) {
+		Set<Resource> dependencies = new LinkedHashSet<>(resource.getResourceSet().getResources());
+		Deque<Resource> toVisit = new ArrayDeque<>(dependencies);
+		while (!toVisit.isEmpty()) {
+			Resource current = toVisit.poll();
+			if (current.getContents().isEmpty()) {
+				continue;
+			}
+			List<Resource> imported = new ArrayList<>();
+			EObject root = current.getContents().get(0);
+			for (EObject element : root.eContents()) {
+				if (element instanceof ImportDeclaration) {
+					imported.add(XatkitImportHelper.getInstance().getResourceFromImport((ImportDeclaration) element));
+				}
+			}
+			if (root instanceof PlatformDefinition && nonNull(((PlatformDefinition) root).getExtends())) {
+				imported.add(((PlatformDefinition) root).getExtends().eResource());
+			}
+			for (Resource importedResource : imported) {
+				if (nonNull(importedResource) && dependencies.add(importedResource)) {
+					toVisit.add(importedResource);
+				}
+			}
+		}
+		dependencies.remove(resource);
+		List<Path> result = new ArrayList<>();
+		for (Resource r : dependencies) {
+			ResourceSet rSet = isNull(r.getResourceSet()) ? resource.getResourceSet() : r.getResourceSet();
+			URI normalized = rSet.getURIConverter().normalize(r.getURI());
+			if (normalized.isFile()) {
+				result.add(Paths.get(normalized.toFileString()).toAbsolutePath().normalize());
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * The result of the processing of a file.
+	 */
+	private static class FileResult {
+
+		/**
+		 * The formatted issues of the file.
+		 */
+		private List<String> issues = new ArrayList<>();
+
+		/**
+		 * The number of errors of the file.
+		 */
+		private int errorCount = 0;
+
+		/**
+		 * Whether the file was up-to-date and has been skipped.
+		 */
+		private boolean skipped = false;
+	}
+}
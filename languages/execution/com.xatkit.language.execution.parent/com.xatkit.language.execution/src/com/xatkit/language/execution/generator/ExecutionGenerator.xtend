@@ -3,6 +3,7 @@
  */
 package com.xatkit.language.execution.generator
 
+import com.xatkit.execution.ExecutionModel
 import java.util.Collections
 import org.eclipse.emf.ecore.resource.Resource
 import org.eclipse.xtext.generator.IFileSystemAccess
@@ -13,6 +14,9 @@ import org.eclipse.emf.common.util.URI
  * Generates code from your model files on save.
  * 
  * See https://www.eclipse.org/Xtext/documentation/303_runtime_concepts.html#code-generation
+ * <p>
+ * This generator produces a {@code <model>.dispatch.json} file containing the {@link TransitionDispatchTable} of each
+ * execution model.
  */
 class ExecutionGenerator implements IGenerator {
 
@@ -32,6 +36,16 @@ class ExecutionGenerator implements IGenerator {
 		/*
 		 * Disabled the generator, it cannot serialize the referred intent definition (static field)
 		 */
+
+		/*
+		 * Generate the event -> transition dispatch table of the model. This table allows the runtime to only evaluate 
+		 * the transitions that can match a received event.
+		 */
+		val model = resource.contents.head
+		if (model instanceof ExecutionModel) {
+			fsa.generateFile(URI.decode(uri.trimFileExtension.lastSegment) + ".dispatch.json",
+				TransitionDispatchTable.create(model).toJson)
+		}
 	}
 
 }
@@ -0,0 +1,302 @@
+package com.xatkit.language.execution.generator;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.xtext.common.types.JvmField;
+import org.eclipse.xtext.common.types.JvmGenericType;
+import org.eclipse.xtext.common.types.JvmIdentifiableElement;
+import org.eclipse.xtext.common.types.JvmMember;
+import org.eclipse.xtext.common.types.JvmTypeReference;
+import org.eclipse.xtext.xbase.XBinaryOperation;
+import org.eclipse.xtext.xbase.XExpression;
+import org.eclipse.xtext.xbase.XFeatureCall;
+
+import com.xatkit.execution.ExecutionModel;
+import com.xatkit.execution.State;
+import com.xatkit.execution.Transition;
+import com.xatkit.intent.EventDefinition;
+
+/**
+ * A table mapping, for each {@link State} of an {@link ExecutionModel}, the names of the events to the transitions
+ * that can be navigated when receiving them.
+ * <p>
+ * Transitions are identified by their index in their {@link State}, matching the {@code transition<State><index>}
+ * methods inferred for the model. A transition is a candidate for an event if its condition can only be {@code true}
+ * when the received intent or event is the {@link EventDefinition} with the given name. This is the case for
+ * conditions of the form {@code intent == Event} (or {@code event == Event}), as well as their conjunctions and
+ * disjunctions. Other transitions (wildcard transitions, transitions without condition, or with conditions that do
+ * not restrict the received event, e.g. {@code intent != Event}) are <i>unconditional</i>: they need to be evaluated
+ * for every received event.
+ * <p>
+ * The table is serialized in JSON with {@link #toJson()}, and allows a runtime to evaluate only the conditions of the
+ * candidate and unconditional transitions of the current state when an event is received. Candidate and
+ * unconditional transitions must be evaluated in increasing index order to preserve the semantics of the model.
+ *
+ * @see ExecutionGenerator
+ */
+public class TransitionDispatchTable {
+
+	/**
+	 * The version of the JSON format produced by {@link #toJson()}.
+	 */
+	public static final int FORMAT_VERSION = 1;
+
+	/**
+	 * The names of the features accessing the received intent or event in transition conditions.
+	 */
+	private static final List<String> RECEIVED_EVENT_FEATURES = Arrays.asList("intent", "event", "getIntent",
+			"getEvent");
+
+	/**
+	 * Computes the {@link TransitionDispatchTable} of the provided {@code executionModel}.
+	 * <p>
+	 * This method requires the transition conditions to be linked.
+	 *
+	 * @param executionModel the {@link ExecutionModel} to compute the table of
+	 * @return the computed {@link TransitionDispatchTable}
+	 */
+	public static TransitionDispatchTable create(ExecutionModel executionModel) {
+		TransitionDispatchTable table = new TransitionDispatchTable();
+		for (State state : executionModel.getStates()) {
+			StateEntry entry = new StateEntry();
+			for (int i = 0; i < state.getTransitions().size(); i++) {
+				Transition transition = state.getTransitions().get(i);
+				Set<String> eventNames = transition.isIsWildcard() ? null : getRequiredEvents(transition.getCondition());
+				if (isNull(eventNames)) {
+					entry.unconditional.add(i);
+				} else {
+					for (String eventName : eventNames) {
+						entry.events.computeIfAbsent(eventName, name -> new ArrayList<>()).add(i);
+					}
+				}
+			}
+			table.states.putIfAbsent(state.getName(), entry);
+		}
+		return table;
+	}
+
+	/**
+	 * Returns the names of the events one of which must be received for the provided {@code condition} to be
+	 * {@code true}.
+	 *
+	 * @param condition the condition to analyze
+	 * @return the names of the events, or {@code null} if the condition does not restrict the received event
+	 */
+	private static Set<String> getRequiredEvents(XExpression condition) {
+		if (!(condition instanceof XBinaryOperation)) {
+			return null;
+		}
+		XBinaryOperation operation = (XBinaryOperation) condition;
+		if (isNull(operation.getFeature()) || operation.getFeature().eIsProxy()) {
+			return null;
+		}
+		switch (operation.getFeature().getSimpleName()) {
+		case "operator_equals":
+		case "operator_tripleEquals":
+			String eventName = getComparedEventName(operation.getLeftOperand(), operation.getRightOperand());
+			if (isNull(eventName)) {
+				eventName = getComparedEventName(operation.getRightOperand(), operation.getLeftOperand());
+			}
+			return isNull(eventName) ? null : new LinkedHashSet<>(Collections.singleton(eventName));
+		case "operator_and":
+			Set<String> leftAnd = getRequiredEvents(operation.getLeftOperand());
+			Set<String> rightAnd = getRequiredEvents(operation.getRightOperand());
+			if (isNull(leftAnd)) {
+				return rightAnd;
+			}
+			if (nonNull(rightAnd)) {
+				leftAnd.retainAll(rightAnd);
+			}
+			return leftAnd;
+		case "operator_or":
+			Set<String> leftOr = getRequiredEvents(operation.getLeftOperand());
+			Set<String> rightOr = getRequiredEvents(operation.getRightOperand());
+			if (isNull(leftOr) || isNull(rightOr)) {
+				return null;
+			}
+			leftOr.addAll(rightOr);
+			return leftOr;
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the name of the event compared to the received intent or event.
+	 *
+	 * @param receivedOperand the operand expected to access the received intent or event
+	 * @param eventOperand    the operand expected to access an {@link EventDefinition}
+	 * @return the name of the compared event, or {@code null} if the operands do not compare the received intent or
+	 *         event with an {@link EventDefinition}
+	 */
+	private static String getComparedEventName(XExpression receivedOperand, XExpression eventOperand) {
+		if (!(receivedOperand instanceof XFeatureCall) || !(eventOperand instanceof XFeatureCall)) {
+			return null;
+		}
+		JvmIdentifiableElement receivedFeature = ((XFeatureCall) receivedOperand).getFeature();
+		if (isNull(receivedFeature) || receivedFeature.eIsProxy()
+				|| !RECEIVED_EVENT_FEATURES.contains(receivedFeature.getSimpleName())) {
+			return null;
+		}
+		EventDefinition eventDefinition = getAccessedEventDefinition(((XFeatureCall) eventOperand).getFeature());
+		return isNull(eventDefinition) ? null : eventDefinition.getName();
+	}
+
+	/**
+	 * Returns the {@link EventDefinition} accessed by the provided {@code feature}.
+	 * <p>
+	 * Event accesses are feature calls to the event types inferred by the {@code ExecutionJvmModelInferrer}, which
+	 * extend {@link EventDefinition} and store their event in a {@code base} constant.
+	 *
+	 * @param feature the feature to retrieve the accessed {@link EventDefinition} of
+	 * @return the accessed {@link EventDefinition}, or {@code null} if the {@code feature} is not an event type
+	 */
+	private static EventDefinition getAccessedEventDefinition(JvmIdentifiableElement feature) {
+		if (!(feature instanceof JvmGenericType) || feature.eIsProxy()) {
+			return null;
+		}
+		JvmGenericType type = (JvmGenericType) feature;
+		boolean isEventType = false;
+		for (JvmTypeReference superType : type.getSuperTypes()) {
+			if (EventDefinition.class.getName().equals(superType.getIdentifier())) {
+				isEventType = true;
+			}
+		}
+		if (!isEventType) {
+			return null;
+		}
+		for (JvmMember member : type.getMembers()) {
+			if (member instanceof JvmField && "base".equals(member.getSimpleName())
+					&& ((JvmField) member).getConstantValue() instanceof EventDefinition) {
+				return (EventDefinition) ((JvmField) member).getConstantValue();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * The entries of the table, indexed by state name.
+	 */
+	private final Map<String, StateEntry> states = new LinkedHashMap<>();
+
+	/**
+	 * Constructs an empty {@link TransitionDispatchTable}.
+	 * <p>
+	 * This method is private, use {@link #create(ExecutionModel)} to compute the table of an {@link ExecutionModel}.
+	 */
+	private TransitionDispatchTable() {
+	}
+
+	/**
+	 * Returns the indexes of the transitions of the provided {@code stateName} that are candidates for the given
+	 * {@code eventName}.
+	 *
+	 * @param stateName the name of the state
+	 * @param eventName the name of the received event
+	 * @return an unmodifiable {@link List} containing the indexes of the candidate transitions (excluding the
+	 *         unconditional ones)
+	 */
+	public List<Integer> getCandidateTransitions(String stateName, String eventName) {
+		StateEntry entry = states.get(stateName);
+		List<Integer> result = isNull(entry) ? null : entry.events.get(eventName);
+		return isNull(result) ? Collections.emptyList() : Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Returns the indexes of the unconditional transitions of the provided {@code stateName}.
+	 *
+	 * @param stateName the name of the state
+	 * @return an unmodifiable {@link List} containing the indexes of the transitions that need to be evaluated for
+	 *         every received event
+	 */
+	public List<Integer> getUnconditionalTransitions(String stateName) {
+		StateEntry entry = states.get(stateName);
+		return isNull(entry) ? Collections.emptyList() : Collections.unmodifiableList(entry.unconditional);
+	}
+
+	/**
+	 * Serializes the table in JSON.
+	 * <p>
+	 * The produced document has the following structure:
+	 *
+	 * <pre>
+	 * {
+	 *   "version": 1,
+	 *   "states": {
+	 *     "&lt;State&gt;": {
+	 *       "events": { "&lt;Event&gt;": [&lt;transition indexes&gt;] },
+	 *       "unconditional": [&lt;transition indexes&gt;]
+	 *     }
+	 *   }
+	 * }
+	 * </pre>
+	 *
+	 * @return the JSON representation of the table
+	 */
+	public String toJson() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("{\n  \"version\": ").append(FORMAT_VERSION).append(",\n  \"states\": {");
+		boolean firstState = true;
+		for (Map.Entry<String, StateEntry> state : states.entrySet()) {
+			sb.append(firstState ? "\n" : ",\n");
+			firstState = false;
+			sb.append("    ").append(quote(state.getKey())).append(": {\n      \"events\": {");
+			boolean firstEvent = true;
+			for (Map.Entry<String, List<Integer>> event : state.getValue().events.entrySet()) {
+				sb.append(firstEvent ? " " : ", ");
+				firstEvent = false;
+				sb.append(quote(event.getKey())).append(": ").append(event.getValue());
+			}
+			sb.append(firstEvent ? "},\n" : " },\n");
+			sb.append("      \"unconditional\": ").append(state.getValue().unconditional).append("\n    }");
+		}
+		sb.append(firstState ? "}\n}\n" : "\n  }\n}\n");
+		return sb.toString();
+	}
+
+	/**
+	 * Returns the JSON string literal representing the provided {@code value}.
+	 *
+	 * @param value the {@link String} to quote
+	 * @return the quoted and escaped {@code value}
+	 */
+	private static String quote(String value) {
+		StringBuilder sb = new StringBuilder("\"");
+		for (char c : String.valueOf(value).toCharArray()) {
+			if (c == '"' || c == '\\') {
+				sb.append('\\').append(c);
+			} else if (c < 0x20) {
+				sb.append(String.format("\\u%04x", (int) c));
+			} else {
+				sb.append(c);
+			}
+		}
+		return sb.append('"').toString();
+	}
+
+	/**
+	 * The dispatch entry of a {@link State}.
+	 */
+	private static class StateEntry {
+
+		/**
+		 * The indexes of the candidate transitions, indexed by event name.
+		 */
+		private final Map<String, List<Integer>> events = new LinkedHashMap<>();
+
+		/**
+		 * The indexes of the unconditional transitions.
+		 */
+		private final List<Integer> unconditional = new ArrayList<>();
+	}
+}
@@ -0,0 +1,159 @@
+package com.xatkit.language.execution.jvmmodel;
+
+import static java.util.Objects.isNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+import com.xatkit.execution.ExecutionModel;
+import com.xatkit.intent.EventDefinition;
+import com.xatkit.utils.XatkitMetrics;
+
+/**
+ * A registry of the event types inferred for an {@link ExecutionModel}.
+ * <p>
+ * The {@link ExecutionJvmModelInferrer} creates a JVM type for each {@link EventDefinition} of the imported libraries
+ * and of the providers used by the model. This registry ensures that each type name is inferred once: an
+ * {@link EventDefinition} reachable several times (e.g. through a provider used twice) is registered once, and an
+ * {@link EventDefinition} with the same name as a registered one is recorded as a <i>clash</i> and does not produce a
+ * new type. Events are registered in inference order (library events first, then provider events), meaning that
+ * the first event with a given name owns the corresponding type.
+ * <p>
+ * The registry is rebuilt by each inference of the model, and is attached to its {@link ExecutionModel} as an
+ * {@link Adapter}. Use {@link #get(ExecutionModel)} to retrieve the clashes recorded by the last inference (e.g. to
+ * report them as validation issues).
+ */
+public class EventTypeRegistry {
+
+	/**
+	 * The name of the counter tracking the events reachable several times from an {@link ExecutionModel}.
+	 *
+	 * @see XatkitMetrics
+	 */
+	public static final String DUPLICATE_EVENT_METRIC = "inference.event.duplicate";
+
+	/**
+	 * The name of the counter tracking the events clashing with another event of an {@link ExecutionModel}.
+	 *
+	 * @see XatkitMetrics
+	 */
+	public static final String CLASHING_EVENT_METRIC = "inference.event.clash";
+
+	/**
+	 * Creates a new {@link EventTypeRegistry} for the provided {@code executionModel}.
+	 * <p>
+	 * The created registry replaces the one previously attached to the {@code executionModel}.
+	 *
+	 * @param executionModel the {@link ExecutionModel} to create the registry of
+	 * @return the created {@link EventTypeRegistry}
+	 */
+	public static EventTypeRegistry create(ExecutionModel executionModel) {
+		EventTypeRegistry registry = new EventTypeRegistry();
+		getOrCreateAdapter(executionModel).registry = registry;
+		return registry;
+	}
+
+	/**
+	 * Returns the {@link EventTypeRegistry} created by the last inference of the provided {@code executionModel}.
+	 *
+	 * @param executionModel the {@link ExecutionModel} to retrieve the registry of
+	 * @return the {@link EventTypeRegistry}, or {@code null} if the types of the {@code executionModel} have not been
+	 *         inferred
+	 */
+	public static EventTypeRegistry get(ExecutionModel executionModel) {
+		RegistryAdapter adapter = (RegistryAdapter) EcoreUtil.getExistingAdapter(executionModel,
+				RegistryAdapter.class);
+		return isNull(adapter) ? null : adapter.registry;
+	}
+
+	/**
+	 * Returns the {@link RegistryAdapter} attached to the provided {@code executionModel}.
+	 * <p>
+	 * This method creates and attaches a new {@link RegistryAdapter} if the provided {@code executionModel} does not
+	 * contain one.
+	 *
+	 * @param executionModel the {@link ExecutionModel} to retrieve the adapter of
+	 * @return the {@link RegistryAdapter} attached to the provided {@code executionModel}
+	 */
+	private static RegistryAdapter getOrCreateAdapter(ExecutionModel executionModel) {
+		synchronized (executionModel) {
+			RegistryAdapter adapter = (RegistryAdapter) EcoreUtil.getExistingAdapter(executionModel,
+					RegistryAdapter.class);
+			if (isNull(adapter)) {
+				adapter = new RegistryAdapter();
+				executionModel.eAdapters().add(adapter);
+			}
+			return adapter;
+		}
+	}
+
+	/**
+	 * The registered {@link EventDefinition}s, indexed by type name.
+	 */
+	private final Map<String, EventDefinition> eventTypes = new LinkedHashMap<>();
+
+	/**
+	 * The clashing {@link EventDefinition}s, associated to the registered {@link EventDefinition} they clash with.
+	 */
+	private final Map<EventDefinition, EventDefinition> clashes = new LinkedHashMap<>();
+
+	/**
+	 * Constructs an empty {@link EventTypeRegistry}.
+	 * <p>
+	 * This method is private, use {@link #create(ExecutionModel)} to create the registry of an
+	 * {@link ExecutionModel}.
+	 */
+	private EventTypeRegistry() {
+	}
+
+	/**
+	 * Registers the provided {@code eventDefinition}.
+	 *
+	 * @param eventDefinition the {@link EventDefinition} to register
+	 * @return {@code true} if a type needs to be inferred for the provided {@code eventDefinition}, {@code false} if
+	 *         the event is already registered, or if it clashes with a registered event
+	 */
+	public synchronized boolean register(EventDefinition eventDefinition) {
+		EventDefinition registered = eventTypes.putIfAbsent(eventDefinition.getName(), eventDefinition);
+		if (isNull(registered)) {
+			return true;
+		}
+		if (registered == eventDefinition) {
+			XatkitMetrics.getInstance().increment(DUPLICATE_EVENT_METRIC);
+		} else if (isNull(clashes.putIfAbsent(eventDefinition, registered))) {
+			XatkitMetrics.getInstance().increment(CLASHING_EVENT_METRIC);
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the clashing {@link EventDefinition}s.
+	 *
+	 * @return an unmodifiable {@link Map} associating each clashing {@link EventDefinition} to the registered
+	 *         {@link EventDefinition} it clashes with
+	 */
+	public synchronized Map<EventDefinition, EventDefinition> getClashes() {
+		return Collections.unmodifiableMap(new LinkedHashMap<>(clashes));
+	}
+
+	/**
+	 * The {@link Adapter} storing the {@link EventTypeRegistry} of an {@link ExecutionModel}.
+	 */
+	private static class RegistryAdapter extends AdapterImpl {
+
+		/**
+		 * The registry created by the last inference of the adapted {@link ExecutionModel}.
+		 */
+		private volatile EventTypeRegistry registry;
+
+		@Override
+		public boolean isAdapterForType(Object type) {
+			return type == RegistryAdapter.class;
+		}
+	}
+}
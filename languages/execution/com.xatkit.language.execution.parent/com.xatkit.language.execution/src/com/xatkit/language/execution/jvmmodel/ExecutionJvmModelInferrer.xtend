@@ -5,9 +5,14 @@ package com.xatkit.language.execution.jvmmodel
 
 import com.google.inject.Inject
 import com.xatkit.execution.ExecutionModel
+import com.xatkit.execution.ExecutionPackage
+import com.xatkit.language.platform.EffectivePlatformTable
 import com.xatkit.metamodels.utils.RuntimeModel
+import com.xatkit.utils.ImportHeader
 import com.xatkit.utils.XatkitImportHelper
+import java.util.List
 import org.eclipse.xtext.common.types.JvmDeclaredType
+import org.eclipse.xtext.nodemodel.util.NodeModelUtils
 import org.eclipse.xtext.xbase.jvmmodel.AbstractModelInferrer
 import org.eclipse.xtext.xbase.jvmmodel.IJvmDeclaredTypeAcceptor
 import org.eclipse.xtext.xbase.jvmmodel.JvmTypesBuilder
@@ -54,14 +59,93 @@ class ExecutionJvmModelInferrer extends AbstractModelInferrer {
 	 *            <code>true</code>.
 	 */
 	def dispatch void infer(ExecutionModel element, IJvmDeclaredTypeAcceptor acceptor, boolean isPreIndexingPhase) {
+		if (isPreIndexingPhase) {
+			/*
+			 * Only the names of the inferred types are needed in the pre-indexing phase: create empty type shells from
+			 * the import headers instead of loading the imported files. The types are fully populated in the indexing
+			 * phase.
+			 */
+			inferImportedTypeShells(element, acceptor)
+		} else {
+			inferImportedTypes(element, acceptor)
+		}
+		/*
+		 * Create the main class corresponding to the current execution model. This class contains methods for each 
+		 * state transition, and extends the RuntimeModel that provides additional fields to access context, session, and 
+		 * configuration.
+		 */
+		acceptor.accept(element.toClass(INFERRED_CLASS_NAME)) [
+			superTypes += typeRef(RuntimeModel)
+			element.states.forEach[state |
+				var tCount = 0
+				for(t : state.transitions) {
+					members += t.toMethod(getTransitionMethodName(state, tCount), typeRef(Boolean)) [
+						body = t.condition
+					]
+					tCount++
+				}
+				members += state.body.toMethod(getBodyMethodName(state), typeRef(void)) [
+					body = state.body
+				]
+				members += state.fallback.toMethod(getFallbackMethodName(state), typeRef(void)) [
+					body = state.fallback
+				]
+			]
+		]
+	}
+
+	/**
+	 * Returns the name of the method inferred for the body of the provided {@code state}.
+	 * 
+	 * @param state the {@link State} to retrieve the body method name of
+	 * @return the name of the body method
+	 */
+	def static String getBodyMethodName(State state) {
+		"body" + state.name
+	}
+
+	/**
+	 * Returns the name of the method inferred for the fallback of the provided {@code state}.
+	 * 
+	 * @param state the {@link State} to retrieve the fallback method name of
+	 * @return the name of the fallback method
+	 */
+	def static String getFallbackMethodName(State state) {
+		"fallback" + state.name
+	}
+
+	/**
+	 * Returns the name of the method inferred for the condition of the transition of the provided {@code state} at
+	 * the given {@code index}.
+	 * 
+	 * @param state the {@link State} containing the transition
+	 * @param index the index of the transition in the {@code state}
+	 * @return the name of the transition method
+	 */
+	def static String getTransitionMethodName(State state, int index) {
+		"transition" + state.name + index
+	}
+
+	/**
+	 * Creates the classes of the platforms, libraries, and providers imported by the provided {@code element}.
+	 * 
+	 * @param element  the {@link ExecutionModel} to infer the imported classes of
+	 * @param acceptor the acceptor attaching the created classes to the execution model
+	 */
+	private def void inferImportedTypes(ExecutionModel element, IJvmDeclaredTypeAcceptor acceptor) {
 		/*
 		 * Create the mock classes for Platform.Action(Params). These mocks are represented as static methods to match 
 		 * the previous syntax. Note the the generated methods do not contain any execution logic, and are placeholders 
-		 * that will be used by the interpreter to trigger the action computation.
+		 * that will be used by the interpreter to trigger the action computation. The created classes contain the 
+		 * effective actions of the platforms, including the ones inherited from the platforms they (transitively) 
+		 * extend.
+		 * The classes are created for each execution model: inferred types are contained in the resource of the model
+		 * and associated to its elements, and cannot be shared with other models. The effective actions they are
+		 * created from are memoized per platform in its EffectivePlatformTable.
 		 */
 		XatkitImportHelper.instance.getImportedPlatforms(element).forEach [ platform |
 			acceptor.accept(platform.toClass(platform.name)) [
-				((platform.extends?.actions ?: #[]) + platform.actions).forEach [ action |
+				EffectivePlatformTable.get(platform).actions.forEach [ action |
 					val returnType = action.returnType ?: typeRef(Object)
 					members += action.toMethod(action.name, returnType) [
 						/*
@@ -80,57 +164,83 @@ class ExecutionJvmModelInferrer extends AbstractModelInferrer {
 				]
 			]
 		]
-		
+
+		/*
+		 * Create the classes of the library and provider events. Each event type is created once: events reachable
+		 * several times and events clashing with a previous event are skipped (clashes are reported by the validator).
+		 */
+		val eventTypeRegistry = EventTypeRegistry.create(element)
 		XatkitImportHelper.instance.getImportedLibraries(element).forEach [ library |
-			library.eventDefinitions.forEach[event |
-				acceptor.accept(event.toClass(event.name)) [
-					superTypes += typeRef(EventDefinition)
-					members += event.toField("base", typeRef(EventDefinition)) [
-						visibility = JvmVisibility.PUBLIC
-						constant = true
-						constantValue = event
-						static = true
-					]
-					
-					
-				]
-			]
+			acceptEventClasses(library.eventDefinitions, eventTypeRegistry, acceptor)
 		]
-		
-		
-		element.eventProviderDefinitions.forEach[provider |
-			provider.eventDefinitions.forEach[event |
-				acceptor.accept(event.toClass(event.name)) [
-					superTypes += typeRef(EventDefinition)
-					members += event.toField("base", typeRef(EventDefinition)) [
-						visibility = JvmVisibility.PUBLIC
-						constant = true
-						constantValue = event
-						static = true
-					]
-				]
-			]
+
+		element.eventProviderDefinitions.filter[!eIsProxy].forEach [ provider |
+			acceptEventClasses(provider.eventDefinitions, eventTypeRegistry, acceptor)
 		]
-		/*
-		 * Create the main class corresponding to the current execution model. This class contains methods for each 
-		 * state transition, and extends the RuntimeModel that provides additional fields to access context, session, and 
-		 * configuration.
-		 */
-		acceptor.accept(element.toClass(INFERRED_CLASS_NAME)) [
-			superTypes += typeRef(RuntimeModel)
-			element.states.forEach[state |
-				var tCount = 0
-				for(t : state.transitions) {
-					members += t.toMethod("transition" + state.name + tCount, typeRef(Boolean)) [
-						body = t.condition
+	}
+
+	/**
+	 * Creates empty shells for the classes of the platforms, libraries, and providers imported by the provided
+	 * {@code element}.
+	 * <p>
+	 * The shells are named after the {@link ImportHeader}s of the imports, and are computed without loading the
+	 * imported files. Imports that are neither loaded nor Xatkit core resources do not have a header, and their
+	 * classes are only created in the indexing phase. Provider events are retrieved from the text of the
+	 * {@code use provider} references, since references cannot be resolved in the pre-indexing phase.
+	 * 
+	 * @param element  the {@link ExecutionModel} to infer the imported class shells of
+	 * @param acceptor the acceptor attaching the created shells to the execution model
+	 */
+	private def void inferImportedTypeShells(ExecutionModel element, IJvmDeclaredTypeAcceptor acceptor) {
+		val platformHeaders = <String, ImportHeader>newHashMap
+		val eventNames = <String>newHashSet
+		element.imports.forEach [ importDeclaration |
+			val header = XatkitImportHelper.instance.getImportHeader(importDeclaration)
+			if (header !== null) {
+				if (header.platform) {
+					platformHeaders.put(header.name, header)
+					acceptor.accept(importDeclaration.toClass(header.name))
+				} else {
+					header.events.filter[eventNames.add(it)].forEach [ event |
+						acceptor.accept(importDeclaration.toClass(event))
 					]
-					tCount++
 				}
-				members += state.body.toMethod("body" + state.name, typeRef(void)) [
-					body = state.body
-				]
-				members += state.fallback.toMethod("fallback" + state.name, typeRef(void)) [
-					body = state.fallback
+			}
+		]
+		NodeModelUtils.findNodesForFeature(element, ExecutionPackage.Literals.EXECUTION_MODEL__EVENT_PROVIDER_DEFINITIONS).
+			forEach [ node |
+				val qualifiedName = NodeModelUtils.getTokenText(node)
+				val separatorIndex = qualifiedName.lastIndexOf('.')
+				if (separatorIndex > 0) {
+					val header = platformHeaders.get(qualifiedName.substring(0, separatorIndex))
+					header?.getProviderEvents(qualifiedName.substring(separatorIndex + 1))?.filter[eventNames.add(it)]?.
+						forEach [ event |
+							acceptor.accept(element.toClass(event))
+						]
+				}
+			]
+	}
+
+	/**
+	 * Creates the classes of the provided {@code events} and passes them to the {@code acceptor}.
+	 * <p>
+	 * Each class extends {@link EventDefinition} and contains a {@code base} constant holding its event. Only the
+	 * events accepted by the provided {@code registry} are passed to the {@code acceptor}.
+	 * 
+	 * @param events   the {@link EventDefinition}s to create the classes of
+	 * @param registry the {@link EventTypeRegistry} of the execution model
+	 * @param acceptor the acceptor attaching the created classes to the execution model
+	 */
+	private def void acceptEventClasses(List<EventDefinition> events, EventTypeRegistry registry,
+		IJvmDeclaredTypeAcceptor acceptor) {
+		events.filter[registry.register(it)].forEach [ event |
+			acceptor.accept(event.toClass(event.name)) [
+				superTypes += typeRef(EventDefinition)
+				members += event.toField("base", typeRef(EventDefinition)) [
+					visibility = JvmVisibility.PUBLIC
+					constant = true
+					constantValue = event
+					static = true
 				]
 			]
 		]
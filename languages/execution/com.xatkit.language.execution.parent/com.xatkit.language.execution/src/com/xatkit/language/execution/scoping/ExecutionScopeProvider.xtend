@@ -14,6 +14,11 @@ import org.eclipse.xtext.resource.EObjectDescription
 import org.eclipse.xtext.naming.QualifiedName
 import com.xatkit.platform.PlatformDefinition
 import com.xatkit.execution.ExecutionPackage
+import com.xatkit.platform.PlatformPackage
+import com.xatkit.language.common.scoping.ImportedElementsScopeProvider
+import com.google.inject.Inject
+import com.xatkit.platform.EventProviderDefinition
+import org.eclipse.emf.ecore.util.InternalEList
 
 /**
  * This class contains custom scoping description.
@@ -23,6 +28,9 @@ import com.xatkit.execution.ExecutionPackage
  */
 class ExecutionScopeProvider extends AbstractExecutionScopeProvider {
 
+	@Inject
+	ImportedElementsScopeProvider importedElementsScopeProvider
+
 	override getScope(EObject context, EReference reference) {
 		if (context instanceof ExecutionModel) {
 			return getScope(context as ExecutionModel, reference)
@@ -34,10 +42,12 @@ class ExecutionScopeProvider extends AbstractExecutionScopeProvider {
 	/**
 	 * Returns the {@link IScope} associated to the provided {@link ExecutionModel}.
 	 * <p>
-	 * When the provided {@code reference} matches {@code ExecutionModel.EventProviderDefinitions} this method sets the 
-	 * maps the imported providers to their qualified names in the returned scope. This is required when operating at 
-	 * the semantic model level, otherwise the name of the imported provider cannot be retrieved and operations like 
-	 * quickfixes won't work.
+	 * When the provided {@code reference} matches {@code ExecutionModel.EventProviderDefinitions} this method returns 
+	 * the providers exported by the imported platforms in Xtext's index, named after their qualified names (e.g. 
+	 * {@code Slack.SlackIntentProvider}). The imported resources are not loaded to compute this scope (see 
+	 * {@link ImportedElementsScopeProvider}). The providers already linked in the model are also mapped to their 
+	 * qualified names: this is required when operating at the semantic model level, otherwise the name of an imported 
+	 * provider that is not indexed cannot be retrieved and operations like quickfixes won't work.
 	 * 
 	 * @param context the {@link ExecutionModel} to compute the scope of
 	 * @param reference the {@link ExecutionModel}'s {@link EReference} to compute the scope of
@@ -47,13 +57,20 @@ class ExecutionScopeProvider extends AbstractExecutionScopeProvider {
 	private def IScope getScope(ExecutionModel context, EReference reference) {
 		if (reference == ExecutionPackage.Literals.EXECUTION_MODEL__EVENT_PROVIDER_DEFINITIONS) {
 			var result = new ArrayList<IEObjectDescription>()
-			for (eventProvider : context.eventProviderDefinitions) {
-				val platformName = (eventProvider.eContainer as PlatformDefinition).name
-				val eventProviderName = eventProvider.name
-				result.add(
-					EObjectDescription.create(QualifiedName.create(platformName, eventProviderName), eventProvider))
+			/*
+			 * Iterate the providers without resolving them: this scope is used to link them.
+			 */
+			for (eventProvider : (context.eventProviderDefinitions as InternalEList<EventProviderDefinition>).basicList) {
+				if (!eventProvider.eIsProxy) {
+					val platformName = (eventProvider.eContainer as PlatformDefinition).name
+					val eventProviderName = eventProvider.name
+					result.add(
+						EObjectDescription.create(QualifiedName.create(platformName, eventProviderName), eventProvider))
+				}
 			}
-			new SimpleScope(IScope.NULLSCOPE, result)
+			val importedScope = importedElementsScopeProvider.getScope(context, context.imports,
+				PlatformPackage.Literals.EVENT_PROVIDER_DEFINITION)
+			new SimpleScope(importedScope, result)
 		} else {
 			super.getScope(context, reference)
 		}
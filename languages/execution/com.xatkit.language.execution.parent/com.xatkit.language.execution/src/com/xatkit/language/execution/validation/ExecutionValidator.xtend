@@ -11,21 +11,33 @@ import org.eclipse.emf.ecore.resource.Resource
 import org.eclipse.xtext.validation.Check
 
 import static java.util.Objects.isNull
+import static org.eclipse.xtext.validation.CheckType.NORMAL
+
+import static extension com.xatkit.language.execution.validation.SessionKeyAnalysis.*
 import org.eclipse.xtext.xbase.XMemberFeatureCall
 import org.eclipse.xtext.xbase.XFeatureCall
 import com.xatkit.language.execution.ExecutionUtils
+import com.xatkit.language.execution.ExecutionSymbolTable
 import org.eclipse.xtext.xbase.XStringLiteral
 import org.eclipse.xtext.xbase.XbasePackage
-import org.eclipse.xtext.EcoreUtil2
 import com.xatkit.execution.Transition
 import com.xatkit.execution.ExecutionPackage
 import com.xatkit.execution.ExecutionModel
 import java.util.List
+import com.xatkit.intent.EventDefinition
+import com.xatkit.intent.Library
+import com.xatkit.language.execution.jvmmodel.EventTypeRegistry
+import com.xatkit.platform.EventProviderDefinition
+import com.xatkit.platform.PlatformDefinition
+import org.eclipse.emf.ecore.EStructuralFeature
 
 /**
  * This class contains custom validation rules. 
  * 
  * See https://www.eclipse.org/Xtext/documentation/303_runtime_concepts.html#validation
+ * <p>
+ * The import check loads the imported files and is {@link CheckType#NORMAL} (executed on save and build), the other 
+ * checks rely on analyses cached for the validation run and are executed as-you-type.
  */
 class ExecutionValidator extends AbstractExecutionValidator {
 
@@ -51,7 +63,11 @@ class ExecutionValidator extends AbstractExecutionValidator {
 
 	public static val String STATE_IS_UNREACHABLE = "state.is.unreachable"
 
-	@Check
+	public static val String SESSION_KEY_IS_NEVER_READ = "session.key.is.never.read"
+
+	public static val String EVENT_TYPE_CLASH = "event.type.clash"
+
+	@Check(NORMAL)
 	def checkImportDefinition(ImportDeclaration i) {
 		val Resource importedResource = XatkitImportHelper.getInstance.getResourceFromImport(i)
 		if (isNull(importedResource)) {
@@ -59,14 +75,50 @@ class ExecutionValidator extends AbstractExecutionValidator {
 		}
 	}
 
+	/**
+	 * Reports the imported events clashing with another imported event with the same name.
+	 * <p>
+	 * Clashes are recorded by the {@link EventTypeRegistry} when the JVM model of the execution model is inferred: the
+	 * first event with a given name is the only one that can be used in the model. The issue is reported on the 
+	 * {@code use provider} reference or on the import declaring the clashing event.
+	 */
+	@Check
+	def checkEventTypesDoNotClash(ExecutionModel m) {
+		val registry = EventTypeRegistry.get(m)
+		if (isNull(registry)) {
+			return
+		}
+		registry.clashes.forEach [ event, registered |
+			val message = "The event " + event.name + " of " + event.containerName + " clashes with the event " +
+				registered.name + " of " + registered.containerName + " and cannot be used in the execution model"
+			val container = event.eContainer
+			val providerIndex = m.eventProviderDefinitions.indexOf(container)
+			if (providerIndex >= 0) {
+				warning(message, m, ExecutionPackage.Literals.EXECUTION_MODEL__EVENT_PROVIDER_DEFINITIONS, providerIndex,
+					EVENT_TYPE_CLASH)
+			} else {
+				val rSet = m.eResource?.resourceSet
+				val importDeclaration = m.imports.findFirst [ i |
+					rSet !== null && XatkitImportHelper.getInstance.getImportURIs(i).exists [
+						rSet.getResource(it, false)?.contents?.head == container
+					]
+				]
+				if (isNull(importDeclaration)) {
+					warning(message, m, null as EStructuralFeature, EVENT_TYPE_CLASH)
+				} else {
+					warning(message, importDeclaration, CommonPackage.Literals.IMPORT_DECLARATION__PATH,
+						EVENT_TYPE_CLASH)
+				}
+			}
+		]
+	}
+
 	@Check
 	def checkGetContext(XMemberFeatureCall f) {
 		if (f.isStringGet) {
 			if (f.targetIsContext) {
 				val getKey = (f.memberCallArguments.get(0) as XStringLiteral).value
-				val declaredContexts = ExecutionUtils.getEventDefinitionsFromImports(
-					ExecutionUtils.getContainingExecutionModel(f)).flatMap[outContexts].map[name].toList
-				if (!declaredContexts.contains(getKey)) {
+				if (!f.symbolTable.containsContext(getKey)) {
 					warning("Cannot find context " + getKey + " from the imported libraries/platforms",
 						XbasePackage.Literals.XMEMBER_FEATURE_CALL__MEMBER_CALL_ARGUMENTS)
 				}
@@ -85,12 +137,10 @@ class ExecutionValidator extends AbstractExecutionValidator {
 					 */
 					val getContextKey = (memberFeatureCallTarget.memberCallArguments.get(0) as XStringLiteral).value
 					val getParameterKey = (f.memberCallArguments.get(0) as XStringLiteral).value
-					if (ExecutionUtils.getEventDefinitionsFromImports(ExecutionUtils.getContainingExecutionModel(f)).
-						flatMap[outContexts].filter [ c |
-							c.name == getContextKey
-						].flatMap[parameters].filter[p|p.name == getParameterKey].isEmpty) {
+					if (!f.symbolTable.containsContextParameter(getContextKey, getParameterKey)) {
 						/*
-						 * Cannot find the parameter in the imported EventDefinition's contexts.
+						 * Cannot find the parameter in the imported EventDefinition's and EventProviderDefinition's 
+						 * contexts.
 						 */
 						warning("Cannot find the parameter " + getParameterKey + " in context " + getContextKey,
 							XbasePackage.Literals.XMEMBER_FEATURE_CALL__MEMBER_CALL_ARGUMENTS)
@@ -104,27 +154,27 @@ class ExecutionValidator extends AbstractExecutionValidator {
 	def checkGetSession(XMemberFeatureCall f) {
 		if (f.isStringGet && f.targetIsSession) {
 			val getKey = (f.memberCallArguments.get(0) as XStringLiteral).value
-			val executionModel = ExecutionUtils.getContainingExecutionModel(f)
-			val allMemberFeatureCalls = EcoreUtil2.eAllOfType(executionModel, XMemberFeatureCall)
-			val putCallsWithSameKey = allMemberFeatureCalls.filter [ fCall |
-				/*
-				 * Look for a session.put call with the same key
-				 */
-				fCall.isPutWithStringKey && fCall.targetIsSession &&
-					(fCall.memberCallArguments.get(0) as XStringLiteral).value == getKey
-			]
-			if (putCallsWithSameKey.empty) {
+			if (!f.sessionKeyAnalysis.isPut(getKey)) {
 				warning("The session key " + getKey + " is not set in the execution model",
 					XbasePackage.Literals.XMEMBER_FEATURE_CALL__MEMBER_CALL_ARGUMENTS)
 			}
 		}
 	}
 
+	@Check
+	def checkPutSessionIsRead(ExecutionModel m) {
+		m.sessionKeyAnalysis.unreadPutCalls.forEach [ put |
+			val putKey = (put.memberCallArguments.get(0) as XStringLiteral).value
+			warning("The session key " + putKey + " is set but never read in the execution model", put,
+				XbasePackage.Literals.XMEMBER_FEATURE_CALL__MEMBER_CALL_ARGUMENTS, 0, SESSION_KEY_IS_NEVER_READ)
+		]
+	}
+
 	@Check
 	def checkCustomTransitionSiblingIsNotWildcard(Transition t) {
 		if (!t.isIsWildcard) {
 			val state = t.eContainer as com.xatkit.execution.State
-			if (!state.transitions.filter[isIsWildcard].empty) {
+			if (state.stateMachineAnalysis.hasWildcardTransition(state)) {
 				error("Custom transitions are not allowed if a wildcard transition already exists",
 					ExecutionPackage.Literals.TRANSITION__CONDITION, CUSTOM_TRANSITION_SIBLING_IS_WILDCARD)
 			}
@@ -152,17 +202,19 @@ class ExecutionValidator extends AbstractExecutionValidator {
 
 	@Check
 	def checkStateIsReachable(com.xatkit.execution.State s) {
-		if (s.name != "Default_Fallback" && s.name != "Init") {
+		if (s.name != "Default_Fallback" && s.name != StateMachineAnalysis.INIT_STATE_NAME) {
 			/*
 			 * Default Fallback should be unreachable, we don't want to go in this state explicitly.
 			 * Init does not need to be reachable, it is executed when initializing the state machine anyway.
 			 */
-			val executionModel = s.eContainer as ExecutionModel
-			val transitionsToState = executionModel.states.flatMap[it.transitions].filter [ t |
-				t.eContainer !== s && t.state == s
-			]
-			if (transitionsToState.isEmpty) {
-				warning("State " + s.name + " is unreachable (can't find any transition targeting" + s.name + ")",
+			val stateMachineAnalysis = s.stateMachineAnalysis
+			/*
+			 * Reachability is computed from the Init state, we don't report unreachable states if it does not exist 
+			 * (this is already reported by checkInitStateExists).
+			 */
+			if (stateMachineAnalysis.containsState(StateMachineAnalysis.INIT_STATE_NAME) &&
+				!stateMachineAnalysis.isReachable(s)) {
+				warning("State " + s.name + " is unreachable (can't find any path from Init to " + s.name + ")",
 					ExecutionPackage.Literals.STATE__NAME, STATE_IS_UNREACHABLE)
 			}
 		}
@@ -170,16 +222,14 @@ class ExecutionValidator extends AbstractExecutionValidator {
 
 	@Check
 	def checkStateNameIsUnique(com.xatkit.execution.State s) {
-		val executionModel = ExecutionUtils.getContainingExecutionModel(s)
-		if (executionModel.states.filter[exState|exState.name == s.name].size > 1) {
+		if (s.stateMachineAnalysis.getStates(s.name).size > 1) {
 			error("State names must be unique", ExecutionPackage.Literals.STATE__NAME)
 		}
 	}
 
 	@Check
 	def checkStateDoesNotDefineFallbackIfItContainsAWildcardTransition(com.xatkit.execution.State s) {
-		val containsWildcardTransition = s.transitions.filter[it.isIsWildcard].iterator.hasNext
-		if (containsWildcardTransition && s.fallback !== null) {
+		if (s.fallback !== null && s.stateMachineAnalysis.hasWildcardTransition(s)) {
 			error("States with a wildcard transition cannot define a custom fallback",
 				ExecutionPackage.Literals.STATE__FALLBACK, FALLBACK_SHOULD_NOT_EXIST)
 		}
@@ -227,7 +277,7 @@ class ExecutionValidator extends AbstractExecutionValidator {
 
 	@Check
 	def checkInitStateExists(ExecutionModel m) {
-		if (m.states.filter[it.name == "Init"].empty) {
+		if (!m.stateMachineAnalysis.containsState(StateMachineAnalysis.INIT_STATE_NAME)) {
 			for (var i = 0; i < m.states.length; i++) {
 				error("The execution model must contain an init state",
 					ExecutionPackage.Literals.EXECUTION_MODEL__STATES, i, INIT_STATE_DOES_NOT_EXIST)
@@ -237,7 +287,7 @@ class ExecutionValidator extends AbstractExecutionValidator {
 
 	@Check
 	def checkDefaultFallbackStateExists(ExecutionModel m) {
-		if (m.states.filter[it.name == "Default_Fallback"].empty) {
+		if (!m.stateMachineAnalysis.containsState("Default_Fallback")) {
 			for (var i = 0; i < m.states.length; i++) {
 				error("The execution model must contain a Default_Fallback state",
 					ExecutionPackage.Literals.EXECUTION_MODEL__STATES, i, FALLBACK_STATE_DOES_NOT_EXIST)
@@ -259,13 +309,114 @@ class ExecutionValidator extends AbstractExecutionValidator {
 		}
 	}
 
-	private def boolean isStringGet(XMemberFeatureCall f) {
-		return f.feature.simpleName == "get" && f.memberCallArguments.size == 1 &&
-			f.memberCallArguments.get(0) instanceof XStringLiteral
+	/**
+	 * Returns the {@link ExecutionSymbolTable} of the {@link ExecutionModel} containing the provided {@code element}.
+	 * <p>
+	 * The imports of the {@link ExecutionModel} are resolved once per validation run, and not once per checked 
+	 * element.
+	 * 
+	 * @param element the element to retrieve the symbol table of
+	 * @return the {@link ExecutionSymbolTable} of the {@link ExecutionModel} containing the provided {@code element}
+	 * @see #getFromValidationContext(ExecutionModel, Class, Function1)
+	 */
+	private def ExecutionSymbolTable getSymbolTable(EObject element) {
+		getFromValidationContext(ExecutionUtils.getContainingExecutionModel(element), ExecutionSymbolTable, [
+			ExecutionSymbolTable.get(it)
+		])
 	}
 
-	private def boolean isPutWithStringKey(XMemberFeatureCall f) {
-		return f.feature.simpleName == "put" && f.memberCallArguments.size == 2 &&
+	/**
+	 * Returns the name of the library or provider containing the provided {@code event}.
+	 * 
+	 * @param event the {@link EventDefinition} to retrieve the container name of
+	 * @return the name of the library, or the qualified name of the provider ({@code <platform>.<provider>})
+	 */
+	private def String getContainerName(EventDefinition event) {
+		val container = event.eContainer
+		switch container {
+			Library: container.name
+			EventProviderDefinition: (container.eContainer as PlatformDefinition)?.name + "." + container.name
+			default: String.valueOf(container)
+		}
+	}
+
+	/**
+	 * Returns the {@link SessionKeyAnalysis} of the {@link ExecutionModel} containing the provided {@code element}.
+	 * <p>
+	 * The {@link ExecutionModel} is traversed once per validation run, and not once per session access.
+	 * 
+	 * @param element the element to retrieve the session key analysis of
+	 * @return the {@link SessionKeyAnalysis} of the {@link ExecutionModel} containing the provided {@code element}
+	 * @see #getSessionKeyAnalysis(ExecutionModel)
+	 */
+	private def SessionKeyAnalysis getSessionKeyAnalysis(EObject element) {
+		ExecutionUtils.getContainingExecutionModel(element).sessionKeyAnalysis
+	}
+
+	/**
+	 * Returns the {@link SessionKeyAnalysis} of the provided {@code executionModel}.
+	 * 
+	 * @param executionModel the {@link ExecutionModel} to retrieve the session key analysis of
+	 * @return the {@link SessionKeyAnalysis} of the provided {@code executionModel}
+	 * @see #getFromValidationContext(ExecutionModel, Class, Function1)
+	 */
+	private def SessionKeyAnalysis getSessionKeyAnalysis(ExecutionModel executionModel) {
+		getFromValidationContext(executionModel, SessionKeyAnalysis, [SessionKeyAnalysis.analyze(it)])
+	}
+
+	/**
+	 * Returns the {@link StateMachineAnalysis} of the {@link ExecutionModel} containing the provided {@code state}.
+	 * 
+	 * @param state the state to retrieve the state machine analysis of
+	 * @return the {@link StateMachineAnalysis} of the {@link ExecutionModel} containing the provided {@code state}
+	 * @see #getStateMachineAnalysis(ExecutionModel)
+	 */
+	private def StateMachineAnalysis getStateMachineAnalysis(com.xatkit.execution.State state) {
+		(state.eContainer as ExecutionModel).stateMachineAnalysis
+	}
+
+	/**
+	 * Returns the {@link StateMachineAnalysis} of the provided {@code executionModel}.
+	 * <p>
+	 * The states and transitions of the {@link ExecutionModel} are traversed once per validation run, and not once 
+	 * per checked state or transition.
+	 * 
+	 * @param executionModel the {@link ExecutionModel} to retrieve the state machine analysis of
+	 * @return the {@link StateMachineAnalysis} of the provided {@code executionModel}
+	 * @see #getFromValidationContext(ExecutionModel, Class, Function1)
+	 */
+	private def StateMachineAnalysis getStateMachineAnalysis(ExecutionModel executionModel) {
+		getFromValidationContext(executionModel, StateMachineAnalysis, [StateMachineAnalysis.analyze(it)])
+	}
+
+	/**
+	 * Returns the {@code type} instance associated to the provided {@code executionModel} in the validation context.
+	 * <p>
+	 * This method stores the instances computed with the provided {@code factory} in the validation context, allowing 
+	 * to share them between all the checks of the current validation run. The {@code factory} is called for each 
+	 * invocation if the validator is executed without context.
+	 * 
+	 * @param executionModel the {@link ExecutionModel} to retrieve the instance of
+	 * @param type the type of the instance to retrieve
+	 * @param factory the function used to compute the instance if it is not in the validation context
+	 * @return the {@code type} instance associated to the provided {@code executionModel}
+	 */
+	private def <T> T getFromValidationContext(ExecutionModel executionModel, Class<T> type,
+		(ExecutionModel)=>T factory) {
+		if (context === null) {
+			return factory.apply(executionModel)
+		}
+		val key = type -> executionModel
+		var result = type.cast(context.get(key))
+		if (result === null) {
+			result = factory.apply(executionModel)
+			context.put(key, result)
+		}
+		return result
+	}
+
+	private def boolean isStringGet(XMemberFeatureCall f) {
+		return f.feature.simpleName == "get" && f.memberCallArguments.size == 1 &&
 			f.memberCallArguments.get(0) instanceof XStringLiteral
 	}
 
@@ -281,9 +432,4 @@ class ExecutionValidator extends AbstractExecutionValidator {
 			return false
 		}
 	}
-
-	private def boolean targetIsSession(XMemberFeatureCall f) {
-		return f.memberCallTarget instanceof XFeatureCall &&
-			(f.memberCallTarget as XFeatureCall).feature.simpleName == "session"
-	}
 }
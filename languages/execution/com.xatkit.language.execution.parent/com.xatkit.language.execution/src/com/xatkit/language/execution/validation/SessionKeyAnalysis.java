@@ -0,0 +1,203 @@
+package com.xatkit.language.execution.validation;
+
+import static java.util.Objects.isNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.common.types.JvmIdentifiableElement;
+import org.eclipse.xtext.xbase.XAbstractFeatureCall;
+import org.eclipse.xtext.xbase.XExpression;
+import org.eclipse.xtext.xbase.XFeatureCall;
+import org.eclipse.xtext.xbase.XMemberFeatureCall;
+import org.eclipse.xtext.xbase.XStringLiteral;
+
+import com.xatkit.execution.ExecutionModel;
+
+/**
+ * An analysis collecting the session keys written and read in an {@link ExecutionModel}.
+ * <p>
+ * This analysis walks the provided {@link ExecutionModel} once, and records the {@code session.put("key", value)}
+ * calls it contains, as well as the keys read by the other session accesses (e.g. {@code session.get("key")},
+ * {@code session.containsKey("key")}, or {@code session.remove("key")}). The validator uses the computed key sets to
+ * check that the keys read in the model are set somewhere, and that the keys set in the model are read somewhere,
+ * without iterating the model for each session access.
+ * <p>
+ * Session accesses without a literal key (e.g. {@code session.get(variable)} or {@code session.keySet()}) cannot be
+ * resolved statically: they are not indexed, but {@link #hasDynamicReads()} returns {@code true} if the model
+ * contains such an access.
+ *
+ * @see ExecutionValidator
+ */
+public class SessionKeyAnalysis {
+
+	/**
+	 * Analyzes the provided {@code executionModel}.
+	 *
+	 * @param executionModel the {@link ExecutionModel} to analyze
+	 * @return the created {@link SessionKeyAnalysis}
+	 */
+	public static SessionKeyAnalysis analyze(ExecutionModel executionModel) {
+		SessionKeyAnalysis analysis = new SessionKeyAnalysis();
+		TreeIterator<EObject> it = executionModel.eAllContents();
+		while (it.hasNext()) {
+			EObject element = it.next();
+			if (element instanceof XMemberFeatureCall) {
+				analysis.record((XMemberFeatureCall) element);
+			}
+		}
+		return analysis;
+	}
+
+	/**
+	 * The {@code session.put} calls of the model, indexed by key.
+	 */
+	private Map<String, List<XMemberFeatureCall>> puts = new LinkedHashMap<>();
+
+	/**
+	 * The keys read by the session accesses of the model.
+	 */
+	private Set<String> reads = new HashSet<>();
+
+	/**
+	 * Whether the model contains a session access without a literal key.
+	 */
+	private boolean dynamicReads = false;
+
+	/**
+	 * Constructs a new {@link SessionKeyAnalysis}.
+	 * <p>
+	 * This method is private, use {@link #analyze(ExecutionModel)} to analyze an {@link ExecutionModel}.
+	 */
+	private SessionKeyAnalysis() {
+	}
+
+	/**
+	 * Records the provided {@code call} if it is a session access.
+	 *
+	 * @param call the {@link XMemberFeatureCall} to record
+	 */
+	private void record(XMemberFeatureCall call) {
+		if (!targetIsSession(call)) {
+			return;
+		}
+		List<XExpression> arguments = call.getMemberCallArguments();
+		if (isPutWithStringKey(call)) {
+			puts.computeIfAbsent(getStringValue(arguments.get(0)), k -> new ArrayList<>()).add(call);
+		} else if (!"put".equals(getFeatureName(call))) {
+			String key = arguments.isEmpty() ? null : getStringValue(arguments.get(0));
+			if (isNull(key)) {
+				dynamicReads = true;
+			} else {
+				reads.add(key);
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the provided {@code key} is set in the model.
+	 *
+	 * @param key the session key to check
+	 * @return {@code true} if the model contains a {@code session.put} call with the provided {@code key},
+	 *         {@code false} otherwise
+	 */
+	public boolean isPut(String key) {
+		return puts.containsKey(key);
+	}
+
+	/**
+	 * Returns whether the provided {@code key} is read in the model.
+	 *
+	 * @param key the session key to check
+	 * @return {@code true} if the model contains a session access reading the provided {@code key}, {@code false}
+	 *         otherwise
+	 */
+	public boolean isRead(String key) {
+		return reads.contains(key);
+	}
+
+	/**
+	 * Returns whether the model contains session accesses without a literal key.
+	 *
+	 * @return {@code true} if the model contains session accesses without a literal key, {@code false} otherwise
+	 */
+	public boolean hasDynamicReads() {
+		return dynamicReads;
+	}
+
+	/**
+	 * Returns the {@code session.put} calls setting a key that is never read in the model.
+	 * <p>
+	 * This method returns an empty {@link List} if the model contains session accesses without a literal key, since
+	 * they may read any key.
+	 *
+	 * @return the {@code session.put} calls setting an unread key, in model order
+	 * @see #hasDynamicReads()
+	 */
+	public List<XMemberFeatureCall> getUnreadPutCalls() {
+		if (dynamicReads) {
+			return Collections.emptyList();
+		}
+		List<XMemberFeatureCall> result = new ArrayList<>();
+		puts.forEach((key, calls) -> {
+			if (!reads.contains(key)) {
+				result.addAll(calls);
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Returns whether the target of the provided {@code call} is the {@code session} variable.
+	 *
+	 * @param call the {@link XMemberFeatureCall} to check
+	 * @return {@code true} if the target of the call is the {@code session} variable, {@code false} otherwise
+	 */
+	public static boolean targetIsSession(XMemberFeatureCall call) {
+		return call.getMemberCallTarget() instanceof XFeatureCall
+				&& "session".equals(getFeatureName((XFeatureCall) call.getMemberCallTarget()));
+	}
+
+	/**
+	 * Returns whether the provided {@code call} is a {@code put} call with a literal key.
+	 *
+	 * @param call the {@link XMemberFeatureCall} to check
+	 * @return {@code true} if the call is a {@code put("key", value)} call, {@code false} otherwise
+	 */
+	public static boolean isPutWithStringKey(XMemberFeatureCall call) {
+		return "put".equals(getFeatureName(call)) && call.getMemberCallArguments().size() == 2
+				&& call.getMemberCallArguments().get(0) instanceof XStringLiteral;
+	}
+
+	/**
+	 * Returns the simple name of the feature of the provided {@code call}.
+	 *
+	 * @param call the {@link XAbstractFeatureCall} to retrieve the feature name of
+	 * @return the simple name of the feature, or {@code null} if the feature is not set
+	 */
+	private static String getFeatureName(XAbstractFeatureCall call) {
+		JvmIdentifiableElement feature = call.getFeature();
+		return isNull(feature) ? null : feature.getSimpleName();
+	}
+
+	/**
+	 * Returns the value of the provided {@code expression} if it is a {@link XStringLiteral}.
+	 *
+	 * @param expression the {@link XExpression} to retrieve the value of
+	 * @return the value of the {@link XStringLiteral}, or {@code null} if the provided {@code expression} is not a
+	 *         {@link XStringLiteral}
+	 */
+	private static String getStringValue(XExpression expression) {
+		if (expression instanceof XStringLiteral) {
+			return ((XStringLiteral) expression).getValue();
+		}
+		return null;
+	}
+}
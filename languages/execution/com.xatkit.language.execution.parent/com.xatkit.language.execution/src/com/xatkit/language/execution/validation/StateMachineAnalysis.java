@@ -0,0 +1,147 @@
+package com.xatkit.language.execution.validation;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.xatkit.execution.ExecutionModel;
+import com.xatkit.execution.State;
+import com.xatkit.execution.Transition;
+
+/**
+ * An analysis model of the state machine defined in an {@link ExecutionModel}.
+ * <p>
+ * This analysis is computed in a single pass over the states and transitions of the provided {@link ExecutionModel},
+ * and holds the state name table and whether each state contains a wildcard transition. It also computes the states
+ * that are reachable from the {@code Init} state (breadth-first), allowing the validator to report states that cannot
+ * be reached during the execution of the bot.
+ * <p>
+ * The analysis is not updated when the model is modified, use {@link #analyze(ExecutionModel)} to compute a new
+ * analysis.
+ *
+ * @see ExecutionValidator
+ */
+public class StateMachineAnalysis {
+
+	/**
+	 * The name of the initial state of the state machine.
+	 */
+	public static final String INIT_STATE_NAME = "Init";
+
+	/**
+	 * Analyzes the provided {@code executionModel}.
+	 *
+	 * @param executionModel the {@link ExecutionModel} to analyze
+	 * @return the created {@link StateMachineAnalysis}
+	 */
+	public static StateMachineAnalysis analyze(ExecutionModel executionModel) {
+		return new StateMachineAnalysis(executionModel);
+	}
+
+	/**
+	 * The states of the model, indexed by name.
+	 */
+	private Map<String, List<State>> states = new HashMap<>();
+
+	/**
+	 * The states containing at least one wildcard transition.
+	 */
+	private Set<State> wildcardStates = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	/**
+	 * The states reachable from the {@code Init} state (including the {@code Init} state itself).
+	 */
+	private Set<State> reachableStates = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	/**
+	 * Constructs a new {@link StateMachineAnalysis} for the provided {@code executionModel}.
+	 * <p>
+	 * This method is private, use {@link #analyze(ExecutionModel)} to analyze an {@link ExecutionModel}.
+	 *
+	 * @param executionModel the {@link ExecutionModel} to analyze
+	 */
+	private StateMachineAnalysis(ExecutionModel executionModel) {
+		for (State state : executionModel.getStates()) {
+			states.computeIfAbsent(state.getName(), name -> new ArrayList<>()).add(state);
+			for (Transition transition : state.getTransitions()) {
+				if (transition.isIsWildcard()) {
+					wildcardStates.add(state);
+				}
+			}
+		}
+		computeReachableStates();
+	}
+
+	/**
+	 * Computes the states reachable from the {@code Init} state.
+	 * <p>
+	 * This method performs a breadth-first traversal of the transitions of the state machine, starting from the
+	 * {@code Init} states of the model.
+	 */
+	private void computeReachableStates() {
+		Deque<State> toVisit = new ArrayDeque<>(getStates(INIT_STATE_NAME));
+		reachableStates.addAll(toVisit);
+		while (!toVisit.isEmpty()) {
+			State state = toVisit.poll();
+			for (Transition transition : state.getTransitions()) {
+				State target = transition.getState();
+				if (nonNull(target) && reachableStates.add(target)) {
+					toVisit.add(target);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the states with the provided {@code name}.
+	 *
+	 * @param name the name of the states to retrieve
+	 * @return an unmodifiable {@link List} containing the states with the provided {@code name}
+	 */
+	public List<State> getStates(String name) {
+		List<State> result = states.get(name);
+		return isNull(result) ? Collections.emptyList() : Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Returns whether the model contains a state with the provided {@code name}.
+	 *
+	 * @param name the name of the state to check
+	 * @return {@code true} if the model contains a state with the provided {@code name}, {@code false} otherwise
+	 */
+	public boolean containsState(String name) {
+		return states.containsKey(name);
+	}
+
+	/**
+	 * Returns whether the provided {@code state} contains a wildcard transition.
+	 *
+	 * @param state the state to check
+	 * @return {@code true} if the provided {@code state} contains a wildcard transition, {@code false} otherwise
+	 */
+	public boolean hasWildcardTransition(State state) {
+		return wildcardStates.contains(state);
+	}
+
+	/**
+	 * Returns whether the provided {@code state} is reachable from the {@code Init} state.
+	 * <p>
+	 * This method always returns {@code false} if the model does not contain an {@code Init} state.
+	 *
+	 * @param state the state to check
+	 * @return {@code true} if the provided {@code state} is reachable from the {@code Init} state, {@code false}
+	 *         otherwise
+	 */
+	public boolean isReachable(State state) {
+		return reachableStates.contains(state);
+	}
+}
@@ -0,0 +1,107 @@
+package com.xatkit.language.platform.tests
+
+import com.google.inject.Inject
+import com.google.inject.Provider
+import com.xatkit.platform.PlatformDefinition
+import java.io.File
+import java.nio.file.Files
+import org.eclipse.emf.common.util.URI
+import org.eclipse.emf.ecore.resource.ResourceSet
+import org.eclipse.xtext.diagnostics.Severity
+import org.eclipse.xtext.resource.XtextResourceSet
+import org.eclipse.xtext.testing.InjectWith
+import org.eclipse.xtext.testing.XtextRunner
+import org.eclipse.xtext.testing.validation.ValidationTestHelper
+import org.junit.Assert
+import org.junit.Rule
+import org.junit.Test
+import org.junit.rules.TemporaryFolder
+import org.junit.runner.RunWith
+
+@RunWith(XtextRunner)
+@InjectWith(PlatformInjectorProvider)
+class PlatformValidatorTest {
+
+	@Inject
+	extension ValidationTestHelper
+
+	@Inject
+	Provider<XtextResourceSet> resourceSetProvider
+
+	@Rule
+	public val folder = new TemporaryFolder
+
+	@Test
+	def void platformHierarchyIsCyclic() {
+		val rSet = resourceSetProvider.get
+		val first = new File(folder.root, "First.platform")
+		val second = new File(folder.root, "Second.platform")
+		first.write('''
+			import platform "«second.importPath»"
+			Platform First extends Second
+		''')
+		second.write('''
+			import platform "«first.importPath»"
+			Platform Second extends First
+		''')
+		/*
+		 * Load both platforms, the imports are resolved from the loaded resources.
+		 */
+		rSet.load(second)
+		val platform = rSet.load(first)
+		Assert.assertTrue("The cyclic extends chain is not reported", platform.validate.exists [
+			severity == Severity.ERROR &&
+				message == "The extends chain of platform First is cyclic (First -> Second -> First)"
+		])
+	}
+
+	@Test
+	def void platformHierarchyIsNotCyclic() {
+		val rSet = resourceSetProvider.get
+		val first = new File(folder.root, "First.platform")
+		val second = new File(folder.root, "Second.platform")
+		first.write('''
+			Platform First
+		''')
+		second.write('''
+			import platform "«first.importPath»"
+			Platform Second extends First
+		''')
+		rSet.load(first)
+		val platform = rSet.load(second)
+		Assert.assertFalse("A non-cyclic extends chain is reported", platform.validate.exists [
+			message.contains("is cyclic")
+		])
+	}
+
+	/**
+	 * Writes the provided {@code content} in the given {@code file}.
+	 *
+	 * @param file    the file to write
+	 * @param content the content to write
+	 */
+	private def void write(File file, CharSequence content) {
+		Files.write(file.toPath, content.toString.bytes)
+	}
+
+	/**
+	 * Returns the path of the provided {@code file} that can be used in an import.
+	 *
+	 * @param file the file to retrieve the path of
+	 * @return the absolute path of the file, with {@code /} separators
+	 */
+	private def String getImportPath(File file) {
+		file.absolutePath.replace('\\', '/')
+	}
+
+	/**
+	 * Loads the platform stored in the provided {@code file} in the given {@code rSet}.
+	 *
+	 * @param rSet the {@link ResourceSet} to load the platform in
+	 * @param file the file containing the platform
+	 * @return the loaded {@link PlatformDefinition}
+	 */
+	private def PlatformDefinition load(ResourceSet rSet, File file) {
+		rSet.getResource(URI.createFileURI(file.absolutePath), true).contents.head as PlatformDefinition
+	}
+}
@@ -0,0 +1,332 @@
+package com.xatkit.language.platform;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
+
+import com.xatkit.platform.ActionDefinition;
+import com.xatkit.platform.EventProviderDefinition;
+import com.xatkit.platform.Parameter;
+import com.xatkit.platform.PlatformDefinition;
+import com.xatkit.utils.XatkitImportHelper;
+
+/**
+ * The effective actions and event providers of a {@link PlatformDefinition}, computed across its {@code extends}
+ * chain.
+ * <p>
+ * The effective actions of a platform are the actions it defines, and the actions of the platforms it (transitively)
+ * extends that are not overridden (i.e. that do not have the same name and parameter types as an action defined in a
+ * more specific platform). Actions are sorted from the most generic platform to the most specific one. The effective
+ * event providers of a platform are the providers it defines and the providers of the platforms it extends, indexed by
+ * name (the providers of the more specific platforms hide the ones of the generic platforms with the same name).
+ * <p>
+ * Tables are memoized in an {@link Adapter} attached to their {@link PlatformDefinition}: use
+ * {@link #get(PlatformDefinition)} to retrieve the table of a platform. A table is recomputed when a platform of its
+ * {@code extends} chain or one of its contents (e.g. an action or a parameter) is modified, or when the chain itself
+ * changes (e.g. when an extended platform is reloaded). Shared core platforms (see
+ * {@link XatkitImportHelper#isSharedCoreResource(Resource)}) are read-only and used by several threads: they are not
+ * adapted, and their tables are memoized in a global cache, without invalidation.
+ * Cyclic {@code extends} chains are supported: the chain stops at the first platform already visited, and the table
+ * is flagged as cyclic (see {@link #isCyclic()}).
+ */
+public class EffectivePlatformTable {
+
+	/**
+	 * The memoized tables of the shared core platforms.
+	 * <p>
+	 * Tables reference their platform: they are softly referenced, allowing the collection of the discarded shared
+	 * platforms.
+	 */
+	private static final Map<PlatformDefinition, SoftReference<EffectivePlatformTable>> SHARED_TABLES =
+			new WeakHashMap<>();
+
+	/**
+	 * Returns the up-to-date {@link EffectivePlatformTable} of the provided {@code platformDefinition}.
+	 * <p>
+	 * Checking that the memoized table is up-to-date is linear in the length of the {@code extends} chain, the table
+	 * is only recomputed if a platform of the chain has been modified.
+	 *
+	 * @param platformDefinition the {@link PlatformDefinition} to retrieve the table of
+	 * @return the {@link EffectivePlatformTable} of the provided {@code platformDefinition}
+	 */
+	public static EffectivePlatformTable get(PlatformDefinition platformDefinition) {
+		if (isShared(platformDefinition)) {
+			synchronized (SHARED_TABLES) {
+				SoftReference<EffectivePlatformTable> reference = SHARED_TABLES.get(platformDefinition);
+				EffectivePlatformTable table = isNull(reference) ? null : reference.get();
+				if (isNull(table)) {
+					table = new EffectivePlatformTable(platformDefinition);
+					SHARED_TABLES.put(platformDefinition, new SoftReference<>(table));
+				}
+				return table;
+			}
+		}
+		PlatformAdapter adapter = PlatformAdapter.getOrCreate(platformDefinition);
+		synchronized (adapter) {
+			if (isNull(adapter.table) || !adapter.table.isUpToDate()) {
+				adapter.table = new EffectivePlatformTable(platformDefinition);
+			}
+			return adapter.table;
+		}
+	}
+
+	/**
+	 * The {@code extends} chain of the platform, starting with the platform itself.
+	 */
+	private final List<PlatformDefinition> hierarchy = new ArrayList<>();
+
+	/**
+	 * The modification counts of the platforms of the {@link #hierarchy} when the table was computed.
+	 */
+	private final List<Long> modificationCounts = new ArrayList<>();
+
+	/**
+	 * Whether the {@code extends} chain of the platform contains a cycle.
+	 */
+	private boolean cyclic = false;
+
+	/**
+	 * The effective actions of the platform, indexed by signature.
+	 */
+	private final Map<String, ActionDefinition> actions = new LinkedHashMap<>();
+
+	/**
+	 * The effective event providers of the platform, indexed by name.
+	 */
+	private final Map<String, EventProviderDefinition> eventProviderDefinitions = new LinkedHashMap<>();
+
+	/**
+	 * Constructs a new {@link EffectivePlatformTable} for the provided {@code platformDefinition}.
+	 * <p>
+	 * This method is private, use {@link #get(PlatformDefinition)} to retrieve the table of a platform.
+	 *
+	 * @param platformDefinition the {@link PlatformDefinition} to compute the table of
+	 */
+	private EffectivePlatformTable(PlatformDefinition platformDefinition) {
+		this.cyclic = computeHierarchy(platformDefinition, hierarchy);
+		for (PlatformDefinition platform : hierarchy) {
+			modificationCounts.add(getModificationCount(platform));
+			for (EventProviderDefinition eventProviderDefinition : platform.getEventProviderDefinitions()) {
+				eventProviderDefinitions.putIfAbsent(eventProviderDefinition.getName(), eventProviderDefinition);
+			}
+		}
+		/*
+		 * Iterate from the most generic platform to the most specific one: overriding actions replace the generic
+		 * ones, keeping the position of the generic actions.
+		 */
+		for (int i = hierarchy.size() - 1; i >= 0; i--) {
+			for (ActionDefinition action : hierarchy.get(i).getActions()) {
+				actions.put(getSignature(action), action);
+			}
+		}
+	}
+
+	/**
+	 * Computes the {@code extends} chain of the provided {@code platformDefinition}.
+	 *
+	 * @param platformDefinition the {@link PlatformDefinition} to compute the chain of
+	 * @param result             the {@link List} to store the chain in
+	 * @return {@code true} if the chain contains a cycle, {@code false} otherwise
+	 */
+	private static boolean computeHierarchy(PlatformDefinition platformDefinition, List<PlatformDefinition> result) {
+		Set<PlatformDefinition> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		PlatformDefinition current = platformDefinition;
+		while (nonNull(current) && !current.eIsProxy()) {
+			if (!visited.add(current)) {
+				return true;
+			}
+			result.add(current);
+			current = current.getExtends();
+		}
+		return false;
+	}
+
+	/**
+	 * Returns whether this table reflects the current state of the {@code extends} chain of its platform.
+	 *
+	 * @return {@code true} if the table is up-to-date, {@code false} otherwise
+	 */
+	private boolean isUpToDate() {
+		List<PlatformDefinition> currentHierarchy = new ArrayList<>(hierarchy.size());
+		if (computeHierarchy(hierarchy.get(0), currentHierarchy) != cyclic
+				|| currentHierarchy.size() != hierarchy.size()) {
+			return false;
+		}
+		for (int i = 0; i < hierarchy.size(); i++) {
+			PlatformDefinition platform = hierarchy.get(i);
+			if (currentHierarchy.get(i) != platform
+					|| getModificationCount(platform) != modificationCounts.get(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns whether the provided {@code platformDefinition} is contained in a shared core {@link Resource}.
+	 *
+	 * @param platformDefinition the {@link PlatformDefinition} to check
+	 * @return {@code true} if the platform is a shared core platform, {@code false} otherwise
+	 */
+	private static boolean isShared(PlatformDefinition platformDefinition) {
+		Resource resource = platformDefinition.eResource();
+		return nonNull(resource) && XatkitImportHelper.getInstance().isSharedCoreResource(resource);
+	}
+
+	/**
+	 * Returns the modification count of the provided {@code platformDefinition}.
+	 * <p>
+	 * Shared core platforms are never modified (a modified core platform is loaded in a new {@link Resource}): their
+	 * modification count is always {@code 0}, and they are not adapted.
+	 *
+	 * @param platformDefinition the {@link PlatformDefinition} to retrieve the modification count of
+	 * @return the modification count of the platform
+	 */
+	private static long getModificationCount(PlatformDefinition platformDefinition) {
+		return isShared(platformDefinition) ? 0 : PlatformAdapter.getOrCreate(platformDefinition).modificationCount;
+	}
+
+	/**
+	 * Returns the signature of the provided {@code action}.
+	 * <p>
+	 * The signature contains the name of the action and the types of its parameters, as written in the platform
+	 * (parameters without type are considered as {@code Object}). Types are read from the node model, and are not
+	 * resolved.
+	 *
+	 * @param action the {@link ActionDefinition} to compute the signature of
+	 * @return the signature of the action
+	 */
+	private static String getSignature(ActionDefinition action) {
+		StringBuilder sb = new StringBuilder(String.valueOf(action.getName())).append('(');
+		for (int i = 0; i < action.getParameters().size(); i++) {
+			if (i > 0) {
+				sb.append(',');
+			}
+			Parameter parameter = action.getParameters().get(i);
+			ICompositeNode typeNode = isNull(parameter.getType()) ? null
+					: NodeModelUtils.getNode(parameter.getType());
+			sb.append(isNull(typeNode) ? "Object" : NodeModelUtils.getTokenText(typeNode));
+		}
+		return sb.append(')').toString();
+	}
+
+	/**
+	 * Returns the {@code extends} chain of the platform.
+	 *
+	 * @return an unmodifiable {@link List} containing the platform followed by the platforms it (transitively)
+	 *         extends
+	 */
+	public List<PlatformDefinition> getHierarchy() {
+		return Collections.unmodifiableList(hierarchy);
+	}
+
+	/**
+	 * Returns whether the {@code extends} chain of the platform contains a cycle.
+	 *
+	 * @return {@code true} if the chain contains a cycle, {@code false} otherwise
+	 */
+	public boolean isCyclic() {
+		return cyclic;
+	}
+
+	/**
+	 * Returns the effective actions of the platform.
+	 *
+	 * @return an unmodifiable {@link Collection} containing the effective actions, from the most generic platform to
+	 *         the most specific one
+	 */
+	public Collection<ActionDefinition> getActions() {
+		return Collections.unmodifiableCollection(actions.values());
+	}
+
+	/**
+	 * Returns the effective event providers of the platform.
+	 *
+	 * @return an unmodifiable {@link Collection} containing the effective event providers, from the most specific
+	 *         platform to the most generic one
+	 */
+	public Collection<EventProviderDefinition> getEventProviderDefinitions() {
+		return Collections.unmodifiableCollection(eventProviderDefinitions.values());
+	}
+
+	/**
+	 * Returns the effective event provider of the platform with the provided {@code name}.
+	 *
+	 * @param name the name of the event provider to retrieve
+	 * @return the {@link EventProviderDefinition}, or {@code null} if the platform and the platforms it extends do not
+	 *         define a provider with the provided {@code name}
+	 */
+	public EventProviderDefinition getEventProviderDefinition(String name) {
+		return eventProviderDefinitions.get(name);
+	}
+
+	/**
+	 * An {@link Adapter} tracking the modifications of a {@link PlatformDefinition} and of its contents, and storing
+	 * its memoized table.
+	 * <p>
+	 * This adapter is only attached to the platforms owned by a consumer {@link ResourceSet}, which are accessed by a
+	 * single thread at a time: shared core platforms are never adapted.
+	 */
+	private static class PlatformAdapter extends EContentAdapter {
+
+		/**
+		 * Returns the {@link PlatformAdapter} of the provided {@code platformDefinition}, creating it if needed.
+		 *
+		 * @param platformDefinition the {@link PlatformDefinition} to retrieve the adapter of
+		 * @return the {@link PlatformAdapter} of the provided {@code platformDefinition}
+		 */
+		private static PlatformAdapter getOrCreate(PlatformDefinition platformDefinition) {
+			synchronized (platformDefinition) {
+				for (Adapter adapter : platformDefinition.eAdapters()) {
+					if (adapter instanceof PlatformAdapter) {
+						return (PlatformAdapter) adapter;
+					}
+				}
+				PlatformAdapter adapter = new PlatformAdapter();
+				platformDefinition.eAdapters().add(adapter);
+				return adapter;
+			}
+		}
+
+		/**
+		 * The number of modifications of the adapted {@link PlatformDefinition}.
+		 */
+		private volatile long modificationCount = 0;
+
+		/**
+		 * The memoized table of the adapted {@link PlatformDefinition}.
+		 */
+		private EffectivePlatformTable table;
+
+		@Override
+		public void notifyChanged(Notification msg) {
+			super.notifyChanged(msg);
+			if (!msg.isTouch()) {
+				modificationCount++;
+			}
+		}
+
+		@Override
+		public boolean isAdapterForType(Object type) {
+			return type == PlatformAdapter.class;
+		}
+	}
+}
@@ -7,19 +7,33 @@ import java.util.List;
 import org.apache.log4j.Logger;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.xtext.linking.impl.DefaultLinkingService;
 import org.eclipse.xtext.linking.impl.IllegalNodeException;
+import org.eclipse.xtext.naming.QualifiedName;
 import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.resource.IEObjectDescription;
 
+import com.xatkit.language.common.scoping.ImportedElementsScopeProvider;
 import com.xatkit.platform.PlatformDefinition;
 import com.xatkit.platform.PlatformPackage;
 import com.xatkit.utils.XatkitImportHelper;
+import com.xatkit.utils.XatkitMetrics;
 
 import static java.text.MessageFormat.format;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 public class PlatformLinkingService extends DefaultLinkingService {
 
 	private static final Logger log = Logger.getLogger(PlatformLinkingService.class);
+
+	/**
+	 * The prefix of the timers tracking the linking calls, suffixed by the name of the linked reference.
+	 * 
+	 * @see XatkitMetrics
+	 */
+	public static final String LINKING_METRIC_PREFIX = "linking.platform.";
 	
 	public PlatformLinkingService() {
 		super();
@@ -28,9 +42,23 @@ public class PlatformLinkingService extends DefaultLinkingService {
 
 	@Override
 	public List<EObject> getLinkedObjects(EObject context, EReference ref, INode node) throws IllegalNodeException {
+		long start = System.nanoTime();
+		try {
+			return getLinkedObjectsInternal(context, ref, node);
+		} finally {
+			XatkitMetrics.getInstance().record(LINKING_METRIC_PREFIX + ref.getName(), start);
+		}
+	}
+
+	private List<EObject> getLinkedObjectsInternal(EObject context, EReference ref, INode node) {
 		if (context instanceof PlatformDefinition) {
 			PlatformDefinition platformDefinition = (PlatformDefinition) context;
 			if (ref.equals(PlatformPackage.eINSTANCE.getPlatformDefinition_Extends())) {
+				PlatformDefinition indexedPlatformDefinition = getIndexedPlatformDefinition(platformDefinition, ref,
+						node.getText());
+				if (nonNull(indexedPlatformDefinition)) {
+					return Arrays.asList(indexedPlatformDefinition);
+				}
 				log.debug(format("{0} linking super-platforms of {1}", this.getClass().getSimpleName(), platformDefinition.getName()));
 				Collection<PlatformDefinition> importedPlatformDefinitions = XatkitImportHelper.getInstance()
 						.getImportedPlatforms(platformDefinition);
@@ -45,4 +73,32 @@ public class PlatformLinkingService extends DefaultLinkingService {
 		return super.getLinkedObjects(context, ref, node);
 	}
 
+	/**
+	 * Returns the {@link PlatformDefinition} with the provided {@code name} from the scope of the given {@code ref}.
+	 * <p>
+	 * The scope of the {@code PlatformDefinition.extends} reference contains the platforms exported in Xtext's index
+	 * by the imports of the {@code context} (see {@link ImportedElementsScopeProvider}). This method only returns
+	 * platforms that are already loaded in the {@link ResourceSet}: indexed platforms that are not loaded are
+	 * retrieved with the {@link XatkitImportHelper}.
+	 * 
+	 * @param context the {@link PlatformDefinition} to link
+	 * @param ref     the linked {@link EReference}
+	 * @param name    the name of the extended {@link PlatformDefinition}
+	 * @return the {@link PlatformDefinition}, or {@code null} if the scope does not contain a loaded platform
+	 *         matching the provided {@code name}
+	 */
+	private PlatformDefinition getIndexedPlatformDefinition(PlatformDefinition context, EReference ref, String name) {
+		if (isNull(name) || name.isEmpty()) {
+			return null;
+		}
+		IEObjectDescription description = getScope(context, ref).getSingleElement(QualifiedName.create(name));
+		if (nonNull(description)) {
+			EObject eObject = description.getEObjectOrProxy();
+			if (!eObject.eIsProxy() && eObject instanceof PlatformDefinition) {
+				return (PlatformDefinition) eObject;
+			}
+		}
+		return null;
+	}
+
 }
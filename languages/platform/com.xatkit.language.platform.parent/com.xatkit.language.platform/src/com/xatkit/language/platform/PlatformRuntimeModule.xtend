@@ -3,7 +3,13 @@
  */
 package com.xatkit.language.platform
 
+import com.xatkit.language.common.scoping.XatkitQualifiedNameProvider
+import com.xatkit.language.common.scoping.XatkitResourceDescriptionManager
+import com.xatkit.language.common.scoping.XatkitResourceDescriptionStrategy
 import com.xatkit.language.platform.generator.PlatformGenerator
+import org.eclipse.xtext.naming.IQualifiedNameProvider
+import org.eclipse.xtext.resource.IDefaultResourceDescriptionStrategy
+import org.eclipse.xtext.resource.IResourceDescription
 
 /**
  * Use this class to register components to be used at runtime / without the Equinox extension registry.
@@ -18,4 +24,16 @@ class PlatformRuntimeModule extends AbstractPlatformRuntimeModule {
 		return PlatformGenerator
 	}
 	
+	override Class<? extends IQualifiedNameProvider> bindIQualifiedNameProvider() {
+		return XatkitQualifiedNameProvider
+	}
+	
+	override Class<? extends IDefaultResourceDescriptionStrategy> bindIDefaultResourceDescriptionStrategy() {
+		return XatkitResourceDescriptionStrategy
+	}
+	
+	override Class<? extends IResourceDescription.Manager> bindIResourceDescription$Manager() {
+		return XatkitResourceDescriptionManager
+	}
+	
 }
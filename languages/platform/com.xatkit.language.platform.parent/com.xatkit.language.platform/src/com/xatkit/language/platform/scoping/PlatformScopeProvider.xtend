@@ -3,6 +3,12 @@
  */
 package com.xatkit.language.platform.scoping
 
+import com.google.inject.Inject
+import com.xatkit.language.common.scoping.ImportedElementsScopeProvider
+import com.xatkit.platform.PlatformDefinition
+import com.xatkit.platform.PlatformPackage
+import org.eclipse.emf.ecore.EObject
+import org.eclipse.emf.ecore.EReference
 
 /**
  * This class contains custom scoping description.
@@ -12,4 +18,29 @@ package com.xatkit.language.platform.scoping
  */
 class PlatformScopeProvider extends AbstractPlatformScopeProvider {
 
+	@Inject
+	ImportedElementsScopeProvider importedElementsScopeProvider
+
+	/**
+	 * Returns the {@link IScope} associated to the provided {@code context} and {@code reference}.
+	 * <p>
+	 * The scope of the {@code PlatformDefinition.extends} reference contains the platforms exported in Xtext's index 
+	 * by the imports of the {@link PlatformDefinition}. The imported resources are not loaded to compute this scope 
+	 * (see {@link ImportedElementsScopeProvider}).
+	 * 
+	 * @param context the {@link EObject} to compute the scope of
+	 * @param reference the {@link EReference} to compute the scope of
+	 * 
+	 * @return the created {@link IScope}
+	 */
+	override getScope(EObject context, EReference reference) {
+		if (context instanceof PlatformDefinition && reference == PlatformPackage.Literals.PLATFORM_DEFINITION__EXTENDS) {
+			val platformDefinition = context as PlatformDefinition
+			return importedElementsScopeProvider.getScope(platformDefinition, platformDefinition.imports,
+				PlatformPackage.Literals.PLATFORM_DEFINITION)
+		} else {
+			super.getScope(context, reference)
+		}
+	}
+
 }
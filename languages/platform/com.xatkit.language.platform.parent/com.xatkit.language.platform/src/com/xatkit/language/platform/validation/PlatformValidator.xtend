@@ -5,6 +5,7 @@ package com.xatkit.language.platform.validation
 
 import com.xatkit.common.CommonPackage
 import com.xatkit.common.ImportDeclaration
+import com.xatkit.language.platform.EffectivePlatformTable
 import com.xatkit.platform.PlatformDefinition
 import com.xatkit.platform.PlatformPackage
 import com.xatkit.utils.XatkitImportHelper
@@ -13,15 +14,19 @@ import org.eclipse.xtext.validation.Check
 
 import static java.util.Objects.isNull
 import static java.util.Objects.nonNull
+import static org.eclipse.xtext.validation.CheckType.NORMAL
 
 /**
  * This class contains custom validation rules. 
  * 
  * See https://www.eclipse.org/Xtext/documentation/303_runtime_concepts.html#validation
+ * <p>
+ * The import check loads the imported files and is {@link CheckType#NORMAL} (executed on save and build), the other 
+ * checks are executed as-you-type.
  */
 class PlatformValidator extends AbstractPlatformValidator {
 
-	@Check
+	@Check(NORMAL)
 	def checkImportDefinition(ImportDeclaration i) {
 		val Resource importedResource = XatkitImportHelper.getInstance.getResourceFromImport(i)
 		if(isNull(importedResource)) {
@@ -49,6 +54,15 @@ class PlatformValidator extends AbstractPlatformValidator {
 		}
 	}
 
+	@Check
+	def checkPlatformHierarchyIsNotCyclic(PlatformDefinition platform) {
+		val table = EffectivePlatformTable.get(platform)
+		if (table.cyclic) {
+			error('The extends chain of platform ' + platform.name + ' is cyclic (' + table.hierarchy.map[name].join(' -> ') 
+				+ ' -> ' + table.hierarchy.last.extends.name + ')', PlatformPackage.Literals.PLATFORM_DEFINITION__EXTENDS)
+		}
+	}
+
 	@Check
 	def checkAbstractPlatformDoesNotDefinePath(PlatformDefinition platform) {
 		if (platform.abstract) {
@@ -0,0 +1,152 @@
+package com.xatkit.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
+
+import com.xatkit.common.CommonFactory;
+import com.xatkit.common.LibraryImportDeclaration;
+import com.xatkit.execution.ExecutionFactory;
+import com.xatkit.execution.ExecutionModel;
+import com.xatkit.intent.IntentDefinition;
+import com.xatkit.intent.IntentFactory;
+import com.xatkit.intent.Library;
+
+/**
+ * A set of {@link Library} files imported by the tests of the {@link XatkitImportHelper}.
+ * <p>
+ * The {@link Library} files are serialized in XMI in a temporary directory, allowing to test the import resolution
+ * without the Xtext languages and without a {@code XATKIT} installation. The {@link ResourceSet}s created by this
+ * class (see {@link #createResourceSet()}) load the {@code .intent} files with the XMI resource factory.
+ */
+class ImportTestFixture {
+
+	/**
+	 * The temporary directory containing the {@link Library} files.
+	 */
+	private final Path directory;
+
+	/**
+	 * The {@link Library} files, in creation order.
+	 */
+	private final List<File> libraryFiles = new ArrayList<>();
+
+	/**
+	 * Creates an {@link ImportTestFixture} containing {@code libraryCount} {@link Library} files of
+	 * {@code intentCount} {@link IntentDefinition}s each.
+	 *
+	 * @param libraryCount the number of {@link Library} files to create
+	 * @param intentCount  the number of {@link IntentDefinition}s of each {@link Library}
+	 * @return the created {@link ImportTestFixture}
+	 * @throws IOException if an error occurred when writing the {@link Library} files
+	 */
+	static ImportTestFixture create(int libraryCount, int intentCount) throws IOException {
+		ImportTestFixture fixture = new ImportTestFixture(Files.createTempDirectory("xatkit-imports"));
+		ResourceSet rSet = fixture.createResourceSet();
+		for (int i = 0; i < libraryCount; i++) {
+			Library library = IntentFactory.eINSTANCE.createLibrary();
+			library.setName(getLibraryName(i));
+			for (int j = 0; j < intentCount; j++) {
+				IntentDefinition intent = IntentFactory.eINSTANCE.createIntentDefinition();
+				intent.setName("Intent" + j);
+				for (int k = 0; k < 10; k++) {
+					intent.getTrainingSentences().add("Training sentence " + k + " of intent " + j);
+				}
+				library.getEventDefinitions().add(intent);
+			}
+			File libraryFile = fixture.directory.resolve(getLibraryName(i) + ".intent").toFile();
+			Resource resource = rSet.createResource(URI.createFileURI(libraryFile.getAbsolutePath()));
+			resource.getContents().add(library);
+			resource.save(Collections.emptyMap());
+			fixture.libraryFiles.add(libraryFile);
+		}
+		return fixture;
+	}
+
+	/**
+	 * Returns the name of the {@code index}th {@link Library} of the fixture.
+	 *
+	 * @param index the index of the {@link Library}
+	 * @return the name of the {@link Library}
+	 */
+	static String getLibraryName(int index) {
+		return "Library" + index;
+	}
+
+	/**
+	 * Constructs an {@link ImportTestFixture} storing its files in the provided {@code directory}.
+	 *
+	 * @param directory the directory containing the {@link Library} files
+	 */
+	private ImportTestFixture(Path directory) {
+		this.directory = directory;
+	}
+
+	/**
+	 * Returns the {@link Library} files of the fixture.
+	 *
+	 * @return the {@link Library} files, in creation order
+	 */
+	List<File> getLibraryFiles() {
+		return Collections.unmodifiableList(libraryFiles);
+	}
+
+	/**
+	 * Creates a {@link ResourceSet} able to load the {@link Library} files of the fixture.
+	 *
+	 * @return the created {@link ResourceSet}
+	 */
+	ResourceSet createResourceSet() {
+		ResourceSet rSet = new ResourceSetImpl();
+		rSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("intent", new XMIResourceFactoryImpl());
+		rSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("xmi", new XMIResourceFactoryImpl());
+		return rSet;
+	}
+
+	/**
+	 * Creates an {@link ExecutionModel} importing all the {@link Library} files of the fixture in the provided
+	 * {@code rSet}.
+	 * <p>
+	 * The created {@link ExecutionModel} is contained in a {@link Resource} of the provided {@code rSet}, but is not
+	 * saved.
+	 *
+	 * @param rSet the {@link ResourceSet} to create the {@link ExecutionModel} in
+	 * @return the created {@link ExecutionModel}
+	 */
+	ExecutionModel createExecutionModel(ResourceSet rSet) {
+		ExecutionModel executionModel = ExecutionFactory.eINSTANCE.createExecutionModel();
+		for (File libraryFile : libraryFiles) {
+			LibraryImportDeclaration importDeclaration = CommonFactory.eINSTANCE.createLibraryImportDeclaration();
+			importDeclaration.setPath(libraryFile.getAbsolutePath());
+			executionModel.getImports().add(importDeclaration);
+		}
+		Resource resource = rSet.createResource(URI.createFileURI(directory.resolve("model.xmi").toString()));
+		resource.getContents().add(executionModel);
+		return executionModel;
+	}
+
+	/**
+	 * Deletes the files of the fixture.
+	 *
+	 * @throws IOException if an error occurred when deleting the files
+	 */
+	void delete() throws IOException {
+		try (Stream<Path> paths = Files.walk(directory)) {
+			for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+				Files.delete(path);
+			}
+		}
+	}
+}
@@ -0,0 +1,131 @@
+package com.xatkit.utils;
+
+import static java.text.MessageFormat.format;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.xatkit.execution.ExecutionModel;
+import com.xatkit.intent.Library;
+
+/**
+ * Compares the sequential and the concurrent loading of the imports of an {@link ExecutionModel}.
+ * <p>
+ * Each measure loads all the imports of an {@link ExecutionModel} in a new {@link ResourceSet}, and the reported time
+ * is the median of {@link #ROUNDS} measures. The times are logged and not asserted: only the loaded imports are
+ * checked.
+ */
+public class XatkitImportHelperBenchmarkTest {
+
+	private static final Logger log = Logger.getLogger(XatkitImportHelperBenchmarkTest.class);
+
+	private static final int LIBRARY_COUNT = 16;
+
+	private static final int INTENT_COUNT = 500;
+
+	private static final int ROUNDS = 5;
+
+	private static ImportTestFixture fixture;
+
+	private XatkitImportHelper helper;
+
+	private int initialParallelism;
+
+	@BeforeClass
+	public static void setUpBeforeClass() throws IOException {
+		fixture = ImportTestFixture.create(LIBRARY_COUNT, INTENT_COUNT);
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws IOException {
+		fixture.delete();
+	}
+
+	@Before
+	public void setUp() {
+		helper = XatkitImportHelper.getInstance();
+		initialParallelism = helper.getImportLoadingParallelism();
+	}
+
+	@After
+	public void tearDown() {
+		helper.setImportLoadingParallelism(initialParallelism);
+	}
+
+	@Test
+	public void concurrentLoadingKeepsDeclarationOrder() {
+		helper.setImportLoadingParallelism(4);
+		ResourceSet rSet = fixture.createResourceSet();
+		Collection<Library> libraries = helper.getImportedLibraries(fixture.createExecutionModel(rSet));
+		List<String> libraryNames = new ArrayList<>();
+		libraries.forEach(l -> libraryNames.add(l.getName()));
+		List<String> expectedNames = new ArrayList<>();
+		for (int i = 0; i < LIBRARY_COUNT; i++) {
+			expectedNames.add(ImportTestFixture.getLibraryName(i));
+		}
+		assertEquals("Invalid imported libraries", expectedNames, libraryNames);
+		libraries.forEach(l -> assertEquals("Library loaded in another ResourceSet", rSet,
+				l.eResource().getResourceSet()));
+		helper.dispose(rSet);
+	}
+
+	@Test
+	public void compareConcurrentAndSequentialLoading() {
+		/*
+		 * The measures are only reported: wall-clock comparisons are not reliable on shared or single-core hosts.
+		 */
+		int parallelism = Math.max(2, Runtime.getRuntime().availableProcessors());
+		long sequentialTime = measure(1);
+		long concurrentTime = measure(parallelism);
+		log.info(format("Loaded {0} imports in {1}ms sequentially, and in {2}ms with {3} threads ({4} processors)",
+				LIBRARY_COUNT, sequentialTime / 1_000_000, concurrentTime / 1_000_000, parallelism,
+				Runtime.getRuntime().availableProcessors()));
+	}
+
+	/**
+	 * Returns the median time required to load the imports of the fixture with the provided {@code parallelism}.
+	 * <p>
+	 * The first load is not measured, and allows to warm up the JVM.
+	 *
+	 * @param parallelism the import loading parallelism
+	 * @return the median loading time, in nanoseconds
+	 */
+	private long measure(int parallelism) {
+		helper.setImportLoadingParallelism(parallelism);
+		load();
+		long[] times = new long[ROUNDS];
+		for (int i = 0; i < ROUNDS; i++) {
+			times[i] = load();
+		}
+		Arrays.sort(times);
+		return times[ROUNDS / 2];
+	}
+
+	/**
+	 * Loads the imports of the fixture in a new {@link ResourceSet}.
+	 *
+	 * @return the loading time, in nanoseconds
+	 */
+	private long load() {
+		ResourceSet rSet = fixture.createResourceSet();
+		ExecutionModel executionModel = fixture.createExecutionModel(rSet);
+		long start = System.nanoTime();
+		Collection<Library> libraries = helper.getImportedLibraries(executionModel);
+		long time = System.nanoTime() - start;
+		assertEquals("Invalid number of imported libraries", LIBRARY_COUNT, libraries.size());
+		helper.dispose(rSet);
+		return time;
+	}
+}
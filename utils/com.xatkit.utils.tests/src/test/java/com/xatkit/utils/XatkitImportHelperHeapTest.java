@@ -0,0 +1,127 @@
+package com.xatkit.utils;
+
+import static java.text.MessageFormat.format;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Checks that the {@link XatkitImportHelper} does not retain the {@link ResourceSet}s it processes.
+ * <p>
+ * These tests open and close {@link #RESOURCE_SET_COUNT} {@link ResourceSet}s, and check that they are garbage
+ * collected and that the used heap returns to its initial size. Half of the {@link ResourceSet}s are explicitly
+ * disposed (see {@link XatkitImportHelper#dispose(ResourceSet)}), the other half are simply dropped.
+ */
+public class XatkitImportHelperHeapTest {
+
+	private static final Logger log = Logger.getLogger(XatkitImportHelperHeapTest.class);
+
+	private static final int RESOURCE_SET_COUNT = 300;
+
+	/**
+	 * The heap that can remain used once the {@link ResourceSet}s have been collected (e.g. by the class loading and
+	 * the JIT).
+	 */
+	private static final long HEAP_TOLERANCE = 16 * 1024 * 1024;
+
+	private static ImportTestFixture fixture;
+
+	private XatkitImportHelper helper;
+
+	@BeforeClass
+	public static void setUpBeforeClass() throws IOException {
+		fixture = ImportTestFixture.create(4, 50);
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws IOException {
+		fixture.delete();
+	}
+
+	@Before
+	public void setUp() {
+		helper = XatkitImportHelper.getInstance();
+		/*
+		 * Load the imports once to initialize the helper and its pools before measuring the heap.
+		 */
+		ResourceSet rSet = fixture.createResourceSet();
+		helper.getImportedElements(fixture.createExecutionModel(rSet));
+		helper.dispose(rSet);
+	}
+
+	@Test
+	public void closedResourceSetsAreCollected() {
+		long baseline = getUsedHeap();
+		List<WeakReference<ResourceSet>> references = new ArrayList<>();
+		for (int i = 0; i < RESOURCE_SET_COUNT; i++) {
+			ResourceSet rSet = fixture.createResourceSet();
+			assertEquals("Invalid number of imported elements", fixture.getLibraryFiles().size(),
+					helper.getImportedElements(fixture.createExecutionModel(rSet)).size());
+			helper.ignoreAlias(rSet, "alias" + i);
+			if (i % 2 == 0) {
+				helper.dispose(rSet);
+			}
+			references.add(new WeakReference<>(rSet));
+		}
+		long retained = countRetained(references);
+		assertEquals(format("{0} ResourceSets are still reachable", retained), 0, retained);
+		long usedHeap = getUsedHeap();
+		log.info(format("Used heap: {0} bytes before, {1} bytes after closing {2} ResourceSets", baseline, usedHeap,
+				RESOURCE_SET_COUNT));
+		assertTrue(format("The used heap ({0} bytes) did not return to its baseline ({1} bytes)", usedHeap, baseline),
+				usedHeap <= baseline + HEAP_TOLERANCE);
+	}
+
+	/**
+	 * Returns the number of {@link ResourceSet}s of the provided {@code references} that are not garbage collected.
+	 * <p>
+	 * This method requests several garbage collections, and returns as soon as all the {@link ResourceSet}s have been
+	 * collected.
+	 *
+	 * @param references the {@link WeakReference}s to the {@link ResourceSet}s to check
+	 * @return the number of {@link ResourceSet}s that are still reachable
+	 */
+	private long countRetained(List<WeakReference<ResourceSet>> references) {
+		long retained = references.size();
+		for (int i = 0; i < 10 && retained > 0; i++) {
+			collectGarbage();
+			retained = references.stream().filter(r -> r.get() != null).count();
+		}
+		return retained;
+	}
+
+	/**
+	 * Returns the used heap after a garbage collection.
+	 *
+	 * @return the used heap, in bytes
+	 */
+	private long getUsedHeap() {
+		collectGarbage();
+		Runtime runtime = Runtime.getRuntime();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	/**
+	 * Requests a garbage collection and waits for its completion.
+	 */
+	private void collectGarbage() {
+		System.gc();
+		System.runFinalization();
+		try {
+			Thread.sleep(100);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
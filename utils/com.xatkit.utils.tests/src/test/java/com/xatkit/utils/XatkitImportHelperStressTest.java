@@ -0,0 +1,136 @@
+package com.xatkit.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.xatkit.execution.ExecutionModel;
+import com.xatkit.intent.Library;
+
+/**
+ * Resolves the same imports from many threads concurrently.
+ * <p>
+ * Each thread resolves the imports of an {@link ExecutionModel} contained in its own {@link ResourceSet}, and of an
+ * {@link ExecutionModel} contained in a {@link ResourceSet} shared by all the threads. The imported files are touched
+ * during the test, forcing the threads to reload them concurrently.
+ * <p>
+ * This test only covers the {@link XatkitImportHelper}: the models are not linked nor inferred, since linking and
+ * inference are not safe on a {@link ResourceSet} shared by several threads.
+ */
+public class XatkitImportHelperStressTest {
+
+	private static final int THREAD_COUNT = 16;
+
+	private static final int ITERATION_COUNT = 50;
+
+	private static ImportTestFixture fixture;
+
+	private XatkitImportHelper helper;
+
+	private ExecutorService executor;
+
+	@BeforeClass
+	public static void setUpBeforeClass() throws IOException {
+		fixture = ImportTestFixture.create(8, 50);
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws IOException {
+		fixture.delete();
+	}
+
+	@Before
+	public void setUp() {
+		helper = XatkitImportHelper.getInstance();
+		executor = Executors.newFixedThreadPool(THREAD_COUNT + 1);
+	}
+
+	@After
+	public void tearDown() throws InterruptedException {
+		executor.shutdownNow();
+		executor.awaitTermination(10, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void concurrentImportResolution() throws Exception {
+		ResourceSet sharedResourceSet = fixture.createResourceSet();
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> results = new ArrayList<>();
+		for (int i = 0; i < THREAD_COUNT; i++) {
+			/*
+			 * ResourceSets are not thread-safe: create the shared models before starting the threads.
+			 */
+			ExecutionModel sharedExecutionModel = fixture.createExecutionModel(sharedResourceSet);
+			results.add(executor.submit(() -> {
+				start.await();
+				for (int j = 0; j < ITERATION_COUNT; j++) {
+					ResourceSet rSet = fixture.createResourceSet();
+					ExecutionModel executionModel = fixture.createExecutionModel(rSet);
+					Collection<Library> libraries = helper.getImportedLibraries(executionModel);
+					assertImportedLibraries(libraries);
+					libraries.forEach(l -> assertEquals("Library loaded in another ResourceSet", rSet,
+							l.eResource().getResourceSet()));
+					helper.dispose(rSet);
+					assertImportedLibraries(helper.getImportedLibraries(sharedExecutionModel));
+					sharedExecutionModel.getImports().forEach(d -> helper.getResourceFromImport(d));
+				}
+				return null;
+			}));
+		}
+		results.add(executor.submit((Callable<Void>) () -> {
+			start.await();
+			/*
+			 * Touch the imported files while they are resolved by the other threads.
+			 */
+			for (int j = 0; j < ITERATION_COUNT; j++) {
+				File libraryFile = fixture.getLibraryFiles().get(j % fixture.getLibraryFiles().size());
+				assertTrue("Cannot touch " + libraryFile, libraryFile.setLastModified(
+						Math.max(System.currentTimeMillis(), libraryFile.lastModified() + 1000)));
+				Thread.sleep(10);
+			}
+			return null;
+		}));
+		start.countDown();
+		for (Future<?> result : results) {
+			/*
+			 * Rethrows the assertion errors and exceptions of the threads.
+			 */
+			result.get(5, TimeUnit.MINUTES);
+		}
+		helper.dispose(sharedResourceSet);
+	}
+
+	/**
+	 * Checks that the provided {@code libraries} contain all the {@link Library}s of the fixture in declaration
+	 * order.
+	 *
+	 * @param libraries the imported {@link Library}s to check
+	 */
+	private void assertImportedLibraries(Collection<Library> libraries) {
+		List<String> libraryNames = new ArrayList<>();
+		libraries.forEach(l -> libraryNames.add(l.getName()));
+		List<String> expectedNames = new ArrayList<>();
+		for (int i = 0; i < fixture.getLibraryFiles().size(); i++) {
+			expectedNames.add(ImportTestFixture.getLibraryName(i));
+		}
+		assertEquals("Invalid imported libraries", expectedNames, libraryNames);
+	}
+}
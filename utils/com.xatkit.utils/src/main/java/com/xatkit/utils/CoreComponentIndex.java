@@ -0,0 +1,637 @@
+package com.xatkit.utils;
+
+import static java.text.MessageFormat.format;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+
+import com.xatkit.intent.EventDefinition;
+import com.xatkit.intent.Library;
+import com.xatkit.platform.ActionDefinition;
+import com.xatkit.platform.EventProviderDefinition;
+import com.xatkit.platform.PlatformDefinition;
+
+/**
+ * A persisted index of the Xatkit <i>core components</i> installed in the {@code XATKIT} directory.
+ * <p>
+ * This index stores, for each core {@link PlatformDefinition} and {@link Library} file, its path, size, and last
+ * modification time, as well as the name of its top-level element and the events/actions it defines. The index is
+ * saved on disk (see {@link #INDEX_FILE_PROPERTY}) and reused as long as the {@code XATKIT/plugins/platforms} and
+ * {@code XATKIT/plugins/libraries} directories are not modified. This allows to retrieve the core components without
+ * walking the installation directory and parsing every core file each time a {@link ResourceSet} is created.
+ * <p>
+ * Use {@link #getInstance()} to retrieve an up-to-date index.
+ */
+class CoreComponentIndex implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final Logger log = Logger.getLogger(CoreComponentIndex.class);
+
+	/**
+	 * The system property used to specify the location of the persisted index.
+	 * <p>
+	 * The index is stored in {@code <user.home>/.xatkit/core-components.index} if this property is not set.
+	 */
+	static final String INDEX_FILE_PROPERTY = "xatkit.core.index";
+
+	/**
+	 * The version of the persisted index format.
+	 * <p>
+	 * Persisted indexes with a different version are ignored and rebuilt.
+	 */
+	private static final int INDEX_VERSION = 3;
+
+	/**
+	 * The published {@link CoreComponentIndex} instance.
+	 * <p>
+	 * Published indexes are never modified: a new instance is published each time the index is revalidated or
+	 * rebuilt, allowing to read it without holding a lock.
+	 *
+	 * @see #getInstance()
+	 */
+	private static volatile CoreComponentIndex INSTANCE;
+
+	/**
+	 * The lock used to serialize the revalidations of the index.
+	 *
+	 * @see #revalidate(String)
+	 */
+	private static final Object REVALIDATION_LOCK = new Object();
+
+	/**
+	 * Returns an up-to-date {@link CoreComponentIndex} for the {@code XATKIT} installation.
+	 * <p>
+	 * The core directories are watched with the {@link ImportFileWatcher}: this method returns the published index
+	 * without locking nor accessing the file system if the directories haven't been modified since its last
+	 * validation. Otherwise (or if the directories cannot be watched) the index is revalidated (see
+	 * {@link #revalidate(String)}).
+	 *
+	 * @return the {@link CoreComponentIndex}, or {@code null} if the {@code XATKIT} environment variable is not set
+	 */
+	static CoreComponentIndex getInstance() {
+		String xatkitPath = System.getenv("XATKIT");
+		if (isNull(xatkitPath) || xatkitPath.isEmpty()) {
+			return null;
+		}
+		/*
+		 * Create a File instance to uniformize trailing '/' between Linux and Windows installations.
+		 */
+		String xatkitRoot = new File(xatkitPath).getAbsolutePath();
+		CoreComponentIndex index = INSTANCE;
+		if (isValid(index, xatkitRoot)) {
+			return index;
+		}
+		return revalidate(xatkitRoot);
+	}
+
+	/**
+	 * Returns whether the provided {@code index} is a valid index of the given {@code xatkitRoot}, according to the
+	 * {@link ImportFileWatcher}.
+	 *
+	 * @param index      the {@link CoreComponentIndex} to check (may be {@code null})
+	 * @param xatkitRoot the absolute path of the {@code XATKIT} installation
+	 * @return {@code true} if the core directories haven't been modified since the {@code index} was validated,
+	 *         {@code false} if they have been modified or if they are not watched
+	 */
+	private static boolean isValid(CoreComponentIndex index, String xatkitRoot) {
+		return nonNull(index) && index.xatkitRoot.equals(xatkitRoot)
+				&& index.watchVersion != ImportFileWatcher.UNWATCHED
+				&& index.watchVersion == getWatchVersion(xatkitRoot, false);
+	}
+
+	/**
+	 * Checks the index against the core directories of the provided {@code xatkitRoot}, and publishes the result.
+	 * <p>
+	 * This method compares the modification times of the indexed directories and files with the current ones, and
+	 * rebuilds and persists the index if the core directories have been modified since it was computed. Note that
+	 * only the files that have been modified are parsed when the index is rebuilt. Revalidations are serialized, and
+	 * concurrent callers reuse the index published by the first one.
+	 *
+	 * @param xatkitRoot the absolute path of the {@code XATKIT} installation
+	 * @return the up-to-date {@link CoreComponentIndex}
+	 */
+	private static CoreComponentIndex revalidate(String xatkitRoot) {
+		synchronized (REVALIDATION_LOCK) {
+			CoreComponentIndex current = INSTANCE;
+			if (isValid(current, xatkitRoot)) {
+				return current;
+			}
+			/*
+			 * Watch the directories before checking them to make sure that subsequent modifications are recorded.
+			 */
+			long watchVersion = getWatchVersion(xatkitRoot, true);
+			if (isNull(current) || !current.xatkitRoot.equals(xatkitRoot)) {
+				current = readIndex(getIndexFile());
+			}
+			CoreComponentIndex index;
+			if (nonNull(current) && current.xatkitRoot.equals(xatkitRoot) && current.isUpToDate()) {
+				index = current.withWatchVersion(watchVersion);
+			} else {
+				log.debug(format("Building the core component index for {0}", xatkitRoot));
+				index = new CoreComponentIndex(xatkitRoot, watchVersion);
+				index.build(current);
+				writeIndex(index, getIndexFile());
+			}
+			INSTANCE = index;
+			return index;
+		}
+	}
+
+	/**
+	 * Returns the {@link ImportFileWatcher} version of the core directories of the provided {@code xatkitRoot}.
+	 *
+	 * @param xatkitRoot the absolute path of the {@code XATKIT} installation
+	 * @param watch      whether the core directories should be watched if they are not already
+	 * @return the version of the core directories, or {@link ImportFileWatcher#UNWATCHED} if one of them is not
+	 *         watched
+	 */
+	private static long getWatchVersion(String xatkitRoot, boolean watch) {
+		ImportFileWatcher watcher = ImportFileWatcher.getInstance();
+		long result = 0;
+		for (Kind kind : Kind.values()) {
+			Path directory = getComponentDirectory(xatkitRoot, kind);
+			long version = watch ? watcher.watchTree(directory) : watcher.getTreeVersion(directory);
+			if (version == ImportFileWatcher.UNWATCHED) {
+				return ImportFileWatcher.UNWATCHED;
+			}
+			/*
+			 * Versions are unique and increasing, their sum changes if one of the directories is modified.
+			 */
+			result += version;
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the {@link File} used to persist the index.
+	 *
+	 * @return the {@link File} used to persist the index
+	 * @see #INDEX_FILE_PROPERTY
+	 */
+	private static File getIndexFile() {
+		String indexPath = System.getProperty(INDEX_FILE_PROPERTY);
+		if (nonNull(indexPath) && !indexPath.isEmpty()) {
+			return new File(indexPath);
+		}
+		return new File(System.getProperty("user.home") + File.separator + ".xatkit" + File.separator
+				+ "core-components.index");
+	}
+
+	/**
+	 * Reads the persisted index from the provided {@code indexFile}.
+	 *
+	 * @param indexFile the {@link File} to read the index from
+	 * @return the read {@link CoreComponentIndex}, or {@code null} if the file doesn't exist or cannot be read
+	 */
+	private static CoreComponentIndex readIndex(File indexFile) {
+		if (!indexFile.exists()) {
+			return null;
+		}
+		try (ObjectInputStream ois = new ObjectInputStream(Files.newInputStream(indexFile.toPath()))) {
+			Object read = ois.readObject();
+			if (read instanceof CoreComponentIndex && ((CoreComponentIndex) read).version == INDEX_VERSION) {
+				return (CoreComponentIndex) read;
+			}
+			log.debug(format("Ignoring outdated core component index {0}", indexFile));
+		} catch (IOException | ClassNotFoundException e) {
+			log.warn(format("Cannot read the core component index {0}, the index will be rebuilt", indexFile));
+		}
+		return null;
+	}
+
+	/**
+	 * Persists the provided {@code index} in the given {@code indexFile}.
+	 *
+	 * @param index     the {@link CoreComponentIndex} to persist
+	 * @param indexFile the {@link File} to write the index to
+	 */
+	private static void writeIndex(CoreComponentIndex index, File indexFile) {
+		indexFile.getParentFile().mkdirs();
+		try (OutputStream os = Files.newOutputStream(indexFile.toPath());
+				ObjectOutputStream oos = new ObjectOutputStream(os)) {
+			oos.writeObject(index);
+		} catch (IOException e) {
+			log.warn(format("Cannot persist the core component index in {0}", indexFile));
+		}
+	}
+
+	/**
+	 * The version of the index format.
+	 */
+	private final int version;
+
+	/**
+	 * The absolute path of the {@code XATKIT} installation this index has been computed for.
+	 */
+	private final String xatkitRoot;
+
+	/**
+	 * The {@link ImportFileWatcher} version of the core directories when the index was last validated.
+	 * <p>
+	 * This field is not persisted: the persisted index is always validated against the file system before being
+	 * published.
+	 */
+	private final transient long watchVersion;
+
+	/**
+	 * The last modification times of the indexed directories.
+	 * <p>
+	 * These times are used to detect files that have been added to or removed from the core directories.
+	 */
+	private final Map<String, Long> directoryTimes;
+
+	/**
+	 * The indexed core components, indexed by {@link Kind} and file name.
+	 * <p>
+	 * If several core files of the same {@link Kind} have the same name, only the first one found when walking the
+	 * core directories is indexed.
+	 */
+	private final Map<Kind, Map<String, Entry>> entries;
+
+	/**
+	 * Constructs an empty {@link CoreComponentIndex} for the provided {@code xatkitRoot}.
+	 *
+	 * @param xatkitRoot   the absolute path of the {@code XATKIT} installation
+	 * @param watchVersion the {@link ImportFileWatcher} version of the core directories
+	 */
+	private CoreComponentIndex(String xatkitRoot, long watchVersion) {
+		this.version = INDEX_VERSION;
+		this.xatkitRoot = xatkitRoot;
+		this.watchVersion = watchVersion;
+		this.directoryTimes = new HashMap<>();
+		this.entries = new EnumMap<>(Kind.class);
+		for (Kind kind : Kind.values()) {
+			this.entries.put(kind, new LinkedHashMap<>());
+		}
+	}
+
+	/**
+	 * Constructs a copy of the provided {@code index} validated with the given {@code watchVersion}.
+	 * <p>
+	 * The created index shares the (immutable) entries of the provided {@code index}.
+	 *
+	 * @param index        the {@link CoreComponentIndex} to copy
+	 * @param watchVersion the {@link ImportFileWatcher} version of the core directories
+	 */
+	private CoreComponentIndex(CoreComponentIndex index, long watchVersion) {
+		this.version = index.version;
+		this.xatkitRoot = index.xatkitRoot;
+		this.watchVersion = watchVersion;
+		this.directoryTimes = index.directoryTimes;
+		this.entries = index.entries;
+	}
+
+	/**
+	 * Returns a copy of this index validated with the provided {@code watchVersion}.
+	 *
+	 * @param watchVersion the {@link ImportFileWatcher} version of the core directories
+	 * @return the created {@link CoreComponentIndex}
+	 */
+	private CoreComponentIndex withWatchVersion(long watchVersion) {
+		return new CoreComponentIndex(this, watchVersion);
+	}
+
+	/**
+	 * Returns the indexed core platform {@link Entry} instances.
+	 *
+	 * @return an unmodifiable {@link Collection} containing the indexed core platform {@link Entry} instances
+	 */
+	Collection<Entry> getPlatformEntries() {
+		return Collections.unmodifiableCollection(entries.get(Kind.PLATFORM).values());
+	}
+
+	/**
+	 * Returns the indexed core library {@link Entry} instances.
+	 *
+	 * @return an unmodifiable {@link Collection} containing the indexed core library {@link Entry} instances
+	 */
+	Collection<Entry> getLibraryEntries() {
+		return Collections.unmodifiableCollection(entries.get(Kind.LIBRARY).values());
+	}
+
+	/**
+	 * Returns the indexed core platform {@link Entry} corresponding to the provided {@code fileName}.
+	 *
+	 * @param fileName the name of the core platform file (including its extension)
+	 * @return the indexed {@link Entry}, or {@code null} if there is no core platform with the provided
+	 *         {@code fileName}
+	 */
+	Entry getPlatformEntry(String fileName) {
+		return entries.get(Kind.PLATFORM).get(fileName);
+	}
+
+	/**
+	 * Returns the indexed core library {@link Entry} corresponding to the provided {@code fileName}.
+	 *
+	 * @param fileName the name of the core library file (including its extension)
+	 * @return the indexed {@link Entry}, or {@code null} if there is no core library with the provided
+	 *         {@code fileName}
+	 */
+	Entry getLibraryEntry(String fileName) {
+		return entries.get(Kind.LIBRARY).get(fileName);
+	}
+
+	/**
+	 * Returns the path of the directory containing the core components of the provided {@code kind}.
+	 *
+	 * @param kind the {@link Kind} of the core components
+	 * @return the path of the directory containing the core components
+	 */
+	private Path getComponentDirectory(Kind kind) {
+		return getComponentDirectory(xatkitRoot, kind);
+	}
+
+	/**
+	 * Returns the directory containing the core components of the provided {@code kind} in the given
+	 * {@code xatkitRoot}.
+	 *
+	 * @param xatkitRoot the absolute path of the {@code XATKIT} installation
+	 * @param kind       the {@link Kind} of the components to retrieve the directory of
+	 * @return the directory containing the core components of the provided {@code kind}
+	 */
+	private static Path getComponentDirectory(String xatkitRoot, Kind kind) {
+		return Paths.get(xatkitRoot + File.separator + "plugins" + File.separator + kind.directory);
+	}
+
+	/**
+	 * Returns whether the index reflects the current content of the core directories.
+	 *
+	 * @return {@code true} if the index is up-to-date, {@code false} otherwise
+	 */
+	private boolean isUpToDate() {
+		for (Map.Entry<String, Long> directoryTime : directoryTimes.entrySet()) {
+			if (new File(directoryTime.getKey()).lastModified() != directoryTime.getValue()) {
+				return false;
+			}
+		}
+		for (Map<String, Entry> kindEntries : entries.values()) {
+			for (Entry entry : kindEntries.values()) {
+				if (!entry.isUpToDate()) {
+					return false;
+				}
+			}
+		}
+		/*
+		 * The index cannot be empty if the directories exist, this typically means that the core directories have been
+		 * created after the index was computed.
+		 */
+		return !directoryTimes.isEmpty() || (!Files.isDirectory(getComponentDirectory(Kind.PLATFORM))
+				&& !Files.isDirectory(getComponentDirectory(Kind.LIBRARY)));
+	}
+
+	/**
+	 * Walks the core directories and computes the index entries.
+	 * <p>
+	 * The entries of the provided {@code previous} index are reused for the files that haven't been modified. This
+	 * method must be called before the index is published.
+	 *
+	 * @param previous the previous {@link CoreComponentIndex} (may be {@code null})
+	 */
+	private void build(CoreComponentIndex previous) {
+		Map<String, Entry> previousEntries = new HashMap<>();
+		if (nonNull(previous) && previous.xatkitRoot.equals(this.xatkitRoot)) {
+			previous.entries.values().forEach(kindEntries -> kindEntries.values()
+					.forEach(e -> previousEntries.put(e.path, e)));
+		}
+		ResourceSet rSet = new ResourceSetImpl();
+		for (Kind kind : Kind.values()) {
+			Path directory = getComponentDirectory(kind);
+			if (!Files.isDirectory(directory)) {
+				log.error(format("Cannot find the core {0} directory {1}", kind.directory, directory));
+				continue;
+			}
+			try (Stream<Path> paths = Files.walk(directory, Integer.MAX_VALUE)) {
+				paths.forEach(filePath -> {
+					File file = filePath.toFile();
+					if (file.isDirectory()) {
+						directoryTimes.put(file.getAbsolutePath(), file.lastModified());
+					} else if (file.getName().endsWith(kind.extension)) {
+						Entry entry = previousEntries.get(file.getAbsolutePath());
+						if (isNull(entry) || !entry.isUpToDate()) {
+							entry = createEntry(kind, file, rSet);
+						}
+						if (nonNull(entry)) {
+							entries.get(kind).putIfAbsent(entry.getFileName(), entry);
+						}
+					}
+				});
+			} catch (IOException e) {
+				log.error(format("An error occurred when indexing the core {0} directory {1}", kind.directory,
+						directory));
+			}
+		}
+		rSet.getResources().forEach(Resource::unload);
+	}
+
+	/**
+	 * Creates the index {@link Entry} for the provided core {@code file}.
+	 * <p>
+	 * This method parses the provided {@code file} in the given {@code rSet} to retrieve the name of its top-level
+	 * element as well as the events and actions it defines.
+	 *
+	 * @param kind the {@link Kind} of the core component to index
+	 * @param file the {@link File} to index
+	 * @param rSet the {@link ResourceSet} used to parse the file
+	 * @return the created {@link Entry}, or {@code null} if the file cannot be parsed
+	 */
+	private Entry createEntry(Kind kind, File file, ResourceSet rSet) {
+		Entry entry = new Entry(kind, file);
+		URI fileURI = URI.createFileURI(file.getAbsolutePath());
+		Resource resource = rSet.createResource(fileURI);
+		try (InputStream is = Files.newInputStream(file.toPath())) {
+			resource.load(is, Collections.emptyMap());
+		} catch (IOException | RuntimeException e) {
+			log.error(format("An error occurred when indexing the core component {0}", file));
+			return null;
+		}
+		if (resource.getContents().isEmpty()) {
+			log.error(format("Cannot index the core component {0}: the resource is empty", file));
+			return null;
+		}
+		EObject topLevelElement = resource.getContents().get(0);
+		if (topLevelElement instanceof PlatformDefinition) {
+			PlatformDefinition platform = (PlatformDefinition) topLevelElement;
+			entry.name = platform.getName();
+			for (EventProviderDefinition eventProvider : platform.getEventProviderDefinitions()) {
+				entry.providers.add(eventProvider.getName());
+				List<String> providerEvents = new ArrayList<>();
+				for (EventDefinition eventDefinition : eventProvider.getEventDefinitions()) {
+					entry.events.add(eventDefinition.getName());
+					providerEvents.add(eventDefinition.getName());
+				}
+				entry.providerEvents.put(eventProvider.getName(), providerEvents);
+			}
+			for (ActionDefinition action : platform.getActions()) {
+				entry.actions.add(action.getName());
+			}
+		} else if (topLevelElement instanceof Library) {
+			Library library = (Library) topLevelElement;
+			entry.name = library.getName();
+			for (EventDefinition eventDefinition : library.getEventDefinitions()) {
+				entry.events.add(eventDefinition.getName());
+			}
+		}
+		return entry;
+	}
+
+	/**
+	 * The kinds of core components stored in the index.
+	 */
+	enum Kind {
+		PLATFORM("platforms", ".platform"), LIBRARY("libraries", ".intent");
+
+		/**
+		 * The name of the {@code XATKIT/plugins} sub-directory containing the components.
+		 */
+		private final String directory;
+
+		/**
+		 * The file extension of the components.
+		 */
+		private final String extension;
+
+		private Kind(String directory, String extension) {
+			this.directory = directory;
+			this.extension = extension;
+		}
+	}
+
+	/**
+	 * An indexed core component file.
+	 */
+	static final class Entry implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The {@link Kind} of the indexed component.
+		 */
+		private final Kind kind;
+
+		/**
+		 * The absolute path of the indexed file.
+		 */
+		private final String path;
+
+		/**
+		 * The size of the indexed file.
+		 */
+		private final long size;
+
+		/**
+		 * The last modification time of the indexed file.
+		 */
+		private final long lastModified;
+
+		/**
+		 * The name of the top-level {@link PlatformDefinition} or {@link Library} defined in the file.
+		 */
+		private String name;
+
+		/**
+		 * The names of the {@link EventProviderDefinition}s defined in the file.
+		 */
+		private final List<String> providers = new ArrayList<>();
+
+		/**
+		 * The names of the {@link EventDefinition}s defined in the file.
+		 */
+		private final List<String> events = new ArrayList<>();
+
+		/**
+		 * The names of the {@link ActionDefinition}s defined in the file.
+		 */
+		private final List<String> actions = new ArrayList<>();
+
+		/**
+		 * The names of the {@link EventDefinition}s defined by each {@link EventProviderDefinition} of the file.
+		 */
+		private final Map<String, List<String>> providerEvents = new LinkedHashMap<>();
+
+		private Entry(Kind kind, File file) {
+			this.kind = kind;
+			this.path = file.getAbsolutePath();
+			this.size = file.length();
+			this.lastModified = file.lastModified();
+		}
+
+		/**
+		 * Returns whether the indexed file has been modified since the entry was computed.
+		 *
+		 * @return {@code true} if the file hasn't been modified, {@code false} otherwise
+		 */
+		private boolean isUpToDate() {
+			File file = new File(path);
+			return file.exists() && file.length() == size && file.lastModified() == lastModified;
+		}
+
+		Kind getKind() {
+			return kind;
+		}
+
+		Path getPath() {
+			return Paths.get(path);
+		}
+
+		String getFileName() {
+			return getPath().getFileName().toString();
+		}
+
+		/**
+		 * Returns the name of the timer tracking the time spent to load the indexed file.
+		 *
+		 * @return the name of the timer
+		 * @see XatkitMetrics
+		 */
+		String getLoadMetric() {
+			return XatkitImportHelper.LOAD_METRIC_PREFIX + "core." + kind.name().toLowerCase();
+		}
+
+		String getName() {
+			return name;
+		}
+
+		List<String> getProviders() {
+			return Collections.unmodifiableList(providers);
+		}
+
+		List<String> getEvents() {
+			return Collections.unmodifiableList(events);
+		}
+
+		List<String> getActions() {
+			return Collections.unmodifiableList(actions);
+		}
+
+		Map<String, List<String>> getProviderEvents() {
+			return Collections.unmodifiableMap(providerEvents);
+		}
+	}
+}
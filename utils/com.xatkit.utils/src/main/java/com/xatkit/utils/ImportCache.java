@@ -0,0 +1,416 @@
+package com.xatkit.utils;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.URIConverter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * A cache storing the modification stamps of the imported {@link Resource}s loaded in a {@link ResourceSet}.
+ * <p>
+ * This cache is attached to the {@link ResourceSet} it manages as an {@link Adapter}, and is used by the
+ * {@link XatkitImportHelper} to check whether an imported {@link Resource} needs to be reloaded. Entries are keyed by
+ * the {@link URI} of the {@link Resource} in the {@link ResourceSet} (i.e. the alias {@link URI} for aliased imports),
+ * and store the resolved file {@link URI} as well as its time stamp and length when the {@link Resource} was loaded.
+ * Entries are evicted when their {@link Resource} is removed from the {@link ResourceSet}.
+ * <p>
+ * The cache also holds the other per-{@link ResourceSet} information used by the {@link XatkitImportHelper} (e.g. the
+ * ignored aliases, or the index of the aliases registered in the URI map of the {@link ResourceSet}). Since it is
+ * only referenced by its {@link ResourceSet} this information is garbage collected with the {@link ResourceSet}, and
+ * can be explicitly discarded with {@link #dispose(ResourceSet)}.
+ * <p>
+ * Use {@link #getOrCreate(ResourceSet)} to retrieve the cache associated to a given {@link ResourceSet}.
+ */
+class ImportCache extends AdapterImpl {
+
+	/**
+	 * The attributes requested to the {@link URIConverter} to compute the modification stamp of a file.
+	 */
+	private static final Map<String, ?> STAMP_ATTRIBUTES_OPTIONS = Collections.singletonMap(
+			URIConverter.OPTION_REQUESTED_ATTRIBUTES,
+			new HashSet<>(Arrays.asList(URIConverter.ATTRIBUTE_TIME_STAMP, URIConverter.ATTRIBUTE_LENGTH)));
+
+	/**
+	 * Returns the {@link ImportCache} attached to the provided {@code rSet}.
+	 * <p>
+	 * This method creates and attaches a new {@link ImportCache} if the provided {@code rSet} does not contain one.
+	 *
+	 * @param rSet the {@link ResourceSet} to retrieve the cache of
+	 * @return the {@link ImportCache} attached to the provided {@code rSet}
+	 */
+	static ImportCache getOrCreate(ResourceSet rSet) {
+		for (Adapter adapter : rSet.eAdapters()) {
+			if (adapter instanceof ImportCache) {
+				return (ImportCache) adapter;
+			}
+		}
+		ImportCache cache = new ImportCache();
+		rSet.eAdapters().add(cache);
+		return cache;
+	}
+
+	/**
+	 * Returns the {@link ImportCache} attached to the provided {@code rSet}, if it exists.
+	 *
+	 * @param rSet the {@link ResourceSet} to retrieve the cache of
+	 * @return the {@link ImportCache} attached to the provided {@code rSet}, or {@code null} if there is no such cache
+	 */
+	static /* @Nullable */ ImportCache get(ResourceSet rSet) {
+		return (ImportCache) EcoreUtil.getExistingAdapter(rSet, ImportCache.class);
+	}
+
+	/**
+	 * Detaches the {@link ImportCache} of the provided {@code rSet}, if it exists.
+	 *
+	 * @param rSet the {@link ResourceSet} to dispose the cache of
+	 */
+	static void dispose(ResourceSet rSet) {
+		ImportCache cache = get(rSet);
+		if (nonNull(cache)) {
+			rSet.eAdapters().remove(cache);
+			cache.stamps.clear();
+			cache.ignoredAliases.clear();
+			cache.aliasTargets.clear();
+			cache.targetAliases.clear();
+		}
+	}
+
+	/**
+	 * The cached {@link Stamp}s, keyed by the {@link URI} of the {@link Resource} they have been computed for.
+	 * <p>
+	 * This {@link Map} is concurrent since it is updated by the notifications of the {@link ResourceSet}, that can be
+	 * sent by threads not controlled by the {@link XatkitImportHelper}.
+	 */
+	private Map<URI, Stamp> stamps = new ConcurrentHashMap<>();
+
+	/**
+	 * Whether the core {@link Resource}s have been eagerly loaded in the {@link ResourceSet}.
+	 */
+	private boolean coreLoaded = false;
+
+	/**
+	 * The aliases ignored in the {@link ResourceSet}.
+	 *
+	 * @see XatkitImportHelper#ignoreAlias(ResourceSet, String)
+	 */
+	private Set<String> ignoredAliases = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * The file {@link URI}s targeted by the aliases registered in the URI map of the {@link ResourceSet}.
+	 *
+	 * @see #registerAlias(URI, URI)
+	 */
+	private Map<URI, URI> aliasTargets = new HashMap<>();
+
+	/**
+	 * The aliases registered in the URI map of the {@link ResourceSet}, indexed by the file {@link URI} they target.
+	 * <p>
+	 * This {@link Map} is the inverse of {@link #aliasTargets}, and allows to retrieve the aliases of a file without
+	 * iterating the URI map.
+	 *
+	 * @see #removeAliases(URI)
+	 */
+	private Map<URI, Set<URI>> targetAliases = new HashMap<>();
+
+	/**
+	 * Constructs a new {@link ImportCache}.
+	 * <p>
+	 * This method is private, use {@link #getOrCreate(ResourceSet)} to retrieve the cache of a {@link ResourceSet}.
+	 */
+	private ImportCache() {
+	}
+
+	@Override
+	public boolean isAdapterForType(Object type) {
+		return type == ImportCache.class;
+	}
+
+	/**
+	 * Evicts the cached {@link Stamp}s of the {@link Resource}s removed from the {@link ResourceSet}.
+	 *
+	 * @param notification the {@link Notification} sent by the {@link ResourceSet}
+	 */
+	@Override
+	public void notifyChanged(Notification notification) {
+		if (notification.getFeatureID(ResourceSet.class) != ResourceSet.RESOURCE_SET__RESOURCES) {
+			return;
+		}
+		switch (notification.getEventType()) {
+		case Notification.REMOVE:
+		case Notification.SET:
+			evict(notification.getOldValue());
+			break;
+		case Notification.REMOVE_MANY:
+			if (notification.getOldValue() instanceof Collection) {
+				for (Object oldValue : (Collection<?>) notification.getOldValue()) {
+					evict(oldValue);
+				}
+			}
+			break;
+		default:
+			break;
+		}
+	}
+
+	/**
+	 * Removes the cached {@link Stamp} of the provided {@code removed} {@link Resource}.
+	 *
+	 * @param removed the {@link Resource} removed from the {@link ResourceSet}
+	 */
+	private void evict(Object removed) {
+		if (removed instanceof Resource) {
+			stamps.remove(((Resource) removed).getURI());
+		}
+	}
+
+	/**
+	 * Adds the provided {@code alias} to the ignored aliases of the {@link ResourceSet}.
+	 *
+	 * @param alias the alias to ignore
+	 */
+	void ignoreAlias(String alias) {
+		ignoredAliases.add(alias);
+	}
+
+	/**
+	 * Returns whether the provided {@code alias} is ignored in the {@link ResourceSet}.
+	 *
+	 * @param alias the alias to check
+	 * @return {@code true} if the provided {@code alias} is ignored, {@code false} otherwise
+	 */
+	boolean isIgnored(String alias) {
+		return ignoredAliases.contains(alias);
+	}
+
+	/**
+	 * Records that the provided {@code aliasURI} has been mapped to the given {@code fileURI} in the URI map of the
+	 * {@link ResourceSet}.
+	 * <p>
+	 * This method replaces the previous target of the provided {@code aliasURI} if it exists.
+	 *
+	 * @param aliasURI the alias {@link URI}
+	 * @param fileURI  the file {@link URI} targeted by the alias
+	 */
+	void registerAlias(URI aliasURI, URI fileURI) {
+		URI previousTarget = aliasTargets.put(aliasURI, fileURI);
+		if (nonNull(previousTarget) && !previousTarget.equals(fileURI)) {
+			removeTargetAlias(previousTarget, aliasURI);
+		}
+		targetAliases.computeIfAbsent(fileURI, uri -> new HashSet<>()).add(aliasURI);
+	}
+
+	/**
+	 * Removes the aliases targeting the provided {@code fileURI} from the index, and returns them.
+	 * <p>
+	 * The returned aliases must be removed from the URI map of the {@link ResourceSet}.
+	 *
+	 * @param fileURI the file {@link URI} to remove the aliases of
+	 * @return the removed alias {@link URI}s
+	 */
+	Set<URI> removeAliases(URI fileURI) {
+		Set<URI> aliases = targetAliases.remove(fileURI);
+		if (isNull(aliases)) {
+			return Collections.emptySet();
+		}
+		for (URI aliasURI : aliases) {
+			aliasTargets.remove(aliasURI);
+		}
+		return aliases;
+	}
+
+	/**
+	 * Removes the provided {@code aliasURI} from the aliases targeting {@code fileURI}.
+	 *
+	 * @param fileURI  the file {@link URI} targeted by the alias
+	 * @param aliasURI the alias {@link URI} to remove
+	 */
+	private void removeTargetAlias(URI fileURI, URI aliasURI) {
+		Set<URI> aliases = targetAliases.get(fileURI);
+		if (nonNull(aliases)) {
+			aliases.remove(aliasURI);
+			if (aliases.isEmpty()) {
+				targetAliases.remove(fileURI);
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the core {@link Resource}s have been eagerly loaded in the {@link ResourceSet}.
+	 *
+	 * @return {@code true} if the core {@link Resource}s have been loaded, {@code false} otherwise
+	 */
+	boolean isCoreLoaded() {
+		return coreLoaded;
+	}
+
+	/**
+	 * Sets whether the core {@link Resource}s have been eagerly loaded in the {@link ResourceSet}.
+	 *
+	 * @param coreLoaded {@code true} if the core {@link Resource}s have been loaded, {@code false} otherwise
+	 */
+	void setCoreLoaded(boolean coreLoaded) {
+		this.coreLoaded = coreLoaded;
+	}
+
+	/**
+	 * Computes the current {@link Stamp} of the file represented by the provided {@code fileURI}.
+	 * <p>
+	 * This method watches the file with the {@link ImportFileWatcher} before accessing it, allowing
+	 * {@link #isUpToDate(URI, URI)} to check that it hasn't been modified without accessing the file system.
+	 *
+	 * @param fileURI the {@link URI} of the file to compute the {@link Stamp} of
+	 * @return the computed {@link Stamp}, which is {@link Stamp#isUnknown() unknown} if the underlying
+	 *         {@link URIConverter} does not provide time stamp information for the provided {@code fileURI} (e.g. if the
+	 *         file does not exist, or if it is provided by a custom {@link URIConverter})
+	 */
+	Stamp computeStamp(URI fileURI) {
+		long watchVersion = ImportFileWatcher.getInstance().watchFile(ImportFileWatcher.toPath(fileURI));
+		ResourceSet rSet = (ResourceSet) getTarget();
+		Map<String, ?> attributes = rSet.getURIConverter().getAttributes(fileURI, STAMP_ATTRIBUTES_OPTIONS);
+		Object timeStamp = attributes.get(URIConverter.ATTRIBUTE_TIME_STAMP);
+		Object length = attributes.get(URIConverter.ATTRIBUTE_LENGTH);
+		if (timeStamp instanceof Long) {
+			return new Stamp(fileURI, (Long) timeStamp, length instanceof Long ? (Long) length : -1L, watchVersion);
+		}
+		return new Stamp(fileURI, Stamp.UNKNOWN, -1L, watchVersion);
+	}
+
+	/**
+	 * Returns whether the {@link Resource} identified by {@code resourceURI} reflects the current content of the file
+	 * represented by {@code fileURI}.
+	 * <p>
+	 * If the file is watched by the {@link ImportFileWatcher} (and was watched when the {@link Resource} was loaded)
+	 * this method compares the cached and current watch versions, without accessing the file system: the
+	 * {@link Resource} is up-to-date if the watcher hasn't reported a modification of the file since it was loaded.
+	 * Otherwise the current {@link Stamp} of the file is computed and compared with the cached one. {@link Resource}s
+	 * loaded from files with an {@link Stamp#isUnknown() unknown} {@link Stamp} are always considered up-to-date: there
+	 * is no way to detect their modifications, and reloading them for each import would be costly.
+	 *
+	 * @param resourceURI the {@link URI} of the {@link Resource} in the {@link ResourceSet}
+	 * @param fileURI     the {@link URI} of the file backing the {@link Resource}
+	 * @return {@code true} if the {@link Resource} is up-to-date, {@code false} otherwise
+	 */
+	boolean isUpToDate(URI resourceURI, URI fileURI) {
+		Stamp cachedStamp = stamps.get(resourceURI);
+		if (isNull(cachedStamp) || !cachedStamp.fileURI.equals(fileURI)) {
+			return false;
+		}
+		if (cachedStamp.isUnknown()) {
+			return true;
+		}
+		long watchVersion = ImportFileWatcher.getInstance().getFileVersion(ImportFileWatcher.toPath(fileURI));
+		if (cachedStamp.watchVersion != ImportFileWatcher.UNWATCHED && watchVersion != ImportFileWatcher.UNWATCHED) {
+			/*
+			 * The file has been watched since its stamp was computed: the watcher reports all its modifications.
+			 */
+			return cachedStamp.watchVersion == watchVersion;
+		}
+		return cachedStamp.equals(computeStamp(fileURI));
+	}
+
+	/**
+	 * Records the {@link Stamp} of the file loaded in the {@link Resource} identified by {@code resourceURI}.
+	 *
+	 * @param resourceURI the {@link URI} of the loaded {@link Resource}
+	 * @param stamp       the {@link Stamp} of the loaded file (may be {@link Stamp#isUnknown() unknown})
+	 */
+	void put(URI resourceURI, Stamp stamp) {
+		stamps.put(resourceURI, stamp);
+	}
+
+	/**
+	 * Removes the {@link Stamp} associated to the provided {@code resourceURI}.
+	 *
+	 * @param resourceURI the {@link URI} of the {@link Resource} to remove from the cache
+	 */
+	void remove(URI resourceURI) {
+		stamps.remove(resourceURI);
+	}
+
+	/**
+	 * The modification stamp of a file loaded as an imported {@link Resource}.
+	 */
+	static final class Stamp {
+
+		/**
+		 * The time stamp of the files that do not provide time stamp information.
+		 *
+		 * @see #isUnknown()
+		 */
+		private static final long UNKNOWN = Long.MIN_VALUE;
+
+		/**
+		 * The resolved {@link URI} of the file.
+		 */
+		private final URI fileURI;
+
+		/**
+		 * The time stamp of the file when the stamp was computed.
+		 */
+		private final long timeStamp;
+
+		/**
+		 * The length of the file when the stamp was computed.
+		 */
+		private final long length;
+
+		/**
+		 * The {@link ImportFileWatcher} version of the file when the stamp was computed.
+		 * <p>
+		 * This version is not considered when comparing {@link Stamp}s.
+		 */
+		private final long watchVersion;
+
+		private Stamp(URI fileURI, long timeStamp, long length, long watchVersion) {
+			this.fileURI = fileURI;
+			this.timeStamp = timeStamp;
+			this.length = length;
+			this.watchVersion = watchVersion;
+		}
+
+		/**
+		 * Returns whether the modification stamp of the file is unknown.
+		 * <p>
+		 * An unknown {@link Stamp} is computed for files that do not provide time stamp information. The
+		 * {@link Resource}s loaded from such files are kept in the {@link ResourceSet} instead of being reloaded.
+		 *
+		 * @return {@code true} if the modification stamp of the file is unknown, {@code false} otherwise
+		 */
+		boolean isUnknown() {
+			return timeStamp == UNKNOWN;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Stamp)) {
+				return false;
+			}
+			Stamp other = (Stamp) obj;
+			return fileURI.equals(other.fileURI) && timeStamp == other.timeStamp && length == other.length;
+		}
+
+		@Override
+		public int hashCode() {
+			return fileURI.hashCode() * 31 + Long.hashCode(timeStamp) * 17 + Long.hashCode(length);
+		}
+	}
+}
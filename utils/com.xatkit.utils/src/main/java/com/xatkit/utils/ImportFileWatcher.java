@@ -0,0 +1,407 @@
+package com.xatkit.utils;
+
+import static java.text.MessageFormat.format;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.URI;
+
+/**
+ * Watches the files imported by Xatkit models and the core component directories, and records their modifications.
+ * <p>
+ * This class associates a <i>version</i> to each watched file and directory tree. Versions are updated each time the
+ * underlying {@link WatchService} reports a modification, allowing the {@link ImportCache} and the
+ * {@link CoreComponentIndex} to check that a file or a directory tree hasn't been modified without accessing the file
+ * system: an unchanged version means that the file or tree hasn't been modified. This holds because:
+ * <ul>
+ * <li>a file or a tree is registered in the {@link WatchService} <b>before</b> its version is returned, and its
+ * version must be retrieved before accessing it (see {@link #watchFile(Path)} and {@link #watchTree(Path)})</li>
+ * <li>lost events ({@link StandardWatchEventKinds#OVERFLOW}) update the versions of all the watched files and
+ * trees</li>
+ * <li>directories that cannot be watched anymore (e.g. deleted directories) are unregistered, and the files and trees
+ * they contain are {@link #UNWATCHED}</li>
+ * <li>polling {@link WatchService}s (used when the file system does not provide native notifications) are not used,
+ * since they report modifications several seconds after they have been performed</li>
+ * </ul>
+ * A version equal to {@link #UNWATCHED} means that the file is not watched (e.g. if file watching is disabled, if the
+ * file system does not provide native watch services, or if its directory has been deleted), and that the file system
+ * must be checked.
+ * <p>
+ * Modifications are processed by a daemon thread, and are visible a few milliseconds after they have been performed:
+ * a file read within this delay after a modification may be considered up-to-date. Use {@link #getInstance()} to
+ * retrieve the singleton instance of this class.
+ *
+ * @see XatkitImportHelper#setFileWatching(boolean)
+ */
+class ImportFileWatcher {
+
+	/**
+	 * The version returned for files and directories that are not watched.
+	 */
+	static final long UNWATCHED = -1L;
+
+	private static final Logger log = Logger.getLogger(ImportFileWatcher.class);
+
+	/**
+	 * The singleton {@link ImportFileWatcher} instance.
+	 * <p>
+	 * This instance (and its watching thread) is created when the class is initialized.
+	 */
+	private static final ImportFileWatcher INSTANCE = new ImportFileWatcher();
+
+	/**
+	 * Returns the singleton {@link ImportFileWatcher} instance.
+	 *
+	 * @return the singleton {@link ImportFileWatcher} instance
+	 */
+	static ImportFileWatcher getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Returns the {@link Path} represented by the provided {@code fileURI}.
+	 *
+	 * @param fileURI the {@link URI} to convert
+	 * @return the {@link Path} represented by the provided {@code fileURI}, or {@code null} if the provided
+	 *         {@code fileURI} does not represent a file of the local file system
+	 */
+	static /* @Nullable */ Path toPath(URI fileURI) {
+		if (isNull(fileURI) || !fileURI.isFile()) {
+			return null;
+		}
+		try {
+			return Paths.get(fileURI.toFileString()).toAbsolutePath().normalize();
+		} catch (InvalidPathException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * The {@link WatchService} notified of the modifications of the watched directories.
+	 * <p>
+	 * This field is {@code null} if the file system does not support watch services.
+	 */
+	private WatchService watchService;
+
+	/**
+	 * Whether the file watching is enabled.
+	 */
+	private volatile boolean enabled;
+
+	/**
+	 * The watched directories, associated to their {@link WatchKey}.
+	 */
+	private Map<Path, WatchKey> directories = new ConcurrentHashMap<>();
+
+	/**
+	 * The watched directories, indexed by their {@link WatchKey}.
+	 */
+	private Map<WatchKey, Path> keys = new ConcurrentHashMap<>();
+
+	/**
+	 * The versions of the watched files.
+	 * <p>
+	 * This {@link Map} only contains the files explicitly watched with {@link #watchFile(Path)}, modifications of the
+	 * other files of the watched directories are ignored.
+	 */
+	private Map<Path, Long> fileVersions = new ConcurrentHashMap<>();
+
+	/**
+	 * The versions of the watched directory trees.
+	 */
+	private Map<Path, Long> treeVersions = new ConcurrentHashMap<>();
+
+	/**
+	 * The counter used to compute new versions.
+	 * <p>
+	 * All the versions are computed from this counter, ensuring that a version is never reused, even if a file or a
+	 * tree is unwatched and then watched again.
+	 */
+	private AtomicLong versionCounter = new AtomicLong();
+
+	/**
+	 * Constructs a new {@link ImportFileWatcher} and starts its watching thread.
+	 * <p>
+	 * This method is private, use {@link #getInstance()} to retrieve the singleton instance of this class.
+	 */
+	private ImportFileWatcher() {
+		this.enabled = Boolean
+				.parseBoolean(System.getProperty(XatkitImportHelper.FILE_WATCHING_PROPERTY, "true"));
+		try {
+			this.watchService = FileSystems.getDefault().newWatchService();
+		} catch (IOException | UnsupportedOperationException e) {
+			log.warn("Cannot create a file watcher, imported files will be checked on the file system", e);
+			return;
+		}
+		if (isPolling(watchService)) {
+			log.info("The file system does not provide native file watching, imported files will be checked on the "
+					+ "file system");
+			try {
+				watchService.close();
+			} catch (IOException e) {
+				log.debug("Cannot close the polling file watcher", e);
+			}
+			this.watchService = null;
+			return;
+		}
+		Thread watchThread = new Thread(this::processEvents, "Xatkit import file watcher");
+		watchThread.setDaemon(true);
+		watchThread.start();
+	}
+
+	/**
+	 * Returns whether the provided {@code watchService} polls the file system.
+	 * <p>
+	 * The JDK falls back to a polling {@link WatchService} when the platform does not provide native file
+	 * notifications (e.g. on macOS). Such services check the watched directories every few seconds, and cannot be
+	 * trusted to report a modification before the modified file is read.
+	 *
+	 * @param watchService the {@link WatchService} to check
+	 * @return {@code true} if the {@code watchService} polls the file system, {@code false} otherwise
+	 */
+	private static boolean isPolling(WatchService watchService) {
+		return watchService.getClass().getName().endsWith("PollingWatchService");
+	}
+
+	/**
+	 * Sets whether file watching is enabled.
+	 * <p>
+	 * Disabling file watching does not unregister the watched directories, but makes all the files
+	 * {@link #UNWATCHED}.
+	 *
+	 * @param enabled {@code true} to enable file watching, {@code false} otherwise
+	 */
+	void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Returns whether file watching is enabled.
+	 *
+	 * @return {@code true} if file watching is enabled, {@code false} otherwise
+	 */
+	boolean isEnabled() {
+		return this.enabled;
+	}
+
+	/**
+	 * Watches the provided {@code file} and returns its current version.
+	 * <p>
+	 * The returned version is computed after the watch has been registered: it must be retrieved <b>before</b>
+	 * accessing the file to ensure that all the subsequent modifications are recorded.
+	 *
+	 * @param file the file to watch
+	 * @return the current version of the file, or {@link #UNWATCHED} if the file cannot be watched
+	 */
+	long watchFile(Path file) {
+		if (!isActive() || isNull(file) || isNull(file.getParent())) {
+			return UNWATCHED;
+		}
+		if (isNull(register(file.getParent()))) {
+			return UNWATCHED;
+		}
+		fileVersions.computeIfAbsent(file, path -> nextVersion());
+		return getFileVersion(file);
+	}
+
+	/**
+	 * Returns the current version of the provided {@code file}.
+	 *
+	 * @param file the file to retrieve the version of
+	 * @return the current version of the file, or {@link #UNWATCHED} if the file is not watched
+	 */
+	long getFileVersion(Path file) {
+		if (!isActive() || isNull(file) || isNull(file.getParent()) || !directories.containsKey(file.getParent())) {
+			return UNWATCHED;
+		}
+		Long version = fileVersions.get(file);
+		return isNull(version) ? UNWATCHED : version;
+	}
+
+	/**
+	 * Watches the provided {@code root} directory and its sub-directories, and returns the current version of the
+	 * tree.
+	 * <p>
+	 * The version of a tree is updated each time a file or a directory is created, deleted, or modified in the
+	 * tree. Sub-directories created after the registration are automatically watched.
+	 *
+	 * @param root the root directory of the tree to watch
+	 * @return the current version of the tree, or {@link #UNWATCHED} if the tree cannot be watched
+	 */
+	long watchTree(Path root) {
+		if (!isActive() || isNull(root)) {
+			return UNWATCHED;
+		}
+		if (!treeVersions.containsKey(root)) {
+			if (!registerTree(root)) {
+				return UNWATCHED;
+			}
+			treeVersions.putIfAbsent(root, nextVersion());
+		}
+		return getTreeVersion(root);
+	}
+
+	/**
+	 * Returns the current version of the tree rooted by the provided {@code root} directory.
+	 *
+	 * @param root the root directory of the tree
+	 * @return the current version of the tree, or {@link #UNWATCHED} if the tree is not watched
+	 */
+	long getTreeVersion(Path root) {
+		if (!isActive() || isNull(root)) {
+			return UNWATCHED;
+		}
+		Long version = treeVersions.get(root);
+		return isNull(version) ? UNWATCHED : version;
+	}
+
+	/**
+	 * Returns a new version.
+	 *
+	 * @return a new version
+	 */
+	private long nextVersion() {
+		return versionCounter.incrementAndGet();
+	}
+
+	/**
+	 * Returns whether the watcher is enabled and backed by a {@link WatchService}.
+	 *
+	 * @return {@code true} if the watcher is active, {@code false} otherwise
+	 */
+	private boolean isActive() {
+		return enabled && nonNull(watchService);
+	}
+
+	/**
+	 * Registers the provided {@code directory} in the {@link WatchService}.
+	 *
+	 * @param directory the directory to register
+	 * @return the {@link WatchKey} of the directory, or {@code null} if the directory cannot be watched
+	 */
+	private /* @Nullable */ WatchKey register(Path directory) {
+		WatchKey key = directories.get(directory);
+		if (nonNull(key)) {
+			return key;
+		}
+		if (!Files.isDirectory(directory)) {
+			return null;
+		}
+		try {
+			key = directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+					StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+		} catch (IOException | ClosedWatchServiceException | UnsupportedOperationException e) {
+			log.debug(format("Cannot watch the directory {0}", directory));
+			return null;
+		}
+		keys.put(key, directory);
+		directories.put(directory, key);
+		/*
+		 * The files of the directory may have been modified while it was not watched.
+		 */
+		fileVersions.replaceAll((path, version) -> directory.equals(path.getParent()) ? nextVersion() : version);
+		log.debug(format("Watching directory {0}", directory));
+		return key;
+	}
+
+	/**
+	 * Registers the provided {@code root} directory and its sub-directories in the {@link WatchService}.
+	 *
+	 * @param root the root directory of the tree to register
+	 * @return {@code true} if the tree has been registered, {@code false} otherwise
+	 */
+	private boolean registerTree(Path root) {
+		if (!Files.isDirectory(root)) {
+			return false;
+		}
+		try (Stream<Path> paths = Files.walk(root, Integer.MAX_VALUE)) {
+			return paths.filter(Files::isDirectory).map(this::register).allMatch(key -> nonNull(key));
+		} catch (IOException | RuntimeException e) {
+			log.debug(format("Cannot watch the directory tree {0}", root));
+			return false;
+		}
+	}
+
+	/**
+	 * Processes the events reported by the {@link WatchService}.
+	 * <p>
+	 * This method is executed by the watching thread, and returns when the {@link WatchService} is closed.
+	 */
+	private void processEvents() {
+		while (true) {
+			WatchKey key;
+			try {
+				key = watchService.take();
+			} catch (InterruptedException | ClosedWatchServiceException e) {
+				return;
+			}
+			Path directory = keys.get(key);
+			for (WatchEvent<?> event : key.pollEvents()) {
+				if (event.kind() == StandardWatchEventKinds.OVERFLOW || isNull(directory)) {
+					/*
+					 * Events have been lost, they may concern any of the watched files and trees.
+					 */
+					fileVersions.replaceAll((path, version) -> nextVersion());
+					treeVersions.replaceAll((path, version) -> nextVersion());
+					continue;
+				}
+				Path child = directory.resolve((Path) event.context());
+				fileVersions.computeIfPresent(child, (path, version) -> nextVersion());
+				Set<Path> roots = getTreeRoots(directory);
+				roots.forEach(root -> treeVersions.computeIfPresent(root, (path, version) -> nextVersion()));
+				if (!roots.isEmpty() && event.kind() == StandardWatchEventKinds.ENTRY_CREATE
+						&& Files.isDirectory(child)) {
+					if (!registerTree(child)) {
+						roots.forEach(treeVersions::remove);
+					}
+				}
+			}
+			if (!key.reset()) {
+				/*
+				 * The directory is not accessible anymore, the files it contains and the trees containing it cannot be
+				 * watched until they are registered again.
+				 */
+				keys.remove(key);
+				if (nonNull(directory)) {
+					directories.remove(directory);
+					getTreeRoots(directory).forEach(treeVersions::remove);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the roots of the watched trees containing the provided {@code directory}.
+	 *
+	 * @param directory the directory to retrieve the tree roots of
+	 * @return the roots of the watched trees containing the provided {@code directory}
+	 */
+	private Set<Path> getTreeRoots(Path directory) {
+		Set<Path> roots = new HashSet<>();
+		for (Path root : treeVersions.keySet()) {
+			if (directory.startsWith(root)) {
+				roots.add(root);
+			}
+		}
+		return roots;
+	}
+}
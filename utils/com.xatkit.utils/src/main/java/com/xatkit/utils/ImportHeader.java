@@ -0,0 +1,155 @@
+package com.xatkit.utils;
+
+import static java.util.Objects.isNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.EObject;
+
+import com.xatkit.common.ImportDeclaration;
+import com.xatkit.intent.EventDefinition;
+import com.xatkit.intent.Library;
+import com.xatkit.platform.EventProviderDefinition;
+import com.xatkit.platform.PlatformDefinition;
+
+/**
+ * The names defined by an imported {@link PlatformDefinition} or {@link Library}.
+ * <p>
+ * An {@link ImportHeader} contains the name of the imported platform or library, the names of the events defined by
+ * a library, and the names of the events defined by each event provider of a platform. Headers are retrieved with
+ * {@link XatkitImportHelper#getImportHeader(ImportDeclaration)}, which never parses the imported file: they are
+ * computed from an already loaded {@link org.eclipse.emf.ecore.resource.Resource} or from the
+ * {@link CoreComponentIndex}. They are typically used when the names of the imported elements are needed, but the
+ * imported elements themselves are not (e.g. in the pre-indexing phase of a JVM model inferrer).
+ */
+public final class ImportHeader {
+
+	/**
+	 * Creates the {@link ImportHeader} of the provided {@code topLevelElement}.
+	 *
+	 * @param topLevelElement the top-level element of the imported resource
+	 * @return the created {@link ImportHeader}, or {@code null} if the provided {@code topLevelElement} is neither a
+	 *         {@link PlatformDefinition} nor a {@link Library}
+	 */
+	static ImportHeader of(EObject topLevelElement) {
+		if (topLevelElement instanceof PlatformDefinition) {
+			PlatformDefinition platform = (PlatformDefinition) topLevelElement;
+			ImportHeader header = new ImportHeader(platform.getName(), true);
+			for (EventProviderDefinition eventProvider : platform.getEventProviderDefinitions()) {
+				List<String> providerEvents = new ArrayList<>();
+				for (EventDefinition eventDefinition : eventProvider.getEventDefinitions()) {
+					providerEvents.add(eventDefinition.getName());
+				}
+				header.providerEvents.put(eventProvider.getName(), providerEvents);
+			}
+			return header;
+		} else if (topLevelElement instanceof Library) {
+			Library library = (Library) topLevelElement;
+			ImportHeader header = new ImportHeader(library.getName(), false);
+			for (EventDefinition eventDefinition : library.getEventDefinitions()) {
+				header.events.add(eventDefinition.getName());
+			}
+			return header;
+		}
+		return null;
+	}
+
+	/**
+	 * Creates the {@link ImportHeader} of the provided core component {@code entry}.
+	 *
+	 * @param entry the {@link CoreComponentIndex.Entry} to create the header of
+	 * @return the created {@link ImportHeader}
+	 */
+	static ImportHeader of(CoreComponentIndex.Entry entry) {
+		boolean platform = entry.getKind() == CoreComponentIndex.Kind.PLATFORM;
+		ImportHeader header = new ImportHeader(entry.getName(), platform);
+		if (platform) {
+			header.providerEvents.putAll(entry.getProviderEvents());
+		} else {
+			header.events.addAll(entry.getEvents());
+		}
+		return header;
+	}
+
+	/**
+	 * The name of the imported platform or library.
+	 */
+	private final String name;
+
+	/**
+	 * Whether the import is a platform.
+	 */
+	private final boolean platform;
+
+	/**
+	 * The names of the events defined by the imported library.
+	 */
+	private final List<String> events = new ArrayList<>();
+
+	/**
+	 * The names of the events defined by each event provider of the imported platform.
+	 */
+	private final Map<String, List<String>> providerEvents = new LinkedHashMap<>();
+
+	private ImportHeader(String name, boolean platform) {
+		this.name = name;
+		this.platform = platform;
+	}
+
+	/**
+	 * Returns the name of the imported platform or library.
+	 *
+	 * @return the name of the imported platform or library
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns whether the import is a {@link PlatformDefinition}.
+	 *
+	 * @return {@code true} if the import is a platform, {@code false} if it is a library
+	 */
+	public boolean isPlatform() {
+		return platform;
+	}
+
+	/**
+	 * Returns the names of the events defined by the imported library.
+	 *
+	 * @return an unmodifiable {@link List} containing the names of the library events, or an empty {@link List} if
+	 *         the import is a platform
+	 */
+	public List<String> getEvents() {
+		return Collections.unmodifiableList(events);
+	}
+
+	/**
+	 * Returns the names of the event providers defined by the imported platform.
+	 * <p>
+	 * Note that the providers inherited from the platforms extended by the imported platform are not returned.
+	 *
+	 * @return an unmodifiable {@link Collection} containing the names of the providers, or an empty
+	 *         {@link Collection} if the import is a library
+	 */
+	public Collection<String> getProviders() {
+		return Collections.unmodifiableCollection(providerEvents.keySet());
+	}
+
+	/**
+	 * Returns the names of the events defined by the provided {@code provider} of the imported platform.
+	 *
+	 * @param provider the name of the event provider
+	 * @return an unmodifiable {@link List} containing the names of the provider events, or an empty {@link List} if
+	 *         the imported platform does not define the provided {@code provider}
+	 */
+	public List<String> getProviderEvents(String provider) {
+		List<String> result = providerEvents.get(provider);
+		return isNull(result) ? Collections.emptyList() : Collections.unmodifiableList(result);
+	}
+}
@@ -0,0 +1,315 @@
+package com.xatkit.utils;
+
+import static java.text.MessageFormat.format;
+import static java.util.Objects.isNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * A registry sharing a single copy of the Xatkit <i>core component</i> {@link Resource}s between
+ * {@link ResourceSet}s.
+ * <p>
+ * The core {@link Resource}s are loaded once in a dedicated {@link ResourceSet}, and registered in the
+ * {@link ResourceSetImpl#getURIResourceMap() URI resource map} of the consumer {@link ResourceSet}s. This allows
+ * consumer {@link ResourceSet}s to retrieve (and resolve proxies to) core {@link Resource}s with their
+ * {@code pathmap} {@link URI} without containing them.
+ * <p>
+ * Shared {@link Resource}s are <b>read-only</b>: they are used by all the consumer {@link ResourceSet}s and must not be
+ * modified. They are loaded and fully resolved (including the {@link Resource}s of the platforms they extend) under
+ * the registry's lock before being published, and are never modified afterwards: a shared {@link Resource} whose core
+ * file has been updated is replaced by a new {@link Resource}, and consumers still referencing the previous one keep
+ * a consistent (outdated) model until they retrieve the new one. The shared {@link ResourceSet} is only accessed
+ * under the registry's lock (see {@link #getLock()}).
+ * <p>
+ * The registry counts the consumer {@link ResourceSet}s (either explicitly released with
+ * {@link #release(ResourceSet)} or garbage collected), and discards the shared {@link Resource}s when the last
+ * consumer is released.
+ */
+class SharedCoreResources {
+
+	private static final Logger log = Logger.getLogger(SharedCoreResources.class);
+
+	/**
+	 * The singleton {@link SharedCoreResources} instance.
+	 */
+	private static SharedCoreResources INSTANCE;
+
+	/**
+	 * Returns the singleton {@link SharedCoreResources} instance.
+	 *
+	 * @return the singleton {@link SharedCoreResources} instance
+	 */
+	static synchronized SharedCoreResources getInstance() {
+		if (isNull(INSTANCE)) {
+			INSTANCE = new SharedCoreResources();
+		}
+		return INSTANCE;
+	}
+
+	/**
+	 * The {@link ResourceSet} containing the shared core {@link Resource}s.
+	 */
+	private final ResourceSet sharedResourceSet;
+
+	/**
+	 * The {@link CoreComponentIndex.Entry} instances the shared {@link Resource}s have been loaded from.
+	 * <p>
+	 * This {@link Map} is used to reload shared {@link Resource}s when their index entry is updated.
+	 */
+	private Map<URI, CoreComponentIndex.Entry> loadedEntries;
+
+	/**
+	 * The {@link Resource}s published by the registry.
+	 * <p>
+	 * This {@link Set} contains the shared {@link Resource}s that have been replaced or discarded (and are not
+	 * contained in the shared {@link ResourceSet} anymore), as long as they are referenced by a consumer.
+	 */
+	private Set<Resource> publishedResources;
+
+	/**
+	 * The consumer {@link ResourceSet}s referencing the shared {@link Resource}s.
+	 * <p>
+	 * Consumers are weakly referenced, and are automatically released when they are garbage collected.
+	 */
+	private Set<Reference<ResourceSet>> consumers;
+
+	/**
+	 * The {@link ReferenceQueue} notified when a consumer {@link ResourceSet} is garbage collected.
+	 */
+	private ReferenceQueue<ResourceSet> collectedConsumers;
+
+	/**
+	 * Constructs a new {@link SharedCoreResources}.
+	 * <p>
+	 * This method is private, use {@link #getInstance()} to retrieve the singleton instance of this class.
+	 */
+	private SharedCoreResources() {
+		this.sharedResourceSet = new ResourceSetImpl();
+		this.loadedEntries = new HashMap<>();
+		this.publishedResources = Collections.newSetFromMap(new WeakHashMap<>());
+		this.consumers = new HashSet<>();
+		this.collectedConsumers = new ReferenceQueue<>();
+	}
+
+	/**
+	 * Returns the lock guarding the shared {@link ResourceSet}.
+	 * <p>
+	 * This lock must be used by the components accessing the shared {@link ResourceSet} (e.g. to resolve the proxies
+	 * of a shared {@link Resource} while it is loaded), and is reentrant with the lock held by
+	 * {@link #getResource(ResourceSet, CoreComponentIndex.Entry, String)}.
+	 *
+	 * @return the lock guarding the shared {@link ResourceSet}
+	 */
+	Object getLock() {
+		return this;
+	}
+
+	/**
+	 * Returns whether the provided {@code rSet} is the {@link ResourceSet} containing the shared {@link Resource}s.
+	 *
+	 * @param rSet the {@link ResourceSet} to check
+	 * @return {@code true} if the provided {@code rSet} contains the shared {@link Resource}s, {@code false} otherwise
+	 */
+	boolean isSharedResourceSet(ResourceSet rSet) {
+		return rSet == sharedResourceSet;
+	}
+
+	/**
+	 * Returns whether the provided {@code resource} has been published by the registry.
+	 * <p>
+	 * This method also returns {@code true} for the shared {@link Resource}s that are being loaded, and for the ones
+	 * that have been replaced or discarded (and are not contained in the shared {@link ResourceSet} anymore).
+	 *
+	 * @param resource the {@link Resource} to check
+	 * @return {@code true} if the provided {@code resource} is a shared {@link Resource}, {@code false} otherwise
+	 */
+	synchronized boolean isSharedResource(Resource resource) {
+		return isSharedResourceSet(resource.getResourceSet()) || publishedResources.contains(resource);
+	}
+
+	/**
+	 * Returns whether the provided {@code resource} is a shared core {@link Resource} loaded from the given index
+	 * {@code entry}.
+	 * <p>
+	 * This method returns {@code false} if the core file has been modified since the shared {@link Resource} was
+	 * loaded (i.e. if the index contains a new {@link CoreComponentIndex.Entry} for it), or if the provided
+	 * {@code resource} is not a shared {@link Resource}.
+	 *
+	 * @param resource the {@link Resource} to check
+	 * @param entry    the current {@link CoreComponentIndex.Entry} of the core file
+	 * @return {@code true} if the provided {@code resource} is up-to-date, {@code false} otherwise
+	 */
+	synchronized boolean isUpToDate(Resource resource, CoreComponentIndex.Entry entry) {
+		return isSharedResourceSet(resource.getResourceSet()) && loadedEntries.get(resource.getURI()) == entry
+				&& sharedResourceSet.getResource(resource.getURI(), false) == resource;
+	}
+
+	/**
+	 * Returns the shared core {@link Resource} corresponding to the provided index {@code entry}, and registers it in
+	 * the given {@code consumer}.
+	 * <p>
+	 * The shared {@link Resource} is loaded if it is not already loaded, or replaced by a new {@link Resource} if the
+	 * provided {@code entry} has been updated since it was loaded. Loaded {@link Resource}s are fully resolved before
+	 * being returned, meaning that the platforms they extend are loaded in the shared {@link ResourceSet} as well.
+	 *
+	 * @param consumer the {@link ResourceSet} using the shared {@link Resource}
+	 * @param entry    the {@link CoreComponentIndex.Entry} representing the core file to load
+	 * @param pathmap  the {@code pathmap} prefix used to register the core {@link Resource}
+	 * @return the shared {@link Resource}, or {@code null} if an error occurred when loading it
+	 */
+	synchronized Resource getResource(ResourceSet consumer, CoreComponentIndex.Entry entry, String pathmap) {
+		expungeCollectedConsumers();
+		URI pathmapURI = URI.createURI(pathmap + entry.getFileName());
+		Resource resource = sharedResourceSet.getResource(pathmapURI, false);
+		if (resource != null && loadedEntries.get(pathmapURI) != entry) {
+			/*
+			 * The resource may be used by consumers that haven't retrieved the updated entry yet: replace it instead
+			 * of unloading it, so that these consumers keep a consistent model.
+			 */
+			log.debug(format("Replacing shared core resource {0}", pathmapURI));
+			sharedResourceSet.getResources().remove(resource);
+			loadedEntries.remove(pathmapURI);
+			resource = null;
+		}
+		if (isNull(resource)) {
+			resource = loadResource(pathmapURI, entry);
+			if (isNull(resource)) {
+				return null;
+			}
+		}
+		if (!isSharedResourceSet(consumer)) {
+			acquire(consumer);
+			getURIResourceMap(consumer).put(pathmapURI, resource);
+		}
+		return resource;
+	}
+
+	/**
+	 * Loads and resolves the shared core {@link Resource} corresponding to the provided index {@code entry}.
+	 * <p>
+	 * This method must be called under the registry's lock. The created {@link Resource} is added to the shared
+	 * {@link ResourceSet} and fully resolved before being recorded as loaded from the provided {@code entry}.
+	 *
+	 * @param pathmapURI the {@code pathmap} {@link URI} of the {@link Resource} to load
+	 * @param entry      the {@link CoreComponentIndex.Entry} representing the core file to load
+	 * @return the loaded {@link Resource}, or {@code null} if an error occurred when loading it
+	 */
+	private Resource loadResource(URI pathmapURI, CoreComponentIndex.Entry entry) {
+		sharedResourceSet.getURIConverter().getURIMap().put(pathmapURI, URI.createURI(entry.getFileName()));
+		Resource resource = sharedResourceSet.createResource(pathmapURI);
+		XatkitMetrics.getInstance().increment(XatkitImportHelper.RESOURCE_CREATED_METRIC);
+		long start = System.nanoTime();
+		try (InputStream is = Files.newInputStream(entry.getPath())) {
+			resource.load(is, Collections.emptyMap());
+			XatkitMetrics.getInstance().record(entry.getLoadMetric(), start);
+		} catch (IOException e) {
+			log.error(format("An error occurred when loading the shared core resource {0}", entry.getFileName()));
+			sharedResourceSet.getResources().remove(resource);
+			return null;
+		}
+		/*
+		 * Record the entry before resolving the resource: resolving a platform may retrieve the shared resources of
+		 * the platforms it extends, and a cyclic extends chain must not reload this resource.
+		 */
+		loadedEntries.put(pathmapURI, entry);
+		EcoreUtil.resolveAll(resource);
+		/*
+		 * Shared resources are read-only once published, there is no need to track their modifications.
+		 */
+		resource.setTrackingModification(false);
+		publishedResources.add(resource);
+		return resource;
+	}
+
+	/**
+	 * Releases the provided {@code consumer}.
+	 * <p>
+	 * This method removes the shared {@link Resource}s from the {@code consumer}'s URI resource map. The shared
+	 * {@link Resource}s are discarded if the provided {@code consumer} was the last one referencing them.
+	 *
+	 * @param consumer the {@link ResourceSet} to release
+	 */
+	synchronized void release(ResourceSet consumer) {
+		boolean removed = consumers.removeIf(r -> r.get() == consumer);
+		if (removed && consumer instanceof ResourceSetImpl) {
+			Map<URI, Resource> uriResourceMap = ((ResourceSetImpl) consumer).getURIResourceMap();
+			if (uriResourceMap != null) {
+				uriResourceMap.values().removeIf(publishedResources::contains);
+			}
+		}
+		expungeCollectedConsumers();
+	}
+
+	/**
+	 * Registers the provided {@code consumer} as a user of the shared {@link Resource}s.
+	 *
+	 * @param consumer the {@link ResourceSet} to register
+	 */
+	private void acquire(ResourceSet consumer) {
+		for (Reference<ResourceSet> reference : consumers) {
+			if (reference.get() == consumer) {
+				return;
+			}
+		}
+		consumers.add(new WeakReference<>(consumer, collectedConsumers));
+		log.debug(format("{0} shared core resources consumers", consumers.size()));
+	}
+
+	/**
+	 * Removes the garbage collected consumers, and discards the shared {@link Resource}s if there is no consumer left.
+	 */
+	private void expungeCollectedConsumers() {
+		Reference<? extends ResourceSet> collected;
+		while ((collected = collectedConsumers.poll()) != null) {
+			consumers.remove(collected);
+		}
+		if (consumers.isEmpty() && !sharedResourceSet.getResources().isEmpty()) {
+			/*
+			 * Released consumers may still reference the shared resources: discard them without unloading them, they
+			 * are garbage collected with their last user.
+			 */
+			log.debug("No consumer left, discarding the shared core resources");
+			sharedResourceSet.getResources().clear();
+			loadedEntries.clear();
+		}
+	}
+
+	/**
+	 * Returns the URI resource map of the provided {@code consumer}, creating it if necessary.
+	 *
+	 * @param consumer the {@link ResourceSet} to retrieve the URI resource map of
+	 * @return the URI resource map of the provided {@code consumer}
+	 * @throws IllegalArgumentException if the provided {@code consumer} is not a {@link ResourceSetImpl}
+	 */
+	private Map<URI, Resource> getURIResourceMap(ResourceSet consumer) {
+		if (!(consumer instanceof ResourceSetImpl)) {
+			throw new IllegalArgumentException(format("Cannot share core resources with {0}, expected a {1}",
+					consumer.getClass().getSimpleName(), ResourceSetImpl.class.getSimpleName()));
+		}
+		ResourceSetImpl consumerImpl = (ResourceSetImpl) consumer;
+		Map<URI, Resource> uriResourceMap = consumerImpl.getURIResourceMap();
+		if (isNull(uriResourceMap)) {
+			uriResourceMap = new HashMap<>();
+			consumerImpl.setURIResourceMap(uriResourceMap);
+		}
+		return uriResourceMap;
+	}
+}
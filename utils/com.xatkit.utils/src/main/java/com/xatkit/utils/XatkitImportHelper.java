@@ -8,24 +8,28 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.apache.log4j.Logger;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.emf.common.CommonPlugin;
+import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.xbase.XbasePackage;
 
@@ -62,10 +66,15 @@ public class XatkitImportHelper {
 
 	/**
 	 * Returns the singleton {@link XatkitImportHelper} instance.
+	 * <p>
+	 * The returned instance can be used concurrently: the operations it performs on a given {@link ResourceSet} are
+	 * serialized, while operations on different {@link ResourceSet}s can be performed in parallel. Note that this does
+	 * not make the {@link ResourceSet}s themselves thread-safe: components accessing a {@link ResourceSet} outside of
+	 * this class (e.g. Xtext's linkers) must not run concurrently on the same {@link ResourceSet}.
 	 * 
 	 * @return the singleton {@link XatkitImportHelper} instance
 	 */
-	public static XatkitImportHelper getInstance() {
+	public static synchronized XatkitImportHelper getInstance() {
 		if (isNull(INSTANCE)) {
 			INSTANCE = new XatkitImportHelper();
 		}
@@ -73,35 +82,128 @@ public class XatkitImportHelper {
 	}
 
 	/**
-	 * Tracks the number of files loaded by the registry.
-	 * <p>
-	 * This field is used for debugging purposes.
+	 * The name of the counter tracking the number of {@link Resource}s created by the registry.
+	 * 
+	 * @see XatkitMetrics
 	 */
-	private static int FILE_LOADED_COUNT = 0;
+	public static final String RESOURCE_CREATED_METRIC = "import.resource.created";
 
 	/**
-	 * Increments and prints the {@link #FILE_LOADED_COUNT} value.
-	 * <p>
-	 * This method is used for debugging purposes.
-	 * <p>
+	 * The name of the counter tracking the number of imports resolved from the import cache.
+	 * 
+	 * @see #getCacheHitCount()
+	 */
+	public static final String CACHE_HIT_METRIC = "import.cache.hit";
+
+	/**
+	 * The name of the counter tracking the number of imports that required to (re)load their {@link Resource}.
+	 * 
+	 * @see #getCacheMissCount()
+	 */
+	public static final String CACHE_MISS_METRIC = "import.cache.miss";
+
+	/**
+	 * The prefix of the timers tracking the time spent to load imports, suffixed by the kind of the import
+	 * ({@code platform}, {@code library}, {@code core.platform}, or {@code core.library}).
+	 * 
+	 * @see XatkitMetrics
+	 */
+	public static final String LOAD_METRIC_PREFIX = "import.load.";
+
+	/**
+	 * Increments the {@link #RESOURCE_CREATED_METRIC} counter.
 	 */
 	private static void incrementLoadCalls() {
-		FILE_LOADED_COUNT++;
-		log.debug(format("# File loaded: {0}", FILE_LOADED_COUNT));
+		XatkitMetrics.getInstance().increment(RESOURCE_CREATED_METRIC);
 	}
 
 	/**
-	 * The {@link Map} used to store the ignored aliases for each {@link ResourceSet}.
+	 * Returns the name of the timer tracking the time spent to load the provided {@code importDeclaration}.
+	 * 
+	 * @param importDeclaration the {@link ImportDeclaration} to retrieve the timer name of
+	 * @return the name of the timer
+	 */
+	private static String getLoadMetric(ImportDeclaration importDeclaration) {
+		return LOAD_METRIC_PREFIX + (importDeclaration instanceof PlatformImportDeclaration ? "platform" : "library");
+	}
+
+	/**
+	 * The number of locks used to serialize the operations performed on a given {@link ResourceSet}.
+	 * 
+	 * @see #getLock(ResourceSet)
+	 */
+	private static final int RESOURCE_SET_LOCK_STRIPES = 32;
+
+	/**
+	 * The locks used to serialize the operations performed on a given {@link ResourceSet}.
 	 * <p>
-	 * This {@link Map} is typically populated by applications loading Xatkit files from outside eclipse with a custom
-	 * loading mechanism. In this context the {@link XatkitImportHelper} should not erase the content of the
-	 * {@link ResourceSet} for the aliases representing the custom loaded resources.
+	 * {@link ResourceSet}s are not thread-safe: this class locks the {@link ResourceSet} it updates with one of these
+	 * locks, allowing concurrent operations on different {@link ResourceSet}s without retaining them.
+	 * 
+	 * @see #getLock(ResourceSet)
+	 */
+	private final Object[] resourceSetLocks;
+
+	/**
+	 * The system property used to disable the lazy loading of the core {@link Platform}s and {@link Library}
+	 * instances.
+	 * 
+	 * @see #setLazyCoreLoading(boolean)
+	 */
+	public static final String LAZY_CORE_LOADING_PROPERTY = "xatkit.core.lazy";
+
+	/**
+	 * Whether the core {@link Platform}s and {@link Library} instances are loaded on demand.
+	 * 
+	 * @see #setLazyCoreLoading(boolean)
+	 */
+	private volatile boolean lazyCoreLoading;
+
+	/**
+	 * The system property used to enable the sharing of core {@link Platform}s and {@link Library} instances between
+	 * {@link ResourceSet}s.
+	 * 
+	 * @see #setSharedCoreResources(boolean)
+	 */
+	public static final String SHARED_CORE_RESOURCES_PROPERTY = "xatkit.core.shared";
+
+	/**
+	 * Whether the core {@link Platform}s and {@link Library} instances are shared between {@link ResourceSet}s.
+	 * 
+	 * @see #setSharedCoreResources(boolean)
+	 */
+	private volatile boolean sharedCoreResources;
+
+	/**
+	 * The system property used to set the number of imports that can be parsed concurrently.
+	 * 
+	 * @see #setImportLoadingParallelism(int)
+	 */
+	public static final String IMPORT_LOADING_PARALLELISM_PROPERTY = "xatkit.imports.parallelism";
+
+	/**
+	 * The number of imports that can be parsed concurrently.
+	 * 
+	 * @see #setImportLoadingParallelism(int)
+	 */
+	private volatile int importLoadingParallelism;
+
+	/**
+	 * The {@link ForkJoinPool} used to parse imports concurrently.
 	 * <p>
-	 * This {@link Map} is not populated when loading Xatkit files from within eclipse (e.g. the Xatkit editors).
+	 * This pool is lazily created the first time imports are loaded concurrently, and is bounded by
+	 * {@link #importLoadingParallelism}.
 	 * 
-	 * @see #ignoreAlias(ResourceSet, String)
+	 * @see #getImportLoadingPool()
 	 */
-	private Map<ResourceSet, List<String>> ignoredAliases;
+	private ForkJoinPool importLoadingPool;
+
+	/**
+	 * The system property used to disable the watching of the imported files and core directories.
+	 * 
+	 * @see #setFileWatching(boolean)
+	 */
+	public static final String FILE_WATCHING_PROPERTY = "xatkit.imports.watch";
 
 	/**
 	 * Constructs a new {@link XatkitImportHelper}.
@@ -114,7 +216,40 @@ public class XatkitImportHelper {
 		EPackage.Registry.INSTANCE.put(IntentPackage.eINSTANCE.getNsURI(), IntentPackage.eINSTANCE);
 		EPackage.Registry.INSTANCE.put(PlatformPackage.eINSTANCE.getNsURI(), PlatformPackage.eINSTANCE);
 		EPackage.Registry.INSTANCE.put(ExecutionPackage.eINSTANCE.getNsURI(), ExecutionPackage.eINSTANCE);
-		this.ignoredAliases = new HashMap<>();
+		this.resourceSetLocks = new Object[RESOURCE_SET_LOCK_STRIPES];
+		for (int i = 0; i < RESOURCE_SET_LOCK_STRIPES; i++) {
+			this.resourceSetLocks[i] = new Object();
+		}
+		this.lazyCoreLoading = Boolean.parseBoolean(System.getProperty(LAZY_CORE_LOADING_PROPERTY, "true"));
+		this.sharedCoreResources = Boolean.parseBoolean(System.getProperty(SHARED_CORE_RESOURCES_PROPERTY, "false"));
+		this.importLoadingParallelism = Integer.getInteger(IMPORT_LOADING_PARALLELISM_PROPERTY,
+				Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Sets whether the core {@link Platform}s and {@link Library} instances are loaded on demand.
+	 * <p>
+	 * In lazy mode (the default) the registry only loads the core {@link Resource}s that are imported (and the
+	 * {@link Platform}s they extend) the first time they are accessed. Disabling this mode loads all the core
+	 * {@link Resource}s in the {@link ResourceSet} as soon as an import is resolved. The default mode can be set with
+	 * the {@link #LAZY_CORE_LOADING_PROPERTY} system property.
+	 * 
+	 * @param lazyCoreLoading {@code true} to load core {@link Resource}s on demand, {@code false} to load all of them
+	 *                        eagerly
+	 */
+	public void setLazyCoreLoading(boolean lazyCoreLoading) {
+		this.lazyCoreLoading = lazyCoreLoading;
+	}
+
+	/**
+	 * Returns whether the core {@link Platform}s and {@link Library} instances are loaded on demand.
+	 * 
+	 * @return {@code true} if core {@link Resource}s are loaded on demand, {@code false} otherwise
+	 * 
+	 * @see #setLazyCoreLoading(boolean)
+	 */
+	public boolean isLazyCoreLoading() {
+		return this.lazyCoreLoading;
 	}
 
 	/**
@@ -139,15 +274,11 @@ public class XatkitImportHelper {
 	 * @param alias the alias to ignore
 	 * 
 	 * @see #isIgnored(ImportDeclaration)
+	 * @see #dispose(ResourceSet)
 	 */
 	public void ignoreAlias(ResourceSet rSet, String alias) {
-		List<String> ignoredAliasesForRset = ignoredAliases.get(rSet);
-		if (isNull(ignoredAliasesForRset)) {
-			List<String> aliasList = new ArrayList<>();
-			aliasList.add(alias);
-			ignoredAliases.put(rSet, aliasList);
-		} else {
-			ignoredAliasesForRset.add(alias);
+		synchronized (getLock(rSet)) {
+			ImportCache.getOrCreate(rSet).ignoreAlias(alias);
 		}
 	}
 
@@ -164,8 +295,189 @@ public class XatkitImportHelper {
 	 */
 	public boolean isIgnored(ImportDeclaration importDeclaration) {
 		ResourceSet rSet = importDeclaration.eResource().getResourceSet();
-		List<String> ignoredAliasesForRset = this.ignoredAliases.get(rSet);
-		return nonNull(ignoredAliasesForRset) && ignoredAliasesForRset.contains(importDeclaration.getAlias());
+		synchronized (getLock(rSet)) {
+			ImportCache importCache = ImportCache.get(rSet);
+			return nonNull(importCache) && importCache.isIgnored(importDeclaration.getAlias());
+		}
+	}
+
+	/**
+	 * Discards the information stored by the registry for the provided {@code rSet}.
+	 * <p>
+	 * This method removes the import cache and the ignored aliases of the provided {@code rSet}, and releases the
+	 * shared core {@link Resource}s it uses. It should be called when the provided {@code rSet} is not used anymore.
+	 * Note that the registry does not hold strong references to the {@link ResourceSet}s it processes: their
+	 * information is also discarded when they are garbage collected.
+	 * 
+	 * @param rSet the {@link ResourceSet} to dispose
+	 * 
+	 * @see #releaseSharedCoreResources(ResourceSet)
+	 */
+	public void dispose(ResourceSet rSet) {
+		synchronized (getLock(rSet)) {
+			ImportCache.dispose(rSet);
+			releaseSharedCoreResources(rSet);
+		}
+	}
+
+	/**
+	 * Returns the lock used to serialize the operations performed on the provided {@code rSet}.
+	 * 
+	 * @param rSet the {@link ResourceSet} to retrieve the lock of
+	 * @return the lock associated to the provided {@code rSet}
+	 */
+	private Object getLock(ResourceSet rSet) {
+		SharedCoreResources sharedCoreResources = SharedCoreResources.getInstance();
+		if (sharedCoreResources.isSharedResourceSet(rSet)) {
+			/*
+			 * The shared ResourceSet is loaded and resolved under the SharedCoreResources lock, using a stripe here
+			 * could deadlock with a consumer ResourceSet mapped to the same stripe.
+			 */
+			return sharedCoreResources.getLock();
+		}
+		return resourceSetLocks[(System.identityHashCode(rSet) & Integer.MAX_VALUE) % RESOURCE_SET_LOCK_STRIPES];
+	}
+
+	/**
+	 * Returns the lock used to serialize the operations performed on the {@link ResourceSet} containing the provided
+	 * {@code eObject}.
+	 * 
+	 * @param eObject the {@link EObject} to retrieve the lock of
+	 * @return the lock associated to the {@link ResourceSet} containing the provided {@code eObject}
+	 */
+	private Object getLock(EObject eObject) {
+		Resource resource = eObject.eResource();
+		return getLock(nonNull(resource) ? resource.getResourceSet() : null);
+	}
+
+	/**
+	 * Sets whether the core {@link Platform}s and {@link Library} instances are shared between {@link ResourceSet}s.
+	 * <p>
+	 * When this mode is enabled the core {@link Resource}s are loaded and fully resolved once in a shared
+	 * {@link ResourceSet}, and registered in the URI resource map of the {@link ResourceSet}s importing them. Shared
+	 * core {@link Resource}s are read-only and must not be modified. When this mode is disabled (the default) a copy of
+	 * the core {@link Resource}s is loaded in each {@link ResourceSet}. The default mode can be set with the
+	 * {@link #SHARED_CORE_RESOURCES_PROPERTY} system property.
+	 * 
+	 * @param sharedCoreResources {@code true} to share core {@link Resource}s between {@link ResourceSet}s,
+	 *                            {@code false} to load them in each {@link ResourceSet}
+	 * 
+	 * @see #releaseSharedCoreResources(ResourceSet)
+	 */
+	public void setSharedCoreResources(boolean sharedCoreResources) {
+		this.sharedCoreResources = sharedCoreResources;
+	}
+
+	/**
+	 * Returns whether the core {@link Platform}s and {@link Library} instances are shared between {@link ResourceSet}s.
+	 * 
+	 * @return {@code true} if core {@link Resource}s are shared, {@code false} otherwise
+	 * 
+	 * @see #setSharedCoreResources(boolean)
+	 */
+	public boolean isSharedCoreResources() {
+		return this.sharedCoreResources;
+	}
+
+	/**
+	 * Releases the shared core {@link Resource}s used by the provided {@code rSet}.
+	 * <p>
+	 * This method should be called when the provided {@code rSet} is not used anymore. Shared core {@link Resource}s
+	 * are unloaded when the last {@link ResourceSet} using them is released. Note that {@link ResourceSet}s that are
+	 * garbage collected are automatically released.
+	 * 
+	 * @param rSet the {@link ResourceSet} to release
+	 * 
+	 * @see #setSharedCoreResources(boolean)
+	 */
+	public void releaseSharedCoreResources(ResourceSet rSet) {
+		SharedCoreResources.getInstance().release(rSet);
+	}
+
+	/**
+	 * Sets the number of imports that can be parsed concurrently.
+	 * <p>
+	 * Imports that need to be (re)loaded are resolved sequentially, parsed concurrently in isolated
+	 * {@link ResourceSet}s, and added back to their {@link ResourceSet} in declaration order. The default value is
+	 * the number of available processors, and can be set with the {@link #IMPORT_LOADING_PARALLELISM_PROPERTY} system
+	 * property. Setting a value lower than {@code 2} loads imports sequentially.
+	 * 
+	 * @param importLoadingParallelism the number of imports that can be parsed concurrently
+	 */
+	public synchronized void setImportLoadingParallelism(int importLoadingParallelism) {
+		this.importLoadingParallelism = importLoadingParallelism;
+		if (nonNull(importLoadingPool)) {
+			importLoadingPool.shutdown();
+			importLoadingPool = null;
+		}
+	}
+
+	/**
+	 * Returns the number of imports that can be parsed concurrently.
+	 * 
+	 * @return the number of imports that can be parsed concurrently
+	 * 
+	 * @see #setImportLoadingParallelism(int)
+	 */
+	public int getImportLoadingParallelism() {
+		return this.importLoadingParallelism;
+	}
+
+	/**
+	 * Sets whether the imported files and the core directories are watched.
+	 * <p>
+	 * When this mode is enabled (the default) the registry watches the imported files and the core directories, and
+	 * only reloads the imports that the watcher reported as modified since they were loaded, without accessing the file
+	 * system for the other ones. Disabling this mode (or running on a file system without native file notifications)
+	 * checks the time stamp of each imported file every time it is resolved. Note that watch events are processed
+	 * asynchronously: a file resolved a few milliseconds after it has been modified may not be reloaded. The default
+	 * mode can be set with the {@link #FILE_WATCHING_PROPERTY} system property.
+	 * 
+	 * @param fileWatching {@code true} to watch the imported files, {@code false} otherwise
+	 */
+	public void setFileWatching(boolean fileWatching) {
+		ImportFileWatcher.getInstance().setEnabled(fileWatching);
+	}
+
+	/**
+	 * Returns whether the imported files and the core directories are watched.
+	 * 
+	 * @return {@code true} if the imported files are watched, {@code false} otherwise
+	 * 
+	 * @see #setFileWatching(boolean)
+	 */
+	public boolean isFileWatching() {
+		return ImportFileWatcher.getInstance().isEnabled();
+	}
+
+	/**
+	 * Returns the number of imports resolved from the import cache.
+	 * <p>
+	 * A cache hit corresponds to an import that has been resolved to a {@link Resource} already loaded in the
+	 * {@link ResourceSet}, and whose underlying file has not been modified since it was loaded.
+	 * 
+	 * @return the number of imports resolved from the import cache
+	 * 
+	 * @see #getCacheMissCount()
+	 * @see #CACHE_HIT_METRIC
+	 */
+	public long getCacheHitCount() {
+		return XatkitMetrics.getInstance().getCount(CACHE_HIT_METRIC);
+	}
+
+	/**
+	 * Returns the number of imports that required to (re)load their {@link Resource}.
+	 * <p>
+	 * A cache miss corresponds to an import that has never been loaded in the {@link ResourceSet}, or whose underlying
+	 * file has been modified since it was loaded.
+	 * 
+	 * @return the number of imports that required to (re)load their {@link Resource}
+	 * 
+	 * @see #getCacheHitCount()
+	 * @see #CACHE_MISS_METRIC
+	 */
+	public long getCacheMissCount() {
+		return XatkitMetrics.getInstance().getCount(CACHE_MISS_METRIC);
 	}
 
 	/**
@@ -178,8 +490,7 @@ public class XatkitImportHelper {
 	 * @return the {@link PlatformDefinition}s imported by the provided {@code platform}
 	 */
 	public Collection<PlatformDefinition> getImportedPlatforms(PlatformDefinition platform) {
-		Collection<Resource> refreshedImports = this.reloadImports(platform.getImports());
-		return getLoadedElements(PlatformDefinition.class, refreshedImports);
+		return this.reloadImports(getLock(platform), platform.getImports(), PlatformDefinition.class);
 	}
 
 	/**
@@ -192,8 +503,7 @@ public class XatkitImportHelper {
 	 * @return the {@link PlatformDefinition}s imported by the provided {@code executionModel}
 	 */
 	public Collection<PlatformDefinition> getImportedPlatforms(ExecutionModel executionModel) {
-		Collection<Resource> refreshedImports = this.reloadImports(executionModel.getImports());
-		return getLoadedElements(PlatformDefinition.class, refreshedImports);
+		return this.reloadImports(getLock(executionModel), executionModel.getImports(), PlatformDefinition.class);
 	}
 
 	/**
@@ -228,8 +538,24 @@ public class XatkitImportHelper {
 	 * @return the {@link Library} instances imported by the provided {@code executionModel}
 	 */
 	public Collection<Library> getImportedLibraries(ExecutionModel executionModel) {
-		Collection<Resource> refreshedImports = this.reloadImports(executionModel.getImports());
-		return getLoadedElements(Library.class, refreshedImports);
+		return this.reloadImports(getLock(executionModel), executionModel.getImports(), Library.class);
+	}
+
+	/**
+	 * Returns the top-level elements of the {@link Resource}s imported by the provided {@code executionModel}.
+	 * <p>
+	 * The returned elements ({@link PlatformDefinition}s and {@link Library} instances) are sorted in the declaration
+	 * order of their imports. This method reloads the imports once, and should be preferred to successive calls to
+	 * {@link #getImportedPlatforms(ExecutionModel)} and {@link #getImportedLibraries(ExecutionModel)} when both
+	 * platforms and libraries are needed. Since reloading an imported {@link Resource} creates new top-level elements,
+	 * the returned elements can be compared by identity to check whether the imports of the {@code executionModel}
+	 * have changed.
+	 * 
+	 * @param executionModel the {@link ExecutionModel} to retrieve the imported elements of
+	 * @return the top-level elements of the {@link Resource}s imported by the provided {@code executionModel}
+	 */
+	public Collection<EObject> getImportedElements(ExecutionModel executionModel) {
+		return this.reloadImports(getLock(executionModel), executionModel.getImports(), EObject.class);
 	}
 
 	/**
@@ -246,7 +572,7 @@ public class XatkitImportHelper {
 	 * 
 	 * @see #getImportedLibraries(ExecutionModel)
 	 * @see #getImportedPlatforms(ExecutionModel)
-	 * @see #reloadImports(Collection)
+	 * @see #reloadImports(Object, Collection, Class)
 	 */
 	@SuppressWarnings("unchecked")
 	private <T> Collection<T> getLoadedElements(Class<T> elementClazz, Collection<Resource> resources) {
@@ -276,28 +602,145 @@ public class XatkitImportHelper {
 	 */
 
 	/**
-	 * Reloads the provided {@code newImports} in the {@link ResourceSet} and returns their {@link Resource}.
+	 * Reloads the provided {@code newImports} in the {@link ResourceSet} and returns the top-level elements of their
+	 * {@link Resource} matching the given {@code elementClazz}.
 	 * <p>
 	 * This method is expansive, and should only be called when a complete and up-to-date version of the
 	 * {@link ResourceSet} is required (e.g. when calling {@link #getImportedLibraries(ExecutionModel)} or
 	 * {@link #getImportedPlatforms(ExecutionModel)}).
+	 * <p>
+	 * The imports are resolved and added back to the {@link ResourceSet} while holding the provided {@code lock}, but
+	 * the imports that need to be (re)loaded are parsed without holding it (see {@link #parseImports(List)}). This
+	 * allows other threads to access the {@link ResourceSet} while the imported files are parsed. The imports that
+	 * have been modified in the meantime by another thread are resolved again.
 	 * 
-	 * @param newImports the {@link ImportDeclaration} to reload
-	 * @return the {@link Resource}s containing the provided {@code newImports}
+	 * @param lock         the lock guarding the {@link ResourceSet} of the provided {@code newImports}
+	 * @param newImports   the {@link ImportDeclaration} to reload
+	 * @param elementClazz the {@link Class} of the top-level elements to retrieve
+	 * @return the top-level elements of the {@link Resource}s containing the provided {@code newImports}
 	 */
-	private Collection<Resource> reloadImports(Collection<? extends ImportDeclaration> newImports) {
-		List<Resource> resources = new ArrayList<>();
-		for (ImportDeclaration importDeclaration : newImports) {
-			Resource resource = getResourceFromImport(importDeclaration);
-			if (nonNull(resource)) {
-				resources.add(resource);
+	private <T> Collection<T> reloadImports(Object lock, Collection<? extends ImportDeclaration> newImports,
+			Class<T> elementClazz) {
+		List<PendingImport> pendingImports = new ArrayList<>();
+		List<ParsingTask> parsingTasks;
+		synchronized (lock) {
+			for (ImportDeclaration importDeclaration : newImports) {
+				pendingImports.add(prepareImport(importDeclaration));
 			}
-			/*
-			 * Ignore the resource if it is null, this means that an error occurred while loading it and it should be
-			 * visible in the logs.
-			 */
+			parsingTasks = createParsingTasks(pendingImports);
+		}
+		parseImports(parsingTasks);
+		synchronized (lock) {
+			for (ParsingTask parsingTask : parsingTasks) {
+				parsingTask.swapParsedResource();
+			}
+			List<Resource> resources = new ArrayList<>();
+			for (PendingImport pendingImport : pendingImports) {
+				if (pendingImport.isStale()) {
+					/*
+					 * The ResourceSet has been updated by another thread while the imports were parsed.
+					 */
+					pendingImport = prepareImport(pendingImport.getImportDeclaration());
+				}
+				Resource resource = completeImport(pendingImport);
+				if (nonNull(resource)) {
+					resources.add(resource);
+				}
+				/*
+				 * Ignore the resource if it is null, this means that an error occurred while loading it and it should
+				 * be visible in the logs.
+				 */
+			}
+			return getLoadedElements(elementClazz, resources);
 		}
-		return resources;
+	}
+
+	/**
+	 * Creates the {@link ParsingTask}s of the provided {@code pendingImports}.
+	 * <p>
+	 * Each {@link PendingImport} that needs to be loaded is parsed in an isolated {@link ResourceSet} configured with
+	 * the URI map, load options, and registries of its target {@link ResourceSet}. Since {@link ResourceSet}s are not
+	 * thread-safe this method must be called while holding the lock of the target {@link ResourceSet}.
+	 * <p>
+	 * This method returns an empty {@link List} if there are less than two {@link PendingImport}s to load, or if the
+	 * import loading parallelism is lower than {@code 2} (see {@link #setImportLoadingParallelism(int)}).
+	 * 
+	 * @param pendingImports the {@link PendingImport}s to create the tasks of
+	 * @return the created {@link ParsingTask}s
+	 */
+	private List<ParsingTask> createParsingTasks(List<PendingImport> pendingImports) {
+		List<PendingImport> toParse = new ArrayList<>();
+		for (PendingImport pendingImport : pendingImports) {
+			if (pendingImport.needsLoading()) {
+				toParse.add(pendingImport);
+			}
+		}
+		if (toParse.size() < 2 || importLoadingParallelism < 2) {
+			return Collections.emptyList();
+		}
+		List<ParsingTask> parsingTasks = new ArrayList<>();
+		for (PendingImport pendingImport : toParse) {
+			ResourceSet rSet = pendingImport.getResourceSet();
+			ResourceSetImpl parsingResourceSet = new ResourceSetImpl();
+			parsingResourceSet.setResourceFactoryRegistry(rSet.getResourceFactoryRegistry());
+			parsingResourceSet.setPackageRegistry(rSet.getPackageRegistry());
+			parsingResourceSet.getURIConverter().getURIMap().putAll(rSet.getURIConverter().getURIMap());
+			parsingResourceSet.getLoadOptions().putAll(rSet.getLoadOptions());
+			Resource parsingResource = parsingResourceSet.createResource(pendingImport.getResource().getURI());
+			if (nonNull(parsingResource)) {
+				parsingTasks.add(new ParsingTask(pendingImport, parsingResource,
+						getLoadMetric(pendingImport.getImportDeclaration())));
+			}
+		}
+		return parsingTasks;
+	}
+
+	/**
+	 * Parses the {@link Resource}s of the provided {@code parsingTasks} concurrently.
+	 * <p>
+	 * This method does not access the target {@link ResourceSet}s of the tasks, and must be called without holding
+	 * their lock. The parsed {@link Resource}s are added to their target {@link ResourceSet} by
+	 * {@link ParsingTask#swapParsedResource()}. {@link PendingImport}s that cannot be parsed concurrently are left
+	 * untouched, and are loaded sequentially by {@link #completeImport(PendingImport)}, which reports the loading
+	 * errors.
+	 * 
+	 * @param parsingTasks the {@link ParsingTask}s to execute
+	 */
+	private void parseImports(List<ParsingTask> parsingTasks) {
+		if (parsingTasks.isEmpty()) {
+			return;
+		}
+		List<Future<Resource>> results;
+		try {
+			results = getImportLoadingPool().invokeAll(parsingTasks);
+		} catch (RejectedExecutionException e) {
+			log.warn("Cannot parse the imports concurrently, loading them sequentially", e);
+			return;
+		}
+		for (int i = 0; i < results.size(); i++) {
+			ParsingTask parsingTask = parsingTasks.get(i);
+			try {
+				parsingTask.setParsedResource(results.get(i).get());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (ExecutionException e) {
+				log.debug(format("Cannot parse the resource {0} concurrently, loading it sequentially",
+						parsingTask.getPendingImport().getResource().getURI()));
+			}
+		}
+	}
+
+	/**
+	 * Returns the {@link ForkJoinPool} used to parse imports concurrently, creating it if necessary.
+	 * 
+	 * @return the {@link ForkJoinPool} used to parse imports concurrently
+	 */
+	private synchronized ForkJoinPool getImportLoadingPool() {
+		if (isNull(importLoadingPool)) {
+			importLoadingPool = new ForkJoinPool(importLoadingParallelism);
+		}
+		return importLoadingPool;
 	}
 
 	/**
@@ -357,32 +800,102 @@ public class XatkitImportHelper {
 
 	/**
 	 * Tries to load the provided {@code importDeclaration} as a Xatkit core platform {@link Resource}.
+	 * <p>
+	 * If lazy core loading is enabled this method loads the core platform {@link Resource} on demand, and resolves it
+	 * to make sure the {@link Platform} it extends is loaded as well. Shared core {@link Resource}s are resolved when
+	 * they are loaded (see {@link SharedCoreResources#getResource(ResourceSet, CoreComponentIndex.Entry, String)}),
+	 * and are not modified by this method.
 	 * 
 	 * @param importDeclaration the {@link PlatformImportDeclaration} to load
 	 * @return the loaded {@link Resource}, or {@code null} if the provided {@code importDeclaration} doesn't correspond
 	 *         to a Xatkit core platform resource.
+	 * 
+	 * @see #setLazyCoreLoading(boolean)
 	 */
 	private /* @Nullable */ Resource loadImportAsCorePlatform(PlatformImportDeclaration importDeclaration) {
 		ResourceSet rSet = importDeclaration.eResource().getResourceSet();
 		String uriPrefix = PlatformLoaderUtils.CORE_PLATFORM_PATHMAP;
 		String path = importDeclaration.getPath();
 		String uriSuffix = path.endsWith(".platform") ? "" : ".platform";
-		return rSet.getResource(URI.createURI(uriPrefix + importDeclaration.getPath() + uriSuffix), false);
+		Resource resource = rSet.getResource(URI.createURI(uriPrefix + importDeclaration.getPath() + uriSuffix),
+				false);
+		if ((isNull(resource) || isSharedCoreResource(resource)) && lazyCoreLoading) {
+			CoreComponentIndex coreIndex = CoreComponentIndex.getInstance();
+			if (nonNull(coreIndex)) {
+				CoreComponentIndex.Entry entry = coreIndex.getPlatformEntry(path + uriSuffix);
+				if (nonNull(entry) && !isUpToDateCoreResource(resource, entry)) {
+					resource = loadXatkitCoreResource(rSet, entry, uriPrefix);
+					if (nonNull(resource) && !isSharedCoreResource(resource)) {
+						/*
+						 * Resolve the platform to load the platforms it extends.
+						 */
+						EcoreUtil.resolveAll(resource);
+					}
+				}
+			}
+		}
+		return resource;
 	}
 
 	/**
 	 * Tries to load the provided {@code importDeclaration} as a Xatkit core library {@link Resource}.
+	 * <p>
+	 * If lazy core loading is enabled this method loads the core library {@link Resource} on demand.
 	 * 
 	 * @param importDeclaration the {@link LibraryImportDeclaration} to load
 	 * @return the loaded {@link Resource}, or {@code null} if the provided {@code importDeclaration} doesn't correspond
 	 *         to a Xatkit core library resource
+	 * 
+	 * @see #setLazyCoreLoading(boolean)
 	 */
 	private /* @Nullable */ Resource loadImportAsCoreLibrary(LibraryImportDeclaration importDeclaration) {
 		ResourceSet rSet = importDeclaration.eResource().getResourceSet();
 		String uriPrefix = LibraryLoaderUtils.CORE_LIBRARY_PATHMAP;
 		String path = importDeclaration.getPath();
 		String uriSuffix = path.endsWith(".intent") ? "" : ".intent";
-		return rSet.getResource(URI.createURI(uriPrefix + importDeclaration.getPath() + uriSuffix), false);
+		Resource resource = rSet.getResource(URI.createURI(uriPrefix + importDeclaration.getPath() + uriSuffix),
+				false);
+		if ((isNull(resource) || isSharedCoreResource(resource)) && lazyCoreLoading) {
+			CoreComponentIndex coreIndex = CoreComponentIndex.getInstance();
+			if (nonNull(coreIndex)) {
+				CoreComponentIndex.Entry entry = coreIndex.getLibraryEntry(path + uriSuffix);
+				if (nonNull(entry) && !isUpToDateCoreResource(resource, entry)) {
+					resource = loadXatkitCoreResource(rSet, entry, uriPrefix);
+				}
+			}
+		}
+		return resource;
+	}
+
+	/**
+	 * Returns whether the provided {@code resource} is a shared core {@link Resource}.
+	 * <p>
+	 * Shared core {@link Resource}s are read-only and used by several {@link ResourceSet}s: clients must not modify
+	 * them, including their adapters.
+	 * 
+	 * @param resource the {@link Resource} to check
+	 * @return {@code true} if the provided {@code resource} is a shared core {@link Resource}, {@code false} otherwise
+	 * 
+	 * @see #setSharedCoreResources(boolean)
+	 */
+	public boolean isSharedCoreResource(Resource resource) {
+		return SharedCoreResources.getInstance().isSharedResource(resource);
+	}
+
+	/**
+	 * Returns whether the provided core {@code resource} reflects the current content of the given index
+	 * {@code entry}.
+	 * <p>
+	 * Shared core {@link Resource}s are reloaded when their core file is modified, allowing to reflect modifications
+	 * of the core directories without reloading the {@link ResourceSet}s using them.
+	 * 
+	 * @param resource the core {@link Resource} to check (may be {@code null})
+	 * @param entry    the current {@link CoreComponentIndex.Entry} of the core file
+	 * @return {@code true} if the provided {@code resource} is up-to-date, {@code false} if it is {@code null} or
+	 *         outdated
+	 */
+	private boolean isUpToDateCoreResource(Resource resource, CoreComponentIndex.Entry entry) {
+		return nonNull(resource) && SharedCoreResources.getInstance().isUpToDate(resource, entry);
 	}
 
 	/**
@@ -433,13 +946,159 @@ public class XatkitImportHelper {
 	 * <p>
 	 * This method handles core resources, general resources without alias, and custom resources with an alias.
 	 * <p>
-	 * This method doesn't guarantee that the returned {@link Resource} has been reloaded from scratch, and may return
-	 * it from the {@link ResourceSet}'s cache.
+	 * This method doesn't reload {@link Resource}s that are already loaded in the {@link ResourceSet} if their
+	 * underlying file hasn't been modified since their last load (see {@link ImportCache}). Modified files are
+	 * reloaded, ensuring that the returned {@link Resource} reflects the current content of the imported file.
 	 * 
 	 * @param importDeclaration the {@link ImportDeclaration} to get the {@link Resource} from
 	 * @return the loaded {@link Resource}, or {@code null} if an error occurred while loading the {@link Resource}
+	 * 
+	 * @see #getCacheHitCount()
+	 * @see #getCacheMissCount()
 	 */
 	public Resource getResourceFromImport(ImportDeclaration importDeclaration) {
+		synchronized (getLock(importDeclaration)) {
+			return completeImport(prepareImport(importDeclaration));
+		}
+	}
+
+	/**
+	 * Returns the {@link URI}s the {@link Resource} of the provided {@code importDeclaration} can be registered with.
+	 * <p>
+	 * This method resolves the provided {@code importDeclaration} without loading or reloading its {@link Resource},
+	 * and without updating the aliases of the {@link ResourceSet}. It is typically used to retrieve the indexed
+	 * description of an imported {@link Resource} (e.g. from Xtext's {@code IResourceDescriptions}). The returned
+	 * {@link URI}s are sorted by priority: the core {@link URI} of the import if it is a Xatkit core resource,
+	 * otherwise its alias {@link URI} (if it defines an alias) followed by the {@link URI}s of the imported file.
+	 * 
+	 * @param importDeclaration the {@link ImportDeclaration} to resolve
+	 * @return the candidate {@link URI}s of the imported {@link Resource}
+	 * 
+	 * @see #getResourceFromImport(ImportDeclaration)
+	 */
+	public List<URI> getImportURIs(ImportDeclaration importDeclaration) {
+		List<URI> result = new ArrayList<>();
+		String path = importDeclaration.getPath();
+		if (isNull(path)) {
+			return result;
+		}
+		URI coreURI = getCoreURI(importDeclaration);
+		if (nonNull(coreURI)) {
+			result.add(coreURI);
+			return result;
+		}
+		if (nonNull(formatAlias(importDeclaration))) {
+			result.add(createCustomURI(importDeclaration));
+		}
+		File importResourceFile = new File(path);
+		if (importResourceFile.exists()) {
+			result.add(URI.createFileURI(importResourceFile.getAbsolutePath()));
+		} else {
+			URI platformURI = URI.createPlatformResourceURI(path, false);
+			result.add(platformURI);
+			URI localURI = CommonPlugin.asLocalURI(platformURI);
+			if (!localURI.equals(platformURI)) {
+				result.add(localURI);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the {@link ImportHeader} of the provided {@code importDeclaration}.
+	 * <p>
+	 * This method never parses the imported file: the header is computed from the imported {@link Resource} if it is
+	 * already loaded in the {@link ResourceSet}, or from the {@link CoreComponentIndex} if the import is a Xatkit core
+	 * resource. Note that a loaded {@link Resource} is not reloaded if its underlying file has been modified, meaning
+	 * that the returned header may not reflect the latest version of the imported file: use
+	 * {@link #getResourceFromImport(ImportDeclaration)} to retrieve an up-to-date {@link Resource}.
+	 *
+	 * @param importDeclaration the {@link ImportDeclaration} to retrieve the header of
+	 * @return the {@link ImportHeader}, or {@code null} if the imported file is neither loaded nor a core resource
+	 *
+	 * @see #getImportURIs(ImportDeclaration)
+	 */
+	public /* @Nullable */ ImportHeader getImportHeader(ImportDeclaration importDeclaration) {
+		Resource importResource = importDeclaration.eResource();
+		if (isNull(importDeclaration.getPath()) || isNull(importResource)
+				|| isNull(importResource.getResourceSet())) {
+			return null;
+		}
+		ResourceSet rSet = importResource.getResourceSet();
+		for (URI importURI : getImportURIs(importDeclaration)) {
+			Resource loadedResource = rSet.getResource(importURI, false);
+			if (nonNull(loadedResource) && loadedResource.isLoaded() && !loadedResource.getContents().isEmpty()) {
+				return ImportHeader.of(loadedResource.getContents().get(0));
+			}
+		}
+		CoreComponentIndex coreIndex = CoreComponentIndex.getInstance();
+		if (nonNull(coreIndex)) {
+			String path = importDeclaration.getPath();
+			CoreComponentIndex.Entry entry;
+			if (importDeclaration instanceof PlatformImportDeclaration) {
+				entry = coreIndex.getPlatformEntry(path.endsWith(".platform") ? path : path + ".platform");
+			} else {
+				entry = coreIndex.getLibraryEntry(path.endsWith(".intent") ? path : path + ".intent");
+			}
+			if (nonNull(entry)) {
+				return ImportHeader.of(entry);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the core {@link URI} of the provided {@code importDeclaration}.
+	 * <p>
+	 * This method does not load the core {@link Resource}: it checks whether the {@link ResourceSet} contains the
+	 * core {@link Resource}, or whether the {@link CoreComponentIndex} contains an entry matching the import.
+	 * 
+	 * @param importDeclaration the {@link ImportDeclaration} to retrieve the core {@link URI} of
+	 * @return the core {@link URI} of the import, or {@code null} if it is not a Xatkit core resource
+	 */
+	private /* @Nullable */ URI getCoreURI(ImportDeclaration importDeclaration) {
+		String path = importDeclaration.getPath();
+		String uriPrefix;
+		String uriSuffix;
+		boolean platform = importDeclaration instanceof PlatformImportDeclaration;
+		if (platform) {
+			uriPrefix = PlatformLoaderUtils.CORE_PLATFORM_PATHMAP;
+			uriSuffix = path.endsWith(".platform") ? "" : ".platform";
+		} else if (importDeclaration instanceof LibraryImportDeclaration) {
+			uriPrefix = LibraryLoaderUtils.CORE_LIBRARY_PATHMAP;
+			uriSuffix = path.endsWith(".intent") ? "" : ".intent";
+		} else {
+			throw new IllegalArgumentException(format("Unknown {0} type {1}", ImportDeclaration.class.getSimpleName(),
+					importDeclaration.getClass()));
+		}
+		URI coreURI = URI.createURI(uriPrefix + path + uriSuffix);
+		Resource importResource = importDeclaration.eResource();
+		if (nonNull(importResource) && nonNull(importResource.getResourceSet())
+				&& nonNull(importResource.getResourceSet().getResource(coreURI, false))) {
+			return coreURI;
+		}
+		CoreComponentIndex coreIndex = CoreComponentIndex.getInstance();
+		if (nonNull(coreIndex)) {
+			CoreComponentIndex.Entry entry = platform ? coreIndex.getPlatformEntry(path + uriSuffix)
+					: coreIndex.getLibraryEntry(path + uriSuffix);
+			if (nonNull(entry)) {
+				return coreURI;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Resolves the provided {@code importDeclaration} and prepares the {@link Resource} to load.
+	 * <p>
+	 * This method retrieves core {@link Resource}s and up-to-date cached {@link Resource}s, and updates the aliases of
+	 * the {@link ResourceSet}. {@link Resource}s that need to be (re)loaded are created in the {@link ResourceSet} but
+	 * are not loaded: use {@link #completeImport(PendingImport)} to load them.
+	 * 
+	 * @param importDeclaration the {@link ImportDeclaration} to resolve
+	 * @return the {@link PendingImport} representing the resolved {@code importDeclaration}
+	 */
+	private PendingImport prepareImport(ImportDeclaration importDeclaration) {
 		ResourceSet rSet = importDeclaration.eResource().getResourceSet();
 		this.loadXatkitCore(rSet);
 		String path = importDeclaration.getPath();
@@ -449,6 +1108,12 @@ public class XatkitImportHelper {
 		 * are good chances that the core resources are already loaded in the ResourceSet.
 		 */
 		Resource resource = loadImportAsCoreResource(importDeclaration);
+		/*
+		 * The stamp of the imported file, set if the import is cached (i.e. if it is not a core import or an ignored
+		 * alias).
+		 */
+		ImportCache importCache = null;
+		ImportCache.Stamp importStamp = null;
 		/*
 		 * The import is not a core platform, try to load it from its path, and register the resource using its alias.
 		 * If the import declaration does not define an alias load the resource using its absolute path, meaning that
@@ -470,44 +1135,59 @@ public class XatkitImportHelper {
 				importResourceFileURI = CommonPlugin.asLocalURI(platformURI);
 			}
 			URI importResourceURI = importResourceFileURI;
+			if (nonNull(alias)) {
+				importResourceURI = createCustomURI(importDeclaration);
+			}
+			if (isNull(alias) || !isIgnored(importDeclaration)) {
+				/*
+				 * Check the cache before updating the ResourceSet: if the file hasn't changed since the last time it was
+				 * loaded there is no need to update the aliases or to reload it.
+				 */
+				importCache = ImportCache.getOrCreate(rSet);
+				Resource cachedResource = rSet.getResource(importResourceURI, false);
+				boolean isCachedResourceLoaded = nonNull(cachedResource) && cachedResource.isLoaded()
+						&& !cachedResource.getContents().isEmpty();
+				if (isCachedResourceLoaded && importCache.isUpToDate(importResourceURI, importResourceFileURI)) {
+					XatkitMetrics.getInstance().increment(CACHE_HIT_METRIC);
+					log.debug(format("Resource with URI {0} retrieved from the cache", importResourceURI));
+					return new PendingImport(importDeclaration, cachedResource, true, null, null);
+				}
+				importStamp = importCache.computeStamp(importResourceFileURI);
+				if (isCachedResourceLoaded && importStamp.isUnknown()) {
+					/*
+					 * The modifications of the file cannot be detected, keep the loaded resource instead of reloading
+					 * it for each import.
+					 */
+					importCache.put(importResourceURI, importStamp);
+					XatkitMetrics.getInstance().increment(CACHE_HIT_METRIC);
+					log.debug(format("Resource with URI {0} has no modification stamp, keeping the loaded resource",
+							importResourceURI));
+					return new PendingImport(importDeclaration, cachedResource, true, null, null);
+				}
+				XatkitMetrics.getInstance().increment(CACHE_MISS_METRIC);
+			}
 			if (nonNull(alias)) {
 				/*
 				 * There is an alias, we need to get the custom resource URI associated to it
 				 * (pathmap://XATKIT_CUSTOM_[...]_<alias>)
 				 */
-				URI importResourceAliasURI = createCustomURI(importDeclaration);
+				URI importResourceAliasURI = importResourceURI;
 				if (!isIgnored(importDeclaration)) {
 					/*
 					 * Remove the existing alias if there is one, this allows to update the name of the alias.
 					 */
-					removeAliasForURI(importResourceURI, rSet);
+					removeAliasForURI(importResourceFileURI, rSet);
 
 					rSet.getURIConverter().getURIMap().put(importResourceAliasURI, importResourceFileURI);
-					Iterator<Resource> registeredResources = rSet.getResources().iterator();
+					ImportCache.getOrCreate(rSet).registerAlias(importResourceAliasURI, importResourceFileURI);
 					/*
 					 * Removes the Resource from the resource set that matches either the alias URI or the base URI. The
 					 * alias URI needs to be removed if the resource URI to load has changed, otherwise the old resource
 					 * is returned. The base URI needs to be removed if the base URI was used to register the resource
 					 * without an alias before.
 					 */
-					while (registeredResources.hasNext()) {
-						Resource registeredResource = registeredResources.next();
-						/*
-						 * Check the last segment, the URI may contained either CUSTOM_PLATFORM_PATHMAP or
-						 * CUSTOM_LIBRARY_PATHMAP if it was previously registered as a Platform/Library
-						 */
-						if (nonNull(registeredResource.getURI().lastSegment())
-								&& registeredResource.getURI().lastSegment().equals(alias)) {
-							log.debug(format("Unregistering resource {0} from the {1}", importResourceAliasURI,
-									ResourceSet.class.getSimpleName()));
-							registeredResources.remove();
-						}
-						if (registeredResource.getURI().equals(importResourceURI)) {
-							log.debug(format("Unregistering resource {0} from the {1}", importResourceURI,
-									ResourceSet.class.getSimpleName()));
-							registeredResources.remove();
-						}
-					}
+					unregisterResource(importResourceAliasURI, rSet);
+					unregisterResource(importResourceFileURI, rSet);
 				} else {
 					/*
 					 * The alias represent an externally loaded Resource that should be ignored by the ImportRegistry,
@@ -515,7 +1195,6 @@ public class XatkitImportHelper {
 					 * application.
 					 */
 				}
-				importResourceURI = importResourceAliasURI;
 			} else {
 				/*
 				 * If the import doesn't define an alias we need to remove any previously registered alias associated to
@@ -530,14 +1209,43 @@ public class XatkitImportHelper {
 			 * it completely.
 			 */
 			resource = rSet.getResource(importResourceURI, false);
+			if (nonNull(resource) && nonNull(importCache) && resource.isLoaded()) {
+				/*
+				 * The Resource is loaded but its file has been modified since the last load, unload it to make sure the
+				 * load call below reads the new content of the file.
+				 */
+				log.debug(format("Unloading outdated resource {0}", importResourceURI));
+				resource.unload();
+			}
 			if (isNull(resource)) {
 				incrementLoadCalls();
 				resource = rSet.createResource(importResourceURI);
 			}
 		}
+		return new PendingImport(importDeclaration, resource, false, importCache, importStamp);
+	}
+
+	/**
+	 * Loads the {@link Resource} of the provided {@code pendingImport} if needed, and returns it.
+	 * 
+	 * @param pendingImport the {@link PendingImport} to complete
+	 * @return the loaded {@link Resource}, or {@code null} if an error occurred while loading the {@link Resource}
+	 */
+	private Resource completeImport(PendingImport pendingImport) {
+		if (pendingImport.isUpToDate()) {
+			return pendingImport.getResource();
+		}
+		ImportDeclaration importDeclaration = pendingImport.getImportDeclaration();
+		ResourceSet rSet = pendingImport.getResourceSet();
+		Resource resource = pendingImport.getResource();
+		ImportCache importCache = pendingImport.getImportCache();
 		if (nonNull(resource)) {
 			try {
-				resource.load(Collections.emptyMap());
+				if (!resource.isLoaded()) {
+					long start = System.nanoTime();
+					resource.load(Collections.emptyMap());
+					XatkitMetrics.getInstance().record(getLoadMetric(importDeclaration), start);
+				}
 			} catch (IOException e) {
 				log.error(format("An error occurred when loading the resource {0}", resource.getURI().toString()));
 				/*
@@ -563,27 +1271,51 @@ public class XatkitImportHelper {
 			log.error("The loaded resource is empty");
 			return null;
 		}
+		if (nonNull(importCache)) {
+			importCache.put(resource.getURI(), pendingImport.getImportStamp());
+		}
 		log.debug(format("Resource with URI {0} loaded", resource.getURI()));
 		return resource;
 	}
 
+	/**
+	 * Removes the {@link Resource} registered with the provided {@code uri} from the given {@code rSet}.
+	 * <p>
+	 * The {@link Resource} is retrieved with {@link ResourceSet#getResource(URI, boolean)}, which relies on the URI
+	 * resource map of the {@link ResourceSet} when it is available (e.g. in Xtext resource sets) instead of iterating
+	 * its {@link Resource}s.
+	 * 
+	 * @param uri  the {@link URI} of the {@link Resource} to remove
+	 * @param rSet the {@link ResourceSet} to remove the {@link Resource} from
+	 */
+	private void unregisterResource(URI uri, ResourceSet rSet) {
+		Resource registeredResource = rSet.getResource(uri, false);
+		if (nonNull(registeredResource)) {
+			log.debug(format("Unregistering resource {0} from the {1}", registeredResource.getURI(),
+					ResourceSet.class.getSimpleName()));
+			rSet.getResources().remove(registeredResource);
+		}
+	}
+
 	/**
 	 * Removes the alias associated to the provided {@code uri} from the given {@code rSet}.
 	 * <p>
-	 * This method looks at the {@link ResourceSet}'s URI map for entries containing the {@code uri} as a value and
-	 * remove them. Note that the comparison must be performed on the value since the registered alias for the provided
-	 * {@code uri} is not known.
+	 * This method retrieves the aliases registered for the provided {@code uri} from the alias index of the
+	 * {@link ImportCache}, and removes them from the {@link ResourceSet}'s URI map. Note that aliases registered
+	 * outside of this class (e.g. ignored aliases) are not removed.
 	 * 
 	 * @param uri the {@link URI} to remove the alias for
 	 */
 	private void removeAliasForURI(URI uri, ResourceSet rSet) {
 		if (nonNull(uri)) {
-			Iterator<Map.Entry<URI, URI>> uriMapEntries = rSet.getURIConverter().getURIMap().entrySet().iterator();
-			while (uriMapEntries.hasNext()) {
-				Map.Entry<URI, URI> uriMapEntry = uriMapEntries.next();
-				if (uri.equals(uriMapEntry.getValue())) {
-					uriMapEntries.remove();
-				}
+			ImportCache importCache = ImportCache.getOrCreate(rSet);
+			Map<URI, URI> uriMap = rSet.getURIConverter().getURIMap();
+			for (URI aliasURI : importCache.removeAliases(uri)) {
+				uriMap.remove(aliasURI, uri);
+				/*
+				 * The alias doesn't point to the file anymore, the cached stamp is not valid for it.
+				 */
+				importCache.remove(aliasURI);
 			}
 		} else {
 			log.warn(format("Cannot remove the provided URI {0}", uri));
@@ -593,135 +1325,270 @@ public class XatkitImportHelper {
 	/**
 	 * Loads the core {@link Platform}s and {@link Library} instances.
 	 * <p>
-	 * The {@link Platform}s and {@link Library} instances are retrieved from the {@code XATKIT} environment variable.
+	 * The {@link Platform}s and {@link Library} instances are retrieved from the {@link CoreComponentIndex} built from
+	 * the {@code XATKIT} environment variable.
+	 * <p>
+	 * This method doesn't load anything if lazy core loading is enabled: core {@link Resource}s are loaded on demand
+	 * when resolving the imports (see {@link #setLazyCoreLoading(boolean)}).
 	 * <p>
 	 * This method won't load any core {@link Resource} if at least one {@link Resource} already loaded in the provided
 	 * {@code rSet} corresponds to a core {@link Resource}. Yet the result of this method cannot be cached because it
 	 * needs to be called for each {@code rSet} instance in order to avoid {@link ResourceSet} consistency issues (a
 	 * {@link Resource} can be containined in only one {@link ResourceSet}).
 	 * 
-	 * @see #loadXatkitCorePlatforms()
-	 * @see #loadXatkitCoreLibraries()
+	 * @see #loadXatkitCorePlatforms(ResourceSet, CoreComponentIndex)
+	 * @see #loadXatkitCoreLibraries(ResourceSet, CoreComponentIndex)
 	 */
 	private void loadXatkitCore(ResourceSet rSet) {
-		if (rSet.getResources().stream()
+		if (lazyCoreLoading) {
+			return;
+		}
+		ImportCache importCache = ImportCache.getOrCreate(rSet);
+		if (importCache.isCoreLoaded() || rSet.getResources().stream()
 				.anyMatch(r -> r.getURI().toString().contains(PlatformLoaderUtils.CORE_PLATFORM_PATHMAP))) {
 			log.debug("Xatkit core components already loaded");
 			return;
 		}
-		try {
-			loadXatkitCorePlatforms(rSet);
-		} catch (IOException e) {
-			log.error("An error occurred when loading core platforms");
-			e.printStackTrace();
-		}
-		try {
-			loadXatkitCoreLibraries(rSet);
-		} catch (IOException e) {
-			log.error("An error occurred when loading core libraries");
-			e.printStackTrace();
+		CoreComponentIndex coreIndex = CoreComponentIndex.getInstance();
+		if (isNull(coreIndex)) {
+			log.error("XATKIT environment variable not set, no core platforms and libraries to import");
+			return;
 		}
+		importCache.setCoreLoaded(true);
+		loadXatkitCorePlatforms(rSet, coreIndex);
+		loadXatkitCoreLibraries(rSet, coreIndex);
 	}
 
 	/**
 	 * Loads the core {@link Library}s.
 	 * <p>
-	 * These {@link Library}s are retrieved from the {@code XATKIT} environment variable. If this variable is not set
-	 * check <a href="https://github.com/xatkit-bot-platform/xatkit-releases/wiki/Installation">this tutorial</a> to
-	 * setup your Xatkit environment.
+	 * These {@link Library}s are retrieved from the provided {@code coreIndex}. If the {@code XATKIT} environment
+	 * variable is not set check
+	 * <a href="https://github.com/xatkit-bot-platform/xatkit-releases/wiki/Installation">this tutorial</a> to setup
+	 * your Xatkit environment.
 	 * 
-	 * @throws IOException if an error occurred when retrieving the installed Xatkit libraries
+	 * @param rSet      the {@link ResourceSet} to load the core {@link Library}s in
+	 * @param coreIndex the {@link CoreComponentIndex} containing the installed core {@link Library}s
 	 */
-	private void loadXatkitCoreLibraries(ResourceSet rSet) throws IOException {
-		String xatkitPath = System.getenv("XATKIT");
-		if (isNull(xatkitPath) || xatkitPath.isEmpty()) {
-			log.error("XATKIT environment variable not set, no core libraries to import");
-			return;
+	private void loadXatkitCoreLibraries(ResourceSet rSet, CoreComponentIndex coreIndex) {
+		for (CoreComponentIndex.Entry entry : coreIndex.getLibraryEntries()) {
+			loadXatkitCoreResource(rSet, entry, LibraryLoaderUtils.CORE_LIBRARY_PATHMAP);
 		}
-		/*
-		 * Create a File instance to uniformize trailing '/' between Linux and Windows installations.
-		 */
-		File xatkitFile = new File(xatkitPath);
-		Files.walk(Paths.get(xatkitFile.getAbsolutePath() + File.separator + "plugins" + File.separator + "libraries"),
-				Integer.MAX_VALUE)
-				.filter(filePath -> !Files.isDirectory(filePath) && filePath.toString().endsWith(".intent"))
-				.forEach(modelPath -> {
-					try {
-						InputStream is = Files.newInputStream(modelPath);
-						rSet.getURIConverter().getURIMap().put(
-								URI.createURI(LibraryLoaderUtils.CORE_LIBRARY_PATHMAP + modelPath.getFileName()),
-								URI.createURI(modelPath.getFileName().toString()));
-						Resource modelResource = rSet.getResource(
-								URI.createURI(
-										LibraryLoaderUtils.CORE_LIBRARY_PATHMAP + modelPath.getFileName().toString()),
-								false);
-						if (modelResource == null) {
-							incrementLoadCalls();
-							modelResource = rSet.createResource(URI.createURI(
-									LibraryLoaderUtils.CORE_LIBRARY_PATHMAP + modelPath.getFileName().toString()));
-							modelResource.load(is, Collections.emptyMap());
-						}
-						log.debug(format("Library resource {0} loaded (uri={1})", modelPath.getFileName(),
-								modelResource.getURI()));
-						is.close();
-					} catch (IOException e) {
-						// TODO check why this exception cannot be thrown back to the caller (probably some lambda
-						// shenanigans)
-						log.error(format("An error occurred when loading the library resource {0}",
-								modelPath.getFileName()));
-					}
-				});
 	}
 
 	/**
 	 * Loads the core {@link Platform}s.
 	 * <p>
-	 * These {@link Platform}s are retrieved from the {@code XATKIT} environment variable. If this variable is not set
-	 * check <a href="https://github.com/xatkit-bot-platform/xatkit-releases/wiki/Installation">this tutorial</a> to
-	 * setup your Xatkit environment.
+	 * These {@link Platform}s are retrieved from the provided {@code coreIndex}. If the {@code XATKIT} environment
+	 * variable is not set check
+	 * <a href="https://github.com/xatkit-bot-platform/xatkit-releases/wiki/Installation">this tutorial</a> to setup
+	 * your Xatkit environment.
 	 * 
-	 * @throws IOException if an error occurred when retrieving the installed Xatkit platforms
+	 * @param rSet      the {@link ResourceSet} to load the core {@link Platform}s in
+	 * @param coreIndex the {@link CoreComponentIndex} containing the installed core {@link Platform}s
 	 */
-	private void loadXatkitCorePlatforms(ResourceSet rSet) throws IOException {
-		String xatkitPath = System.getenv("XATKIT");
-		if (isNull(xatkitPath) || xatkitPath.isEmpty()) {
-			log.error("XATKIT environment variable not set, no core platforms to import");
-			return;
+	private void loadXatkitCorePlatforms(ResourceSet rSet, CoreComponentIndex coreIndex) {
+		for (CoreComponentIndex.Entry entry : coreIndex.getPlatformEntries()) {
+			Resource modelResource = loadXatkitCoreResource(rSet, entry, PlatformLoaderUtils.CORE_PLATFORM_PATHMAP);
+			if (nonNull(modelResource) && !isSharedCoreResource(modelResource)) {
+				EcoreUtil.resolveAll(modelResource);
+			}
 		}
-		/*
-		 * Create a File instance to uniformize trailing '/' between Linux and Windows installations.
+	}
+
+	/**
+	 * Loads the core {@link Resource} corresponding to the provided index {@code entry} in the given {@code rSet}.
+	 * <p>
+	 * The loaded {@link Resource} is registered with the {@code pathmap} {@link URI} built from the provided
+	 * {@code pathmap} and the name of the indexed file, allowing to retrieve it from unqualified imports.
+	 * <p>
+	 * If core {@link Resource}s are shared the returned {@link Resource} is not contained in the provided
+	 * {@code rSet}, but can be retrieved from it with {@link ResourceSet#getResource(URI, boolean)} (see
+	 * {@link #setSharedCoreResources(boolean)}).
+	 * 
+	 * @param rSet    the {@link ResourceSet} to load the {@link Resource} in
+	 * @param entry   the {@link CoreComponentIndex.Entry} representing the core file to load
+	 * @param pathmap the {@code pathmap} prefix used to register the core {@link Resource}
+	 * @return the loaded {@link Resource}, or {@code null} if an error occurred when loading it
+	 */
+	private /* @Nullable */ Resource loadXatkitCoreResource(ResourceSet rSet, CoreComponentIndex.Entry entry,
+			String pathmap) {
+		if (sharedCoreResources && rSet instanceof ResourceSetImpl) {
+			/*
+			 * Shared resources are registered in the URI resource map of the ResourceSet, which is only available in
+			 * ResourceSetImpl.
+			 */
+			return SharedCoreResources.getInstance().getResource(rSet, entry, pathmap);
+		}
+		URI pathmapURI = URI.createURI(pathmap + entry.getFileName());
+		rSet.getURIConverter().getURIMap().put(pathmapURI, URI.createURI(entry.getFileName()));
+		Resource modelResource = rSet.getResource(pathmapURI, false);
+		if (isNull(modelResource)) {
+			incrementLoadCalls();
+			modelResource = rSet.createResource(pathmapURI);
+			long start = System.nanoTime();
+			try (InputStream is = Files.newInputStream(entry.getPath())) {
+				modelResource.load(is, Collections.emptyMap());
+				XatkitMetrics.getInstance().record(entry.getLoadMetric(), start);
+			} catch (IOException e) {
+				log.error(format("An error occurred when loading the core resource {0}", entry.getFileName()));
+				rSet.getResources().remove(modelResource);
+				return null;
+			}
+		}
+		log.debug(format("Core resource {0} loaded (uri={1})", entry.getFileName(), modelResource.getURI()));
+		return modelResource;
+	}
+
+
+	/**
+	 * An {@link ImportDeclaration} resolved by {@link XatkitImportHelper#prepareImport(ImportDeclaration)}.
+	 * <p>
+	 * This class holds the {@link Resource} associated to the import, as well as the {@link ImportCache} information
+	 * to record once the {@link Resource} is loaded.
+	 */
+	private static class PendingImport {
+
+		private ImportDeclaration importDeclaration;
+
+		private Resource resource;
+
+		private boolean upToDate;
+
+		private ImportCache importCache;
+
+		private ImportCache.Stamp importStamp;
+
+		private PendingImport(ImportDeclaration importDeclaration, Resource resource, boolean upToDate,
+				ImportCache importCache, ImportCache.Stamp importStamp) {
+			this.importDeclaration = importDeclaration;
+			this.resource = resource;
+			this.upToDate = upToDate;
+			this.importCache = importCache;
+			this.importStamp = importStamp;
+		}
+
+		private ImportDeclaration getImportDeclaration() {
+			return importDeclaration;
+		}
+
+		private ResourceSet getResourceSet() {
+			return importDeclaration.eResource().getResourceSet();
+		}
+
+		private Resource getResource() {
+			return resource;
+		}
+
+		private void setResource(Resource resource) {
+			this.resource = resource;
+		}
+
+		/**
+		 * Returns whether the {@link Resource} has been retrieved from the {@link ImportCache} and does not need to be
+		 * reloaded.
+		 * 
+		 * @return {@code true} if the {@link Resource} is up-to-date, {@code false} otherwise
 		 */
-		File xatkitFile = new File(xatkitPath);
-		Files.walk(Paths.get(xatkitFile.getAbsolutePath() + File.separator + "plugins" + File.separator + "platforms"),
-				Integer.MAX_VALUE)
-				.filter(filePath -> !Files.isDirectory(filePath) && filePath.toString().endsWith(".platform"))
-				.forEach(modelPath -> {
-					try {
-						InputStream is = Files.newInputStream(modelPath);
-						rSet.getURIConverter().getURIMap().put(
-								URI.createURI(PlatformLoaderUtils.CORE_PLATFORM_PATHMAP + modelPath.getFileName()),
-								URI.createURI(modelPath.getFileName().toString()));
-						Resource modelResource = rSet.getResource(
-								URI.createURI(
-										PlatformLoaderUtils.CORE_PLATFORM_PATHMAP + modelPath.getFileName().toString()),
-								false);
-						if (modelResource == null) {
-							incrementLoadCalls();
-							modelResource = rSet.createResource(URI.createURI(
-									PlatformLoaderUtils.CORE_PLATFORM_PATHMAP + modelPath.getFileName().toString()));
-							modelResource.load(is, Collections.emptyMap());
-						}
-						log.debug(format("Platform resource {0} loaded (uri={1})", modelPath.getFileName(),
-								modelResource.getURI()));
-						is.close();
-						EcoreUtil.resolveAll(modelResource);
-					} catch (IOException e) {
-						// TODO check why this exception cannot be thrown back to the caller (probably some lambda
-						// shenanigans)
-						log.error(format("An error occurred when loading the platform resource {0}",
-								modelPath.getFileName()));
-					}
-				});
+		private boolean isUpToDate() {
+			return upToDate;
+		}
+
+		/**
+		 * Returns whether the {@link Resource} is a custom import that needs to be loaded.
+		 * 
+		 * @return {@code true} if the {@link Resource} needs to be loaded, {@code false} otherwise
+		 */
+		private boolean needsLoading() {
+			return !upToDate && nonNull(importCache) && nonNull(resource) && !resource.isLoaded();
+		}
+
+		private ImportCache getImportCache() {
+			return importCache;
+		}
+
+		private ImportCache.Stamp getImportStamp() {
+			return importStamp;
+		}
+
+		/**
+		 * Returns whether the {@link ResourceSet} has been updated since the import was resolved.
+		 * <p>
+		 * This is the case if the {@link Resource} of the import has been removed from its {@link ResourceSet}, or if
+		 * it has been unloaded after being retrieved from the {@link ImportCache}. Stale imports need to be resolved
+		 * again.
+		 * 
+		 * @return {@code true} if the import is stale, {@code false} otherwise
+		 */
+		private boolean isStale() {
+			if (isNull(resource) || SharedCoreResources.getInstance().isSharedResource(resource)) {
+				return false;
+			}
+			return resource.getResourceSet() != getResourceSet() || (upToDate && !resource.isLoaded());
+		}
 	}
 
+	/**
+	 * A {@link Callable} parsing the {@link Resource} of a {@link PendingImport} in an isolated {@link ResourceSet}.
+	 * 
+	 * @see XatkitImportHelper#createParsingTasks(List)
+	 */
+	private static class ParsingTask implements Callable<Resource> {
+
+		private PendingImport pendingImport;
+
+		private Resource parsingResource;
+
+		private String loadMetric;
+
+		/**
+		 * The parsed {@link Resource}, or {@code null} if the {@link Resource} hasn't been parsed.
+		 */
+		private Resource parsedResource;
+
+		private ParsingTask(PendingImport pendingImport, Resource parsingResource, String loadMetric) {
+			this.pendingImport = pendingImport;
+			this.parsingResource = parsingResource;
+			this.loadMetric = loadMetric;
+		}
+
+		@Override
+		public Resource call() throws IOException {
+			long start = System.nanoTime();
+			parsingResource.load(Collections.emptyMap());
+			XatkitMetrics.getInstance().record(loadMetric, start);
+			return parsingResource;
+		}
+
+		private PendingImport getPendingImport() {
+			return pendingImport;
+		}
+
+		private void setParsedResource(Resource parsedResource) {
+			this.parsedResource = parsedResource;
+		}
+
+		/**
+		 * Replaces the unloaded {@link Resource} of the {@link PendingImport} by the parsed {@link Resource} in its
+		 * target {@link ResourceSet}, preserving the order of its {@link Resource}s.
+		 * <p>
+		 * This method must be called while holding the lock of the target {@link ResourceSet}. It does nothing if the
+		 * {@link Resource} hasn't been parsed, or if the unloaded {@link Resource} has been removed from its
+		 * {@link ResourceSet} (or loaded) by another thread in the meantime: the {@link PendingImport} is then stale
+		 * and resolved again.
+		 */
+		private void swapParsedResource() {
+			if (isNull(parsedResource)) {
+				return;
+			}
+			Resource unloadedResource = pendingImport.getResource();
+			EList<Resource> resources = pendingImport.getResourceSet().getResources();
+			int index = resources.indexOf(unloadedResource);
+			if (index < 0 || unloadedResource.isLoaded()) {
+				return;
+			}
+			resources.set(index, parsedResource);
+			pendingImport.setResource(parsedResource);
+		}
+	}
 }
@@ -0,0 +1,321 @@
+package com.xatkit.utils;
+
+import static java.text.MessageFormat.format;
+import static java.util.Objects.isNull;
+
+import java.beans.ConstructorProperties;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.log4j.Logger;
+
+/**
+ * A registry storing the metrics of the Xatkit languages.
+ * <p>
+ * This registry contains named <i>counters</i> and <i>timers</i>. Counters record the number of times an event
+ * occurred (e.g. a cache hit), while timers record the number of executions of an operation as well as a latency
+ * histogram (e.g. the time spent to load an imported platform). Metric names are dot-separated, and are prefixed by
+ * the component that records them:
+ * <ul>
+ * <li>{@code import.*}: import resolution and loading (see {@link XatkitImportHelper})</li>
+ * <li>{@code linking.*}: linking services of the Xatkit languages</li>
+ * <li>{@code validation.*}: checks of the Xatkit language validators</li>
+ * </ul>
+ * The registry is exposed over JMX (see {@link XatkitMetricsMXBean}), and its content can be dumped with
+ * {@link #dump()}. Metrics can be disabled with the {@link #METRICS_ENABLED_PROPERTY} system property.
+ */
+public class XatkitMetrics implements XatkitMetricsMXBean {
+
+	/**
+	 * The system property used to disable the recording of the metrics.
+	 */
+	public static final String METRICS_ENABLED_PROPERTY = "xatkit.metrics";
+
+	/**
+	 * The JMX name of the registry.
+	 */
+	public static final String OBJECT_NAME = "com.xatkit:type=Metrics";
+
+	private static final Logger log = Logger.getLogger(XatkitMetrics.class);
+
+	/**
+	 * The upper bounds (in microseconds) of the buckets of the timer histograms.
+	 * <p>
+	 * The last bucket of the histograms contains the durations greater than the last bound.
+	 */
+	private static final long[] BUCKET_BOUNDS = new long[] { 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000 };
+
+	/**
+	 * The singleton {@link XatkitMetrics} instance.
+	 * <p>
+	 * This instance is registered in the platform MBean server when the class is initialized.
+	 */
+	private static final XatkitMetrics INSTANCE = new XatkitMetrics();
+
+	static {
+		INSTANCE.registerMBean();
+	}
+
+	/**
+	 * Returns the singleton {@link XatkitMetrics} instance.
+	 * <p>
+	 * This method does not synchronize: it is called on the hot paths of the import resolution, linking, and
+	 * validation.
+	 *
+	 * @return the singleton {@link XatkitMetrics} instance
+	 */
+	public static XatkitMetrics getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Whether the metrics are recorded.
+	 */
+	private volatile boolean enabled;
+
+	/**
+	 * The counters of the registry.
+	 */
+	private Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+	/**
+	 * The timers of the registry.
+	 */
+	private Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a new {@link XatkitMetrics}.
+	 * <p>
+	 * This method is private, use {@link #getInstance()} to retrieve the singleton instance of this class.
+	 */
+	private XatkitMetrics() {
+		this.enabled = Boolean.parseBoolean(System.getProperty(METRICS_ENABLED_PROPERTY, "true"));
+	}
+
+	/**
+	 * Registers the registry in the platform MBean server.
+	 */
+	private void registerMBean() {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName objectName = new ObjectName(OBJECT_NAME);
+			if (!server.isRegistered(objectName)) {
+				server.registerMBean(this, objectName);
+			}
+		} catch (JMException | SecurityException e) {
+			log.warn(format("Cannot register the {0} MBean, metrics are not available over JMX",
+					XatkitMetrics.class.getSimpleName()), e);
+		}
+	}
+
+	/**
+	 * Sets whether the metrics are recorded.
+	 *
+	 * @param enabled {@code true} to record the metrics, {@code false} otherwise
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Returns whether the metrics are recorded.
+	 *
+	 * @return {@code true} if the metrics are recorded, {@code false} otherwise
+	 */
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	/**
+	 * Increments the counter with the provided {@code name}.
+	 *
+	 * @param name the name of the counter to increment
+	 */
+	public void increment(String name) {
+		if (enabled) {
+			counters.computeIfAbsent(name, n -> new LongAdder()).increment();
+		}
+	}
+
+	/**
+	 * Records an execution of the operation timed by the timer with the provided {@code name}.
+	 * <p>
+	 * The provided {@code startNanos} is typically computed with {@link System#nanoTime()} before executing the
+	 * operation:
+	 *
+	 * <pre>
+	 * {@code
+	 * long start = System.nanoTime();
+	 * // operation
+	 * XatkitMetrics.getInstance().record("my.timer", start);
+	 * }
+	 * </pre>
+	 *
+	 * @param name       the name of the timer
+	 * @param startNanos the {@link System#nanoTime()} value when the operation started
+	 */
+	public void record(String name, long startNanos) {
+		if (enabled) {
+			long duration = System.nanoTime() - startNanos;
+			timers.computeIfAbsent(name, n -> new Timer()).record(duration);
+		}
+	}
+
+	/**
+	 * Returns the current value of the counter with the provided {@code name}.
+	 *
+	 * @param name the name of the counter
+	 * @return the current value of the counter, or {@code 0} if it doesn't exist
+	 */
+	public long getCount(String name) {
+		LongAdder counter = counters.get(name);
+		return isNull(counter) ? 0 : counter.sum();
+	}
+
+	@Override
+	public Map<String, Long> getCounters() {
+		Map<String, Long> result = new TreeMap<>();
+		counters.forEach((name, counter) -> result.put(name, counter.sum()));
+		return result;
+	}
+
+	@Override
+	public Map<String, TimerSnapshot> getTimers() {
+		Map<String, TimerSnapshot> result = new TreeMap<>();
+		timers.forEach((name, timer) -> result.put(name, timer.snapshot()));
+		return result;
+	}
+
+	@Override
+	public String dump() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("Counters:\n");
+		getCounters().forEach((name, value) -> sb.append(format("  {0} = {1}\n", name, Long.toString(value))));
+		sb.append("Timers:\n");
+		getTimers().forEach((name, snapshot) -> sb.append("  ").append(name).append(" ").append(snapshot)
+				.append("\n"));
+		return sb.toString();
+	}
+
+	@Override
+	public void reset() {
+		counters.clear();
+		timers.clear();
+	}
+
+	/**
+	 * A timer recording the number of executions of an operation and their latency histogram.
+	 */
+	private static class Timer {
+
+		private LongAdder count = new LongAdder();
+
+		private LongAdder totalNanos = new LongAdder();
+
+		private AtomicLong maxNanos = new AtomicLong();
+
+		/**
+		 * The histogram buckets, see {@link XatkitMetrics#BUCKET_BOUNDS}.
+		 */
+		private LongAdder[] buckets;
+
+		private Timer() {
+			this.buckets = new LongAdder[BUCKET_BOUNDS.length + 1];
+			for (int i = 0; i < buckets.length; i++) {
+				buckets[i] = new LongAdder();
+			}
+		}
+
+		private void record(long durationNanos) {
+			count.increment();
+			totalNanos.add(durationNanos);
+			maxNanos.accumulateAndGet(durationNanos, Math::max);
+			long durationMicros = TimeUnit.NANOSECONDS.toMicros(durationNanos);
+			int bucket = 0;
+			while (bucket < BUCKET_BOUNDS.length && durationMicros > BUCKET_BOUNDS[bucket]) {
+				bucket++;
+			}
+			buckets[bucket].increment();
+		}
+
+		private TimerSnapshot snapshot() {
+			long[] histogram = new long[buckets.length];
+			for (int i = 0; i < buckets.length; i++) {
+				histogram[i] = buckets[i].sum();
+			}
+			return new TimerSnapshot(count.sum(), TimeUnit.NANOSECONDS.toMicros(totalNanos.sum()),
+					TimeUnit.NANOSECONDS.toMicros(maxNanos.get()), histogram);
+		}
+	}
+
+	/**
+	 * An immutable snapshot of a timer.
+	 * <p>
+	 * The {@code histogram} contains the number of executions for each latency bucket. The upper bounds of the
+	 * buckets are {@code 10us, 100us, 1ms, 10ms, 100ms, 1s, 10s}, the last bucket contains the executions that took
+	 * more than {@code 10s}.
+	 */
+	public static class TimerSnapshot {
+
+		private final long count;
+
+		private final long totalMicros;
+
+		private final long maxMicros;
+
+		private final long[] histogram;
+
+		@ConstructorProperties({ "count", "totalMicros", "maxMicros", "histogram" })
+		public TimerSnapshot(long count, long totalMicros, long maxMicros, long[] histogram) {
+			this.count = count;
+			this.totalMicros = totalMicros;
+			this.maxMicros = maxMicros;
+			this.histogram = histogram.clone();
+		}
+
+		public long getCount() {
+			return count;
+		}
+
+		public long getTotalMicros() {
+			return totalMicros;
+		}
+
+		public long getMaxMicros() {
+			return maxMicros;
+		}
+
+		public long getMeanMicros() {
+			return count == 0 ? 0 : totalMicros / count;
+		}
+
+		public long[] getHistogram() {
+			return histogram.clone();
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder sb = new StringBuilder();
+			sb.append(format("count={0} total={1}us mean={2}us max={3}us histogram=[", Long.toString(count),
+					Long.toString(totalMicros), Long.toString(getMeanMicros()), Long.toString(maxMicros)));
+			for (int i = 0; i < histogram.length; i++) {
+				if (i > 0) {
+					sb.append(", ");
+				}
+				String bound = i < BUCKET_BOUNDS.length ? "<=" + BUCKET_BOUNDS[i] + "us"
+						: ">" + BUCKET_BOUNDS[BUCKET_BOUNDS.length - 1] + "us";
+				sb.append(bound).append(":").append(histogram[i]);
+			}
+			return sb.append("]").toString();
+		}
+	}
+}
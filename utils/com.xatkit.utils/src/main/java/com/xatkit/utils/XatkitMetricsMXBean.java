@@ -0,0 +1,40 @@
+package com.xatkit.utils;
+
+import java.util.Map;
+
+/**
+ * The JMX interface of the {@link XatkitMetrics} registry.
+ * <p>
+ * The registry is registered in the platform MBean server with the {@link XatkitMetrics#OBJECT_NAME} name, and can be
+ * inspected with standard JMX clients (e.g. {@code jconsole} or {@code jvisualvm}).
+ *
+ * @see XatkitMetrics
+ */
+public interface XatkitMetricsMXBean {
+
+	/**
+	 * Returns the current values of the counters.
+	 *
+	 * @return the current values of the counters, indexed by name
+	 */
+	Map<String, Long> getCounters();
+
+	/**
+	 * Returns a snapshot of the timers.
+	 *
+	 * @return a snapshot of the timers, indexed by name
+	 */
+	Map<String, XatkitMetrics.TimerSnapshot> getTimers();
+
+	/**
+	 * Returns a textual dump of the counters and timers.
+	 *
+	 * @return a textual dump of the counters and timers
+	 */
+	String dump();
+
+	/**
+	 * Resets all the counters and timers.
+	 */
+	void reset();
+}